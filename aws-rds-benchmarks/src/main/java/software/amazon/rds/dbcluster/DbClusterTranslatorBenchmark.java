@@ -0,0 +1,95 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.rds.model.CloudwatchLogsExportConfiguration;
+import software.amazon.awssdk.services.rds.model.CreateDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DbClusterTranslatorBenchmark {
+
+    @Param({"50"})
+    private int tagCount;
+
+    private ResourceModel model;
+    private CloudwatchLogsExportConfiguration cloudwatchLogsExportConfiguration;
+    private List<software.amazon.awssdk.services.rds.model.Tag> sdkTags;
+
+    @Setup
+    public void setup() {
+        sdkTags = IntStream.range(0, tagCount)
+                .mapToObj(tag -> software.amazon.awssdk.services.rds.model.Tag.builder()
+                        .key("tag-key-" + tag)
+                        .value("tag-value-" + tag)
+                        .build())
+                .collect(Collectors.toList());
+
+        final Set<Tag> tags = Translator.translateTagsFromSdk(sdkTags);
+        model = ResourceModel.builder()
+                .dBClusterIdentifier("db-cluster")
+                .dBClusterParameterGroupName("db-cluster-parameter-group")
+                .dBSubnetGroupName("db-subnet-group")
+                .engine("aurora-postgresql")
+                .engineVersion("11.9")
+                .engineMode("provisioned")
+                .databaseName("database")
+                .masterUsername("admin")
+                .masterUserPassword("password")
+                .port(5432)
+                .backupRetentionPeriod(7)
+                .backtrackWindow(0)
+                .preferredBackupWindow("03:00-04:00")
+                .preferredMaintenanceWindow("sun:05:00-sun:06:00")
+                .availabilityZones(Arrays.asList("us-east-1a", "us-east-1b", "us-east-1c"))
+                .vpcSecurityGroupIds(Arrays.asList("sg-00000001", "sg-00000002"))
+                .enableCloudwatchLogsExports(Arrays.asList("postgresql", "upgrade"))
+                .enableIAMDatabaseAuthentication(true)
+                .deletionProtection(false)
+                .kmsKeyId("arn:aws:kms:us-east-1:123456789012:key/storage")
+                .storageEncrypted(true)
+                .tags(tags)
+                .build();
+        cloudwatchLogsExportConfiguration = CloudwatchLogsExportConfiguration.builder()
+                .enableLogTypes("upgrade")
+                .disableLogTypes("audit")
+                .build();
+    }
+
+    @Benchmark
+    public CreateDbClusterRequest createDbClusterRequest() {
+        return Translator.createDbClusterRequest(model);
+    }
+
+    @Benchmark
+    public ModifyDbClusterRequest modifyDbClusterRequest() {
+        return Translator.modifyDbClusterRequest(model, cloudwatchLogsExportConfiguration);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromSdk() {
+        return Translator.translateTagsFromSdk(sdkTags);
+    }
+}
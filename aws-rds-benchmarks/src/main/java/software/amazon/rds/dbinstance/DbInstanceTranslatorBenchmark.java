@@ -0,0 +1,149 @@
+package software.amazon.rds.dbinstance;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBInstanceRole;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.DBSecurityGroupMembership;
+import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
+import software.amazon.awssdk.services.rds.model.Endpoint;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ProcessorFeature;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DbInstanceTranslatorBenchmark {
+
+    // A full DescribeDBInstances page, as translated by the ListHandler.
+    @Param({"100"})
+    private int pageSize;
+
+    @Param({"50"})
+    private int tagCount;
+
+    private List<DBInstance> page;
+    private ResourceModel previousModel;
+    private ResourceModel desiredModel;
+
+    @Setup
+    public void setup() {
+        page = IntStream.range(0, pageSize)
+                .mapToObj(this::dbInstance)
+                .collect(Collectors.toList());
+
+        previousModel = Translator.translateDbInstanceFromSdk(page.get(0));
+        desiredModel = Translator.translateDbInstanceFromSdk(page.get(0).toBuilder()
+                .dbInstanceClass("db.r5.2xlarge")
+                .engineVersion("8.0.27")
+                .dbSubnetGroup(DBSubnetGroup.builder().dbSubnetGroupName("db-subnet-group-updated").build())
+                .enabledCloudwatchLogsExports("audit", "error", "general", "slowquery")
+                .build());
+    }
+
+    @Benchmark
+    public ResourceModel translateDbInstanceFromSdk() {
+        return Translator.translateDbInstanceFromSdk(page.get(0));
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateDbInstancesFromSdk() {
+        return Translator.translateDbInstancesFromSdk(page);
+    }
+
+    @Benchmark
+    public ModifyDbInstanceRequest modifyDbInstanceRequest() {
+        return Translator.modifyDbInstanceRequest(previousModel, desiredModel, false);
+    }
+
+    private DBInstance dbInstance(final int index) {
+        final String identifier = "db-instance-" + index;
+        return DBInstance.builder()
+                .dbInstanceIdentifier(identifier)
+                .dbInstanceArn("arn:aws:rds:us-east-1:123456789012:db:" + identifier)
+                .dbInstanceClass("db.r5.large")
+                .dbInstanceStatus("available")
+                .engine("mysql")
+                .engineVersion("8.0.23")
+                .allocatedStorage(100)
+                .maxAllocatedStorage(1000)
+                .iops(3000)
+                .storageType("io1")
+                .availabilityZone("us-east-1a")
+                .multiAZ(true)
+                .masterUsername("admin")
+                .dbName("database")
+                .dbInstancePort(0)
+                .endpoint(Endpoint.builder()
+                        .address(identifier + ".abcdefghijkl.us-east-1.rds.amazonaws.com")
+                        .port(3306)
+                        .hostedZoneId("Z2R2ITUGPM61AM")
+                        .build())
+                .backupRetentionPeriod(7)
+                .preferredBackupWindow("03:00-04:00")
+                .preferredMaintenanceWindow("sun:05:00-sun:06:00")
+                .autoMinorVersionUpgrade(true)
+                .copyTagsToSnapshot(true)
+                .deletionProtection(false)
+                .iamDatabaseAuthenticationEnabled(true)
+                .performanceInsightsEnabled(true)
+                .performanceInsightsKMSKeyId("arn:aws:kms:us-east-1:123456789012:key/performance-insights")
+                .performanceInsightsRetentionPeriod(7)
+                .monitoringInterval(60)
+                .monitoringRoleArn("arn:aws:iam::123456789012:role/rds-monitoring-role")
+                .kmsKeyId("arn:aws:kms:us-east-1:123456789012:key/storage")
+                .storageEncrypted(true)
+                .licenseModel("general-public-license")
+                .caCertificateIdentifier("rds-ca-2019")
+                .publiclyAccessible(false)
+                .promotionTier(1)
+                .dbParameterGroups(DBParameterGroupStatus.builder()
+                        .dbParameterGroupName("db-parameter-group")
+                        .parameterApplyStatus("in-sync")
+                        .build())
+                .dbSecurityGroups(DBSecurityGroupMembership.builder()
+                        .dbSecurityGroupName("db-security-group")
+                        .status("active")
+                        .build())
+                .vpcSecurityGroups(
+                        VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-00000001").status("active").build(),
+                        VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-00000002").status("active").build()
+                )
+                .dbSubnetGroup(DBSubnetGroup.builder().dbSubnetGroupName("db-subnet-group").build())
+                .associatedRoles(DBInstanceRole.builder()
+                        .roleArn("arn:aws:iam::123456789012:role/s3-import")
+                        .featureName("s3Import")
+                        .status("ACTIVE")
+                        .build())
+                .processorFeatures(
+                        ProcessorFeature.builder().name("coreCount").value("2").build(),
+                        ProcessorFeature.builder().name("threadsPerCore").value("2").build()
+                )
+                .enabledCloudwatchLogsExports("audit", "error")
+                .tagList(IntStream.range(0, tagCount)
+                        .mapToObj(tag -> Tag.builder().key("tag-key-" + tag).value("tag-value-" + tag).build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package software.amazon.rds.optiongroup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.rds.model.DBSecurityGroupMembership;
+import software.amazon.awssdk.services.rds.model.Option;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OptionGroupTranslatorBenchmark {
+
+    @Param({"20"})
+    private int optionCount;
+
+    @Param({"50"})
+    private int optionSettingCount;
+
+    private List<Option> options;
+
+    @Setup
+    public void setup() {
+        options = IntStream.range(0, optionCount)
+                .mapToObj(this::option)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<OptionConfiguration> translateOptionConfigurationsFromSdk() {
+        return Translator.translateOptionConfigurationsFromSdk(options);
+    }
+
+    private Option option(final int index) {
+        return Option.builder()
+                .optionName("OPTION_" + index)
+                .optionDescription("Option " + index)
+                .optionVersion("1.2.3." + index)
+                .port(1158 + index)
+                .persistent(false)
+                .permanent(false)
+                .dbSecurityGroupMemberships(DBSecurityGroupMembership.builder()
+                        .dbSecurityGroupName("db-security-group")
+                        .status("authorized")
+                        .build())
+                .vpcSecurityGroupMemberships(
+                        VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-00000001").status("active").build(),
+                        VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-00000002").status("active").build()
+                )
+                .optionSettings(IntStream.range(0, optionSettingCount)
+                        .mapToObj(setting -> software.amazon.awssdk.services.rds.model.OptionSetting.builder()
+                                .name("SETTING_" + setting)
+                                .value("value-" + setting)
+                                .defaultValue("default-" + setting)
+                                .allowedValues("value-" + setting + ",default-" + setting)
+                                .applyType("STATIC")
+                                .dataType("STRING")
+                                .isModifiable(true)
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
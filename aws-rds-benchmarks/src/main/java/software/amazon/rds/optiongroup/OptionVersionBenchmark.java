@@ -0,0 +1,76 @@
+package software.amazon.rds.optiongroup;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OptionVersionBenchmark {
+
+    @Param({"19.2.v1"})
+    private String previousVersion;
+
+    @Param({"20.1.v1"})
+    private String desiredVersion;
+
+    private OptionVersion previous;
+    private OptionVersion desired;
+
+    @Setup
+    public void setup() {
+        previous = OptionVersion.of(previousVersion);
+        desired = OptionVersion.of(desiredVersion);
+    }
+
+    @Benchmark
+    public int compareSplit() {
+        return compareSplit(previousVersion, desiredVersion);
+    }
+
+    @Benchmark
+    public int compareParsed() {
+        return previous.compareTo(desired);
+    }
+
+    // What UpdateHandler.isOptionVersionDowngrade does per call.
+    @Benchmark
+    public int compareInterned() {
+        return OptionVersion.of(previousVersion).compareTo(OptionVersion.of(desiredVersion));
+    }
+
+    @Benchmark
+    public int compareUncached() {
+        return new OptionVersion(previousVersion).compareTo(new OptionVersion(desiredVersion));
+    }
+
+    // The comparison OptionVersion used before it was parsed once, kept as the baseline.
+    private static int compareSplit(final String version1, final String version2) {
+        final String[] vals1 = version1.split("\\.");
+        final String[] vals2 = version2.split("\\.");
+        int i = 0;
+        final int len1 = vals1.length - 1;
+        final int len2 = vals2.length - 1;
+        while (i < len1 && i < len2 && vals1[i].equals(vals2[i])) {
+            i++;
+        }
+        if (i < len1 && i < len2) {
+            return Integer.valueOf(vals1[i]).compareTo(Integer.valueOf(vals2[i]));
+        }
+        return Integer.compare(len1, len2);
+    }
+}
@@ -0,0 +1,199 @@
+package software.amazon.rds.common.client;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.RdsRequest;
+import software.amazon.awssdk.services.rds.model.RdsResponse;
+
+/**
+ * Deduplicates read-only RDS calls across every client it decorates. Concurrent identical
+ * Describe* and ListTagsForResource requests share one in-flight call, and completed responses are
+ * served for a short window. A mutating call drops the cached responses of the resources it names,
+ * or all of them when it names none, both before and after it runs so that a describe racing the
+ * call is not served for the rest of the window. Expired responses are evicted on lookup.
+ * <p>
+ * Requests are only shared between callers using the same credentials.
+ */
+public class DescribeCoalescer {
+
+    private static final String DESCRIBE_PREFIX = "describe";
+    private static final String LIST_TAGS_FOR_RESOURCE = "listTagsForResource";
+    private static final String ARN_PREFIX = "arn:";
+    private static final String ARN_SEPARATOR = ":";
+    private static final String IDENTIFIER_SUFFIX = "Identifier";
+    private static final String NAME_SUFFIX = "Name";
+
+    private final long windowNanos;
+    private final Map<List<Object>, Entry> entries = new ConcurrentHashMap<>();
+
+    public DescribeCoalescer(final Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public static RdsClient decorate(final RdsClient client, final DescribeCoalescer coalescer) {
+        return coalescer == null ? client : coalescer.decorate(client);
+    }
+
+    public RdsClient decorate(final RdsClient client) {
+        return (RdsClient) Proxy.newProxyInstance(
+                RdsClient.class.getClassLoader(),
+                new Class<?>[]{RdsClient.class},
+                (proxy, method, args) -> invoke(client, method, args)
+        );
+    }
+
+    public void invalidate() {
+        entries.clear();
+    }
+
+    private Object invoke(final RdsClient client, final Method method, final Object[] args) throws Throwable {
+        if (args == null || args.length != 1 || !(args[0] instanceof RdsRequest)) {
+            return call(client, method, args);
+        }
+        final RdsRequest request = (RdsRequest) args[0];
+        if (isReadOnly(method)) {
+            return coalesce(client, method, request);
+        }
+        final Set<String> resources = resourceKeys(request);
+        invalidate(resources);
+        try {
+            return call(client, method, args);
+        } finally {
+            invalidate(resources);
+        }
+    }
+
+    private Object coalesce(final RdsClient client, final Method method, final RdsRequest request) throws Throwable {
+        final List<Object> key = requestKey(method, request);
+        evictExpired();
+        while (true) {
+            final Entry existing = entries.get(key);
+            if (existing != null && !existing.isExpired(System.nanoTime())) {
+                return await(existing.response);
+            }
+            final Entry created = new Entry(resourceKeys(request));
+            final boolean owner = existing == null ? entries.putIfAbsent(key, created) == null : entries.replace(key, existing, created);
+            if (!owner) {
+                continue;
+            }
+            try {
+                final Object response = call(client, method, new Object[]{request});
+                created.complete(response);
+                return response;
+            } catch (Throwable e) {
+                entries.remove(key, created);
+                created.response.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    private void evictExpired() {
+        final long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void invalidate(final Set<String> resources) {
+        if (resources.isEmpty()) {
+            entries.clear();
+            return;
+        }
+        entries.values().removeIf(entry -> entry.resources.isEmpty() || !Collections.disjoint(entry.resources, resources));
+    }
+
+    private static boolean isReadOnly(final Method method) {
+        return RdsResponse.class.isAssignableFrom(method.getReturnType()) &&
+                (method.getName().startsWith(DESCRIBE_PREFIX) || method.getName().equals(LIST_TAGS_FOR_RESOURCE));
+    }
+
+    // The override configuration carries per-invocation credentials, so it is replaced by the caller identity.
+    private static List<Object> requestKey(final Method method, final RdsRequest request) {
+        final List<Object> key = new ArrayList<>();
+        key.add(method.getName());
+        key.add(request.overrideConfiguration()
+                .flatMap(AwsRequestOverrideConfiguration::credentialsProvider)
+                .map(provider -> provider.resolveCredentials().accessKeyId())
+                .orElse(null));
+        for (final SdkField<?> field : request.sdkFields()) {
+            key.add(field.getValueOrDefault(request));
+        }
+        return key;
+    }
+
+    // Identifiers and names of the request, ARNs also contribute their trailing resource name.
+    private static Set<String> resourceKeys(final RdsRequest request) {
+        final Set<String> keys = new HashSet<>();
+        for (final SdkField<?> field : request.sdkFields()) {
+            if (field.marshallingType() != MarshallingType.STRING ||
+                    !(field.memberName().endsWith(IDENTIFIER_SUFFIX) || field.memberName().endsWith(NAME_SUFFIX))) {
+                continue;
+            }
+            final Object value = field.getValueOrDefault(request);
+            if (value == null) {
+                continue;
+            }
+            final String resource = value.toString().toLowerCase();
+            keys.add(resource);
+            if (resource.startsWith(ARN_PREFIX)) {
+                keys.add(resource.substring(resource.lastIndexOf(ARN_SEPARATOR) + 1));
+            }
+        }
+        return keys;
+    }
+
+    private static Object call(final RdsClient client, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(client, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object await(final CompletableFuture<Object> response) throws Throwable {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class Entry {
+        private final Set<String> resources;
+        private final CompletableFuture<Object> response = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        Entry(final Set<String> resources) {
+            this.resources = resources;
+        }
+
+        void complete(final Object value) {
+            completedAt = System.nanoTime();
+            response.complete(value);
+        }
+
+        // In-flight calls never expire, waiting callers always share them.
+        boolean isExpired(final long now) {
+            return response.isDone() && now - completedAt >= windowNanos;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package software.amazon.rds.common.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.metrics.CallMetrics;
+
+/**
+ * Records the latency and outcome of every call that goes through the proxy client.
+ */
+public class InstrumentedProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    private final ProxyClient<ClientT> delegate;
+    private final CallMetrics metrics;
+
+    public InstrumentedProxyClient(final ProxyClient<ClientT> delegate, final CallMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction
+    ) {
+        return record(request, () -> delegate.injectCredentialsAndInvokeV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+    ) {
+        return record(request, () -> delegate.injectCredentialsAndInvokeV2Async(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction
+    ) {
+        return record(request, () -> delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
+    ) {
+        return record(request, () -> delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
+    ) {
+        return record(request, () -> delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction));
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    // Asynchronous and paginated calls are only timed until the future or the iterable is handed out.
+    private <ResultT> ResultT record(final AwsRequest request, final Supplier<ResultT> call) {
+        final long start = System.nanoTime();
+        try {
+            final ResultT result = call.get();
+            metrics.record(CallMetrics.operationName(request), System.nanoTime() - start, null);
+            return result;
+        } catch (RuntimeException e) {
+            metrics.record(CallMetrics.operationName(request), System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package software.amazon.rds.common.client;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+
+/**
+ * Client-side rate limiting for RDS calls, shared by every handler that uses the same instance.
+ * Read-only calls (Describe*, List*, Download*) and mutating calls draw from separate buckets, so
+ * stabilization polling cannot starve the calls that change resources and vice versa.
+ */
+public class RateLimiter {
+
+    public static final int DEFAULT_CAPACITY = 10;
+    // Rates the default handler configs use, a single handler stays well below the account-wide RDS API quotas.
+    public static final double DEFAULT_DESCRIBES_PER_SECOND = 10;
+    public static final double DEFAULT_MUTATIONS_PER_SECOND = 5;
+
+    private static final String[] READ_ONLY_REQUEST_PREFIXES = {"Describe", "List", "Download"};
+
+    private final TokenBucket describeBucket;
+    private final TokenBucket mutateBucket;
+
+    public RateLimiter(final double describesPerSecond, final double mutationsPerSecond) {
+        this(describesPerSecond, mutationsPerSecond, DEFAULT_CAPACITY);
+    }
+
+    public RateLimiter(final double describesPerSecond, final double mutationsPerSecond, final int capacity) {
+        this.describeBucket = new TokenBucket(describesPerSecond, capacity);
+        this.mutateBucket = new TokenBucket(mutationsPerSecond, capacity);
+    }
+
+    // Blocks until a token is available and returns the time spent waiting for it, in nanoseconds.
+    public long acquire(final AwsRequest request) {
+        return (isReadOnly(request) ? describeBucket : mutateBucket).acquire();
+    }
+
+    private static boolean isReadOnly(final AwsRequest request) {
+        final String requestName = request.getClass().getSimpleName();
+        for (final String prefix : READ_ONLY_REQUEST_PREFIXES) {
+            if (requestName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package software.amazon.rds.common.client;
+
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.metrics.CallMetrics;
+
+public final class RdsProxyClients {
+
+    private RdsProxyClients() {
+    }
+
+    // Builds the RDS proxy client with the describe coalescing and rate limiting enabled in the config.
+    // Calls are recorded in the metrics after rate limiting, so the latencies do not include queueing,
+    // the time spent waiting for the rate limiter is recorded separately.
+    public static ProxyClient<RdsClient> newProxy(
+            final AmazonWebServicesClientProxy proxy,
+            final Supplier<RdsClient> clientSupplier,
+            final HandlerConfig config,
+            final CallMetrics metrics
+    ) {
+        final ProxyClient<RdsClient> proxyClient = new InstrumentedProxyClient<>(
+                proxy.newProxy(() -> DescribeCoalescer.decorate(clientSupplier.get(), config.getDescribeCoalescer())),
+                metrics
+        );
+        if (config.getRateLimiter() == null) {
+            return proxyClient;
+        }
+        return new RateLimitedProxyClient<>(proxyClient, config.getRateLimiter(), metrics);
+    }
+}
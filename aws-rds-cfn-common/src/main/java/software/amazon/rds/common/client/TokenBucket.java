@@ -0,0 +1,54 @@
+package software.amazon.rds.common.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket. Instead of counting tokens the bucket keeps the time at which it would
+ * be completely drained; taking a token moves that time forward by one refill interval, and a
+ * caller only waits when the bucket is more than its capacity ahead of now.
+ */
+public class TokenBucket {
+
+    private final long refillIntervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong drainedAt;
+
+    public TokenBucket(final double tokensPerSecond, final int capacity) {
+        this(tokensPerSecond, capacity, System.nanoTime());
+    }
+
+    TokenBucket(final double tokensPerSecond, final int capacity, final long startNanos) {
+        if (tokensPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("Token bucket rate and capacity must be positive");
+        }
+        this.refillIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / tokensPerSecond);
+        this.capacityNanos = refillIntervalNanos * capacity;
+        // The bucket starts full.
+        this.drainedAt = new AtomicLong(startNanos);
+    }
+
+    // Takes a token and returns how long the caller has to wait before using it, in nanoseconds.
+    long reserve(final long now) {
+        while (true) {
+            final long current = drainedAt.get();
+            final long next = Math.max(current, now) + refillIntervalNanos;
+            if (drainedAt.compareAndSet(current, next)) {
+                return Math.max(0, next - now - capacityNanos);
+            }
+        }
+    }
+
+    // Blocks until a token is available and returns the time spent waiting, in nanoseconds.
+    public long acquire() {
+        final long waitNanos = reserve(System.nanoTime());
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return waitNanos;
+    }
+}
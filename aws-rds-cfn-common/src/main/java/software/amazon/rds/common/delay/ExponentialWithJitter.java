@@ -0,0 +1,65 @@
+package software.amazon.rds.common.delay;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.commons.lang3.Validate;
+
+import lombok.Builder;
+import lombok.Getter;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Polls fast early and backs off later: the nominal delay for attempt n is min(minDelay * 2^(n-1), maxDelay).
+ * With jitter enabled the returned delay is drawn from [nominal/2, nominal], but never below minDelay.
+ * The timeout is checked against the cumulative nominal delay, so the total time spent waiting never exceeds it.
+ * Unlike {@link software.amazon.cloudformation.proxy.delay.Exponential} this strategy is stateless
+ * and can be safely shared between handlers.
+ */
+@Getter
+public class ExponentialWithJitter implements Delay {
+
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final Duration timeout;
+    private final boolean jitter;
+
+    @Builder(builderMethodName = "of")
+    private ExponentialWithJitter(
+            final Duration minDelay,
+            final Duration maxDelay,
+            final Duration timeout,
+            final Boolean jitter
+    ) {
+        Validate.isTrue(minDelay != null && !minDelay.isNegative() && !minDelay.isZero(), "minDelay must be positive");
+        Validate.isTrue(maxDelay != null && maxDelay.compareTo(minDelay) >= 0, "maxDelay must not be less than minDelay");
+        Validate.isTrue(timeout != null && timeout.compareTo(minDelay) >= 0, "timeout must not be less than minDelay");
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.timeout = timeout;
+        this.jitter = jitter == null || jitter;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        final long min = minDelay.toMillis();
+        final long max = maxDelay.toMillis();
+        final long limit = timeout.toMillis();
+
+        long nominal = min;
+        long elapsed = min;
+        for (int i = 1; i < attempt; i++) {
+            nominal = Math.min(nominal * 2, max);
+            elapsed += nominal;
+            if (elapsed > limit) {
+                return Duration.ZERO;
+            }
+        }
+
+        if (!jitter) {
+            return Duration.ofMillis(nominal);
+        }
+        final long half = nominal / 2;
+        return Duration.ofMillis(Math.max(min, half + ThreadLocalRandom.current().nextLong(nominal - half + 1)));
+    }
+}
@@ -0,0 +1,117 @@
+package software.amazon.rds.common.error;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.AllArgsConstructor;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+/**
+ * An immutable rule set with the whole orElse chain flattened into two lookup tables,
+ * one keyed by exception class and one keyed by error code. Every rule remembers the position
+ * of the rule set it came from, so earlier rule sets in the chain keep taking precedence.
+ * Class rules match subclasses too; the resolved rule is cached per concrete exception class.
+ */
+public class CompiledErrorRuleSet implements ErrorRuleSet {
+
+    private static final Rule NO_RULE = new Rule(Integer.MAX_VALUE, null);
+
+    private final Map<Class<?>, Rule> errorClassRules;
+    private final Map<ErrorCode, Rule> errorCodeRules;
+    private final int ruleSetCount;
+    private final ConcurrentMap<Class<?>, Rule> resolvedErrorClassRules;
+
+    protected CompiledErrorRuleSet(final Builder builder) {
+        final Map<Class<?>, Rule> errorClassRules = new HashMap<>();
+        builder.errorClassMap.forEach((errorClass, errorStatus) -> errorClassRules.put(errorClass, new Rule(0, errorStatus)));
+        final Map<ErrorCode, Rule> errorCodeRules = new EnumMap<>(ErrorCode.class);
+        builder.errorCodeMap.forEach((errorCode, errorStatus) -> errorCodeRules.put(errorCode, new Rule(0, errorStatus)));
+
+        this.errorClassRules = Collections.unmodifiableMap(errorClassRules);
+        this.errorCodeRules = Collections.unmodifiableMap(errorCodeRules);
+        this.ruleSetCount = 1;
+        this.resolvedErrorClassRules = new ConcurrentHashMap<>();
+    }
+
+    private CompiledErrorRuleSet(
+            final Map<Class<?>, Rule> errorClassRules,
+            final Map<ErrorCode, Rule> errorCodeRules,
+            final int ruleSetCount
+    ) {
+        this.errorClassRules = Collections.unmodifiableMap(errorClassRules);
+        this.errorCodeRules = Collections.unmodifiableMap(errorCodeRules);
+        this.ruleSetCount = ruleSetCount;
+        this.resolvedErrorClassRules = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public ErrorRuleSet orElse(final ErrorRuleSet another) {
+        if (another instanceof CompiledErrorRuleSet) {
+            return concat(this, (CompiledErrorRuleSet) another);
+        }
+        return ErrorRuleSet.super.orElse(another);
+    }
+
+    @Override
+    public ErrorStatus handle(final Exception exception) {
+        final Rule errorClassRule = resolvedErrorClassRules.computeIfAbsent(exception.getClass(), this::lookupErrorClassRule);
+        final Rule errorCodeRule = lookupErrorCodeRule(exception);
+        final Rule rule = errorClassRule.priority <= errorCodeRule.priority ? errorClassRule : errorCodeRule;
+        if (rule.errorStatus == null) {
+            return new UnexpectedErrorStatus(exception);
+        }
+        return rule.errorStatus;
+    }
+
+    private Rule lookupErrorClassRule(final Class<?> exceptionClass) {
+        Rule result = NO_RULE;
+        for (Class<?> errorClass = exceptionClass; errorClass != null; errorClass = errorClass.getSuperclass()) {
+            final Rule rule = errorClassRules.get(errorClass);
+            if (rule != null && rule.priority < result.priority) {
+                result = rule;
+            }
+        }
+        return result;
+    }
+
+    private Rule lookupErrorCodeRule(final Exception exception) {
+        if (errorCodeRules.isEmpty() || !(exception instanceof AwsServiceException)) {
+            return NO_RULE;
+        }
+        final AwsErrorDetails errorDetails = ((AwsServiceException) exception).awsErrorDetails();
+        if (errorDetails == null) {
+            return NO_RULE;
+        }
+        final ErrorCode errorCode = ErrorCode.fromString(errorDetails.errorCode());
+        if (errorCode == null) {
+            return NO_RULE;
+        }
+        return errorCodeRules.getOrDefault(errorCode, NO_RULE);
+    }
+
+    private static CompiledErrorRuleSet concat(final CompiledErrorRuleSet first, final CompiledErrorRuleSet second) {
+        final Map<Class<?>, Rule> errorClassRules = new HashMap<>(first.errorClassRules);
+        second.errorClassRules.forEach((errorClass, rule) ->
+                errorClassRules.putIfAbsent(errorClass, rule.shift(first.ruleSetCount)));
+        final Map<ErrorCode, Rule> errorCodeRules = new EnumMap<>(ErrorCode.class);
+        errorCodeRules.putAll(first.errorCodeRules);
+        second.errorCodeRules.forEach((errorCode, rule) ->
+                errorCodeRules.putIfAbsent(errorCode, rule.shift(first.ruleSetCount)));
+        return new CompiledErrorRuleSet(errorClassRules, errorCodeRules, first.ruleSetCount + second.ruleSetCount);
+    }
+
+    @AllArgsConstructor
+    private static class Rule {
+        final int priority;
+        final ErrorStatus errorStatus;
+
+        Rule shift(final int offset) {
+            return new Rule(priority + offset, errorStatus);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package software.amazon.rds.common.error;
 
-import software.amazon.awssdk.utils.StringUtils;
+import java.util.HashMap;
+import java.util.Map;
 
 public enum ErrorCode {
     AccessDeniedException("AccessDeniedException"),
@@ -31,6 +32,14 @@ public enum ErrorCode {
     StorageQuotaExceeded("StorageQuotaExceeded"),
     ThrottlingException("ThrottlingException");
 
+    private static final Map<String, ErrorCode> ERROR_CODES = new HashMap<>();
+
+    static {
+        for (final ErrorCode errorCode : values()) {
+            ERROR_CODES.put(errorCode.code, errorCode);
+        }
+    }
+
     private final String code;
 
     ErrorCode(final String code) {
@@ -38,14 +47,10 @@ public enum ErrorCode {
     }
 
     public static ErrorCode fromString(final String errorStr) {
-        if (StringUtils.isNotBlank(errorStr)) {
-            for (final ErrorCode errorCode : ErrorCode.values()) {
-                if (errorCode.equals(errorStr)) {
-                    return errorCode;
-                }
-            }
+        if (errorStr == null) {
+            return null;
         }
-        return null;
+        return ERROR_CODES.get(errorStr);
     }
 
     @Override
@@ -35,7 +35,7 @@ public interface ErrorRuleSet {
         }
 
         public ErrorRuleSet build() {
-            return new PlainErrorRuleSet(this);
+            return new CompiledErrorRuleSet(this);
         }
     }
 
@@ -1,14 +1,19 @@
 package software.amazon.rds.common.error;
 
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 
 public interface ErrorStatus {
 
     static ErrorStatus failWith(HandlerErrorCode errorCode) {
-        return new HandlerErrorStatus(errorCode);
+        return HandlerErrorStatus.of(errorCode);
     }
 
     static ErrorStatus ignore() {
-        return new IgnoreErrorStatus();
+        return IgnoreErrorStatus.INSTANCE;
+    }
+
+    static ErrorStatus retryWithBackoff(Delay backoff, HandlerErrorCode errorCode) {
+        return new RetryErrorStatus(backoff, errorCode);
     }
 }
@@ -1,11 +1,28 @@
 package software.amazon.rds.common.error;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 
-@AllArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class HandlerErrorStatus implements ErrorStatus {
+
+    private static final Map<HandlerErrorCode, HandlerErrorStatus> INSTANCES = new EnumMap<>(HandlerErrorCode.class);
+
+    static {
+        for (final HandlerErrorCode handlerErrorCode : HandlerErrorCode.values()) {
+            INSTANCES.put(handlerErrorCode, new HandlerErrorStatus(handlerErrorCode));
+        }
+    }
+
     @Getter
-    HandlerErrorCode handlerErrorCode;
+    final HandlerErrorCode handlerErrorCode;
+
+    static HandlerErrorStatus of(final HandlerErrorCode handlerErrorCode) {
+        return INSTANCES.get(handlerErrorCode);
+    }
 }
@@ -1,4 +1,9 @@
 package software.amazon.rds.common.error;
 
 public class IgnoreErrorStatus implements ErrorStatus {
+
+    static final IgnoreErrorStatus INSTANCE = new IgnoreErrorStatus();
+
+    private IgnoreErrorStatus() {
+    }
 }
@@ -0,0 +1,20 @@
+package software.amazon.rds.common.error;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+/**
+ * Reschedules the handler with a callback delay taken from the backoff instead of failing it.
+ * Once the backoff is exhausted the handler fails with the given error code.
+ */
+@AllArgsConstructor
+public class RetryErrorStatus implements ErrorStatus {
+
+    @Getter
+    final Delay backoff;
+
+    @Getter
+    final HandlerErrorCode handlerErrorCode;
+}
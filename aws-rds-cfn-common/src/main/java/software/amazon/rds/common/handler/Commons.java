@@ -1,19 +1,34 @@
 package software.amazon.rds.common.handler;
 
+import java.time.Duration;
+
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.rds.common.delay.ExponentialWithJitter;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.error.HandlerErrorStatus;
 import software.amazon.rds.common.error.IgnoreErrorStatus;
+import software.amazon.rds.common.error.RetryErrorStatus;
 
 public final class Commons {
 
     private Commons() {
     }
 
+    public static final Delay THROTTLING_BACKOFF = ExponentialWithJitter.of()
+            .minDelay(Duration.ofSeconds(5))
+            .maxDelay(Duration.ofMinutes(1))
+            .timeout(Duration.ofMinutes(15))
+            .build();
+
+    // Retry attempts are counted across all throttled calls of a resource operation.
+    static final String RETRY_ATTEMPTS_KEY = "rds::retry-with-backoff";
+
     public static final ErrorRuleSet DEFAULT_ERROR_RULE_SET = ErrorRuleSet.builder()
             .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.ServiceInternalError),
                     ErrorCode.ClientUnavailable,
@@ -21,7 +36,7 @@ public final class Commons {
             .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.AccessDenied),
                     ErrorCode.AccessDeniedException,
                     ErrorCode.NotAuthorized)
-            .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.Throttling),
+            .withErrorCodes(ErrorStatus.retryWithBackoff(THROTTLING_BACKOFF, HandlerErrorCode.Throttling),
                     ErrorCode.ThrottlingException)
             .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.InvalidRequest),
                     ErrorCode.InvalidParameterCombination,
@@ -46,8 +61,30 @@ public final class Commons {
         } else if (errorStatus instanceof HandlerErrorStatus) {
             final HandlerErrorStatus handlerErrorStatus = (HandlerErrorStatus) errorStatus;
             return ProgressEvent.failed(model, context, handlerErrorStatus.getHandlerErrorCode(), exception.getMessage());
+        } else if (errorStatus instanceof RetryErrorStatus) {
+            final RetryErrorStatus retryErrorStatus = (RetryErrorStatus) errorStatus;
+            final Duration delay = retryErrorStatus.getBackoff().nextDelay(nextRetryAttempt(context));
+            if (delay.isZero()) {
+                return ProgressEvent.failed(model, context, retryErrorStatus.getHandlerErrorCode(), exception.getMessage());
+            }
+            return ProgressEvent.defaultInProgressHandler(context, toCallbackDelaySeconds(delay), model);
         }
 
         return ProgressEvent.failed(model, context, HandlerErrorCode.InternalFailure, exception.getMessage());
     }
+
+    private static int nextRetryAttempt(final Object context) {
+        if (!(context instanceof StdCallbackContext)) {
+            return 1;
+        }
+        final StdCallbackContext callbackContext = (StdCallbackContext) context;
+        // The context starts counting at 1.
+        final int attempt = callbackContext.attempts(RETRY_ATTEMPTS_KEY);
+        callbackContext.attempts(RETRY_ATTEMPTS_KEY, attempt + 1);
+        return attempt;
+    }
+
+    private static int toCallbackDelaySeconds(final Duration delay) {
+        return (int) Math.max(1, (delay.toMillis() + 999) / 1000);
+    }
 }
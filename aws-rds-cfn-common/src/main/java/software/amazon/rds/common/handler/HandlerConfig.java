@@ -4,7 +4,12 @@ import java.time.Duration;
 
 import lombok.Builder;
 import lombok.Getter;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.rds.common.client.DescribeCoalescer;
+import software.amazon.rds.common.client.RateLimiter;
+import software.amazon.rds.common.delay.ExponentialWithJitter;
+import software.amazon.rds.common.parameter.EngineDefaultParameterCache;
+import software.amazon.rds.common.stabilization.StabilizationProfileStore;
 
 @Builder
 public class HandlerConfig {
@@ -15,8 +20,57 @@ public class HandlerConfig {
 
     @Getter
     @Builder.Default
-    final private Constant backoff = Constant.of()
-            .delay(Duration.ofSeconds(30))
+    final private Delay backoff = ExponentialWithJitter.of()
+            .minDelay(Duration.ofSeconds(5))
+            .maxDelay(Duration.ofSeconds(30))
             .timeout(Duration.ofMinutes(60))
             .build();
+
+    // Zero disables the per-invocation describe cache. A non-zero TTL should stay below the backoff delay,
+    // otherwise consecutive stabilization polls would observe the same cached response.
+    @Getter
+    @Builder.Default
+    final private Duration describeCacheTtl = Duration.ZERO;
+
+    // List handlers return identifier-only models unless full hydration is requested.
+    @Getter
+    @Builder.Default
+    final private boolean listHydrationEnabled = false;
+
+    // Issues all role association changes up front and waits for the whole role set with a single describe per poll.
+    @Getter
+    @Builder.Default
+    final private boolean batchRoleUpdatesEnabled = false;
+
+    // Checks the follow-up conditions of an update (status, parameter apply, pending values, roles) on shared describes
+    // instead of stabilizing every step on its own.
+    @Getter
+    @Builder.Default
+    final private boolean compositeStabilizationEnabled = false;
+
+    // Detaches every member of a global cluster on delete, secondaries first and the writer last, instead of
+    // handling only a global cluster whose writer is its single member.
+    @Getter
+    @Builder.Default
+    final private boolean detachAllGlobalClusterMembers = false;
+
+    // Null polls global cluster membership changes with the plain backoff.
+    @Getter
+    final private Delay membershipPollDelay;
+
+    // Null disables stabilization profiles, stabilization then polls with the plain backoff.
+    @Getter
+    final private StabilizationProfileStore stabilizationProfiles;
+
+    // Null disables the engine-default parameter cache, every apply then pages through the catalog.
+    @Getter
+    final private EngineDefaultParameterCache engineDefaultParameters;
+
+    // Null disables describe coalescing, every handler then talks to a plain RdsClient.
+    @Getter
+    final private DescribeCoalescer describeCoalescer;
+
+    // Null disables client-side rate limiting, calls then only back off after the service throttles them.
+    @Getter
+    final private RateLimiter rateLimiter;
 }
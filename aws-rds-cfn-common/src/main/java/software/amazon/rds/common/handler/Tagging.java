@@ -3,14 +3,18 @@ package software.amazon.rds.common.handler;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import com.amazonaws.util.CollectionUtils;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
@@ -23,6 +27,20 @@ import software.amazon.rds.common.error.ErrorRuleSet;
 
 public final class Tagging {
 
+    // RDS accepts at most 50 tags in a single AddTagsToResource or RemoveTagsFromResource call.
+    public static final int MAX_TAGS_PER_REQUEST = 50;
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class TagChanges {
+        private final Set<Tag> tagsToAdd;
+        private final Set<String> tagKeysToRemove;
+
+        public boolean isEmpty() {
+            return tagsToAdd.isEmpty() && tagKeysToRemove.isEmpty();
+        }
+    }
+
     public static <K, V> Map<K, V> mergeTags(Map<K, V> tagsMap1, Map<K, V> tagsMap2) {
         final Map<K, V> result = new HashMap<>();
         result.putAll(Optional.ofNullable(tagsMap1).orElse(Collections.emptyMap()));
@@ -40,6 +58,56 @@ public final class Tagging {
                 .collect(Collectors.toSet());
     }
 
+    public static Map<String, String> translateTagsToMap(final Collection<Tag> tags) {
+        final Map<String, String> result = new HashMap<>();
+        Optional.ofNullable(tags).orElse(Collections.emptySet())
+                .forEach(tag -> result.put(tag.key(), tag.value()));
+        return result;
+    }
+
+    /**
+     * Computes the minimal set of calls turning currentTags into desiredTags. A tag with a changed value
+     * is only re-added: AddTagsToResource overwrites the value, so there is no need to remove the key first.
+     */
+    public static TagChanges diffTags(final Map<String, String> currentTags, final Map<String, String> desiredTags) {
+        final Map<String, String> current = Optional.ofNullable(currentTags).orElse(Collections.emptyMap());
+        final Map<String, String> desired = Optional.ofNullable(desiredTags).orElse(Collections.emptyMap());
+
+        final Map<String, String> tagsToAdd = new HashMap<>();
+        desired.forEach((key, value) -> {
+            if (!current.containsKey(key) || !Objects.equals(current.get(key), value)) {
+                tagsToAdd.put(key, value);
+            }
+        });
+        final Set<String> tagKeysToRemove = current.keySet().stream()
+                .filter(key -> !desired.containsKey(key))
+                .collect(Collectors.toSet());
+
+        return new TagChanges(translateTagsToSdk(tagsToAdd), tagKeysToRemove);
+    }
+
+    public static void applyTagChanges(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String arn,
+            final TagChanges tagChanges
+    ) {
+        removeTags(rdsProxyClient, arn, tagChanges.getTagKeysToRemove());
+        addTags(rdsProxyClient, arn, tagChanges.getTagsToAdd());
+    }
+
+    /**
+     * Brings the resource tags to desiredTags using a single ListTagsForResource snapshot of the live tags.
+     */
+    public static TagChanges reconcileTags(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String arn,
+            final Map<String, String> desiredTags
+    ) {
+        final TagChanges tagChanges = diffTags(translateTagsToMap(listTagsForResource(rdsProxyClient, arn)), desiredTags);
+        applyTagChanges(rdsProxyClient, arn, tagChanges);
+        return tagChanges;
+    }
+
     public static Set<Tag> listTagsForResource(
             final ProxyClient<RdsClient> rdsProxyClient,
             final String arn) {
@@ -62,15 +130,8 @@ public final class Tagging {
             final Map<String, String> desiredTags,
             final ErrorRuleSet errorRuleSet
     ) {
-        final Set<Tag> desiredTagSet = new HashSet<>(translateTagsToSdk(desiredTags));
-        final Set<Tag> previousTagSet = new HashSet<>(translateTagsToSdk(previousTags));
-
-        final Set<Tag> tagsToAdd = Sets.difference(desiredTagSet, previousTagSet);
-        final Set<Tag> tagsToRemove = Sets.difference(previousTagSet, desiredTagSet);
-
         try {
-            removeTags(rdsProxyClient, resourceArn, tagsToRemove);
-            addTags(rdsProxyClient, resourceArn, tagsToAdd);
+            applyTagChanges(rdsProxyClient, resourceArn, diffTags(previousTags, desiredTags));
             return progress;
         } catch (Exception e) {
             return Commons.handleException(progress, e, errorRuleSet);
@@ -82,27 +143,25 @@ public final class Tagging {
             final String arn,
             final Collection<Tag> tagsToAdd
     ) {
-        if (CollectionUtils.isNullOrEmpty(tagsToAdd))
-            return;
-
-        rdsProxyClient.injectCredentialsAndInvokeV2(
-                addTagsToResourceRequest(arn, tagsToAdd),
-                rdsProxyClient.client()::addTagsToResource
-        );
+        for (final List<Tag> tags : Iterables.partition(tagsToAdd, MAX_TAGS_PER_REQUEST)) {
+            rdsProxyClient.injectCredentialsAndInvokeV2(
+                    addTagsToResourceRequest(arn, tags),
+                    rdsProxyClient.client()::addTagsToResource
+            );
+        }
     }
 
     private static void removeTags(
             final ProxyClient<RdsClient> rdsProxyClient,
             final String arn,
-            final Collection<Tag> tagsToRemove
+            final Collection<String> tagKeysToRemove
     ) {
-        if (CollectionUtils.isNullOrEmpty(tagsToRemove))
-            return;
-
-        rdsProxyClient.injectCredentialsAndInvokeV2(
-                removeTagsFromResourceRequest(arn, tagsToRemove),
-                rdsProxyClient.client()::removeTagsFromResource
-        );
+        for (final List<String> tagKeys : Iterables.partition(tagKeysToRemove, MAX_TAGS_PER_REQUEST)) {
+            rdsProxyClient.injectCredentialsAndInvokeV2(
+                    removeTagsFromResourceRequest(arn, tagKeys),
+                    rdsProxyClient.client()::removeTagsFromResource
+            );
+        }
     }
 
     private static ListTagsForResourceRequest listTagsForResourceRequest(final String arn) {
@@ -120,11 +179,11 @@ public final class Tagging {
 
     private static RemoveTagsFromResourceRequest removeTagsFromResourceRequest(
             final String arn,
-            final Collection<Tag> tagsToRemove
+            final Collection<String> tagKeysToRemove
     ) {
         return RemoveTagsFromResourceRequest.builder()
                 .resourceName(arn)
-                .tagKeys(tagsToRemove.stream().map(Tag::key).collect(Collectors.toSet()))
+                .tagKeys(tagKeysToRemove)
                 .build();
     }
 
@@ -0,0 +1,179 @@
+package software.amazon.rds.common.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Per-invocation record of the AWS calls a handler makes, keyed by operation name such as
+ * {@code rds::modify-db-instance}. For every operation it keeps the call count, a latency
+ * histogram, and the number of throttled, failed and retried calls. A call counts as a retry
+ * when the previous call of the same operation within the invocation failed. Calls held back by
+ * the client-side rate limiter are counted as queued, along with the total time they waited.
+ * <p>
+ * The summary is emitted as CloudWatch embedded metric format, one log line per operation.
+ */
+public class CallMetrics {
+
+    public static final String NAMESPACE = "AWS/CloudFormation/RDS";
+
+    // Upper bounds of the latency buckets, calls slower than the last bound land in an overflow bucket.
+    static final long[] LATENCY_BUCKETS_MILLIS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private static final String REQUEST_SUFFIX = "Request";
+    private static final String SERVICES_PACKAGE = "software.amazon.awssdk.services.";
+
+    private final Map<String, OperationMetrics> operations = new LinkedHashMap<>();
+
+    public static String operationName(final AwsRequest request) {
+        final Class<?> requestClass = request.getClass();
+        String service = requestClass.getPackage().getName();
+        if (service.startsWith(SERVICES_PACKAGE)) {
+            service = service.substring(SERVICES_PACKAGE.length());
+            service = service.substring(0, service.indexOf('.') < 0 ? service.length() : service.indexOf('.'));
+        }
+        String action = requestClass.getSimpleName();
+        if (action.endsWith(REQUEST_SUFFIX)) {
+            action = action.substring(0, action.length() - REQUEST_SUFFIX.length());
+        }
+        return service + "::" + action.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase();
+    }
+
+    public synchronized void record(final String operation, final long latencyNanos, final Throwable error) {
+        operations.computeIfAbsent(operation, key -> new OperationMetrics()).record(latencyNanos, error);
+    }
+
+    public synchronized void recordQueued(final String operation, final long waitNanos) {
+        if (waitNanos > 0) {
+            operations.computeIfAbsent(operation, key -> new OperationMetrics()).recordQueued(waitNanos);
+        }
+    }
+
+    public synchronized Map<String, OperationMetrics> getOperations() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(operations));
+    }
+
+    public void emit(final Logger logger, final String resourceType, final String handler) {
+        for (final String document : toEmf(resourceType, handler, System.currentTimeMillis())) {
+            logger.log(document);
+        }
+    }
+
+    public synchronized List<String> toEmf(final String resourceType, final String handler, final long timestamp) {
+        final List<String> documents = new ArrayList<>();
+        for (final Map.Entry<String, OperationMetrics> entry : operations.entrySet()) {
+            final OperationMetrics metrics = entry.getValue();
+            final StringBuilder document = new StringBuilder()
+                    .append("{\"_aws\":{\"Timestamp\":").append(timestamp)
+                    .append(",\"CloudWatchMetrics\":[{\"Namespace\":\"").append(NAMESPACE)
+                    .append("\",\"Dimensions\":[[\"ResourceType\",\"Handler\",\"Operation\"]],\"Metrics\":[")
+                    .append("{\"Name\":\"Calls\",\"Unit\":\"Count\"},")
+                    .append("{\"Name\":\"Throttles\",\"Unit\":\"Count\"},")
+                    .append("{\"Name\":\"Errors\",\"Unit\":\"Count\"},")
+                    .append("{\"Name\":\"Retries\",\"Unit\":\"Count\"},")
+                    .append("{\"Name\":\"QueuedCalls\",\"Unit\":\"Count\"},")
+                    .append("{\"Name\":\"QueuedTime\",\"Unit\":\"Milliseconds\"},")
+                    .append("{\"Name\":\"Latency\",\"Unit\":\"Milliseconds\"}]}]},")
+                    .append("\"ResourceType\":\"").append(resourceType)
+                    .append("\",\"Handler\":\"").append(handler)
+                    .append("\",\"Operation\":\"").append(entry.getKey())
+                    .append("\",\"Calls\":").append(metrics.getCalls())
+                    .append(",\"Throttles\":").append(metrics.getThrottles())
+                    .append(",\"Errors\":").append(metrics.getErrors())
+                    .append(",\"Retries\":").append(metrics.getRetries())
+                    .append(",\"QueuedCalls\":").append(metrics.getQueuedCalls())
+                    .append(",\"QueuedTime\":").append(metrics.getQueuedMillis())
+                    .append(",\"Latency\":");
+            appendHistogram(document, metrics);
+            documents.add(document.append('}').toString());
+        }
+        return documents;
+    }
+
+    // The histogram is reported as value/count pairs, each bucket represented by its upper bound.
+    private static void appendHistogram(final StringBuilder document, final OperationMetrics metrics) {
+        final StringBuilder values = new StringBuilder();
+        final StringBuilder counts = new StringBuilder();
+        final long[] buckets = metrics.getLatencyBuckets();
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] == 0) {
+                continue;
+            }
+            if (values.length() > 0) {
+                values.append(',');
+                counts.append(',');
+            }
+            values.append(i < LATENCY_BUCKETS_MILLIS.length ? LATENCY_BUCKETS_MILLIS[i] : metrics.getMaxLatencyMillis());
+            counts.append(buckets[i]);
+        }
+        document.append("{\"Values\":[").append(values)
+                .append("],\"Counts\":[").append(counts)
+                .append("],\"Max\":").append(metrics.getMaxLatencyMillis())
+                .append(",\"Min\":").append(metrics.getMinLatencyMillis())
+                .append(",\"Sum\":").append(metrics.getTotalLatencyMillis())
+                .append(",\"Count\":").append(metrics.getCalls())
+                .append('}');
+    }
+
+    @Getter
+    public static class OperationMetrics {
+        private long calls;
+        private long throttles;
+        private long errors;
+        private long retries;
+        private long queuedCalls;
+        private long queuedMillis;
+        private long totalLatencyMillis;
+        private long minLatencyMillis = Long.MAX_VALUE;
+        private long maxLatencyMillis;
+        @Getter(AccessLevel.NONE)
+        private final long[] latencyBuckets = new long[LATENCY_BUCKETS_MILLIS.length + 1];
+        @Getter(AccessLevel.NONE)
+        private boolean lastFailed;
+
+        public long[] getLatencyBuckets() {
+            return latencyBuckets.clone();
+        }
+
+        private void record(final long latencyNanos, final Throwable error) {
+            if (lastFailed) {
+                retries++;
+            }
+            calls++;
+            if (error instanceof AwsServiceException && ((AwsServiceException) error).isThrottlingException()) {
+                throttles++;
+            } else if (error != null) {
+                errors++;
+            }
+            lastFailed = error != null;
+            final long latencyMillis = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+            totalLatencyMillis += latencyMillis;
+            minLatencyMillis = Math.min(minLatencyMillis, latencyMillis);
+            maxLatencyMillis = Math.max(maxLatencyMillis, latencyMillis);
+            latencyBuckets[bucketOf(latencyMillis)]++;
+        }
+
+        private void recordQueued(final long waitNanos) {
+            queuedCalls++;
+            queuedMillis += TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        }
+
+        private static int bucketOf(final long latencyMillis) {
+            for (int i = 0; i < LATENCY_BUCKETS_MILLIS.length; i++) {
+                if (latencyMillis <= LATENCY_BUCKETS_MILLIS[i]) {
+                    return i;
+                }
+            }
+            return LATENCY_BUCKETS_MILLIS.length;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package software.amazon.rds.common.parameter;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import lombok.AllArgsConstructor;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+/**
+ * Engine-default parameters keyed by parameter group family. The catalog of a family only changes
+ * with engine releases, so it is kept in memory across warm invocations and, when a path is given,
+ * in a compact gzipped file. Entries older than the TTL are evicted on access.
+ * <p>
+ * Only the attributes the handlers rely on are kept: name, value, modifiability, apply type,
+ * data type, allowed values, apply method and source.
+ */
+public class EngineDefaultParameterCache {
+
+    public static final Duration DEFAULT_TTL = Duration.ofHours(6);
+
+    private static final int FILE_FORMAT_VERSION = 1;
+
+    private final Duration ttl;
+    private final Path path;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private boolean loaded;
+
+    public EngineDefaultParameterCache() {
+        this(DEFAULT_TTL, null);
+    }
+
+    public EngineDefaultParameterCache(final Duration ttl, final Path path) {
+        this.ttl = ttl;
+        this.path = path;
+        // Without a file there is nothing to load.
+        this.loaded = path == null;
+    }
+
+    public synchronized Optional<Map<String, Parameter>> get(final String family) {
+        load();
+        final Entry entry = entries.get(family);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry)) {
+            entries.remove(family);
+            return Optional.empty();
+        }
+        return Optional.of(entry.parameters);
+    }
+
+    public synchronized void put(final String family, final Map<String, Parameter> parameters) {
+        load();
+        entries.put(family, new Entry(Instant.now().toEpochMilli(), Collections.unmodifiableMap(new LinkedHashMap<>(parameters))));
+        store();
+    }
+
+    public synchronized void invalidate(final String family) {
+        load();
+        if (entries.remove(family) != null) {
+            store();
+        }
+    }
+
+    private boolean isExpired(final Entry entry) {
+        return Instant.now().toEpochMilli() - entry.loadedAt >= ttl.toMillis();
+    }
+
+    // The file is a best-effort warm start: a missing, stale or unreadable file only means a cold catalog.
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new GZIPInputStream(file))) {
+            if (in.readInt() != FILE_FORMAT_VERSION) {
+                return;
+            }
+            final Map<String, Entry> restored = new HashMap<>();
+            final int families = in.readInt();
+            for (int i = 0; i < families; i++) {
+                final String family = in.readUTF();
+                final long loadedAt = in.readLong();
+                final int count = in.readInt();
+                final Map<String, Parameter> parameters = new LinkedHashMap<>();
+                for (int j = 0; j < count; j++) {
+                    final Parameter parameter = readParameter(in);
+                    parameters.put(parameter.parameterName(), parameter);
+                }
+                final Entry entry = new Entry(loadedAt, Collections.unmodifiableMap(parameters));
+                if (!isExpired(entry)) {
+                    restored.put(family, entry);
+                }
+            }
+            restored.forEach(entries::putIfAbsent);
+        } catch (IOException | RuntimeException e) {
+            entries.clear();
+        }
+    }
+
+    private void store() {
+        if (path == null) {
+            return;
+        }
+        try {
+            final Path parent = path.toAbsolutePath().getParent();
+            final Path tmp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try (OutputStream file = Files.newOutputStream(tmp);
+                 DataOutputStream out = new DataOutputStream(new GZIPOutputStream(file))) {
+                out.writeInt(FILE_FORMAT_VERSION);
+                out.writeInt(entries.size());
+                for (final Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(entry.getValue().loadedAt);
+                    out.writeInt(entry.getValue().parameters.size());
+                    for (final Parameter parameter : entry.getValue().parameters.values()) {
+                        writeParameter(out, parameter);
+                    }
+                }
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The in-memory catalog stays authoritative.
+        }
+    }
+
+    private static void writeParameter(final DataOutputStream out, final Parameter parameter) throws IOException {
+        writeNullableString(out, parameter.parameterName());
+        writeNullableString(out, parameter.parameterValue());
+        out.writeByte(parameter.isModifiable() == null ? -1 : parameter.isModifiable() ? 1 : 0);
+        writeNullableString(out, parameter.applyType());
+        writeNullableString(out, parameter.dataType());
+        writeNullableString(out, parameter.allowedValues());
+        writeNullableString(out, parameter.applyMethodAsString());
+        writeNullableString(out, parameter.source());
+    }
+
+    private static Parameter readParameter(final DataInputStream in) throws IOException {
+        final Parameter.Builder builder = Parameter.builder()
+                .parameterName(readNullableString(in))
+                .parameterValue(readNullableString(in));
+        final byte modifiable = in.readByte();
+        return builder
+                .isModifiable(modifiable < 0 ? null : modifiable == 1)
+                .applyType(readNullableString(in))
+                .dataType(readNullableString(in))
+                .allowedValues(readNullableString(in))
+                .applyMethod(readNullableString(in))
+                .source(readNullableString(in))
+                .build();
+    }
+
+    private static void writeNullableString(final DataOutputStream out, final String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final long loadedAt;
+        private final Map<String, Parameter> parameters;
+    }
+}
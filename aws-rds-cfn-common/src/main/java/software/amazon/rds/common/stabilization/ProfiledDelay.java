@@ -0,0 +1,30 @@
+package software.amazon.rds.common.stabilization;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Skips the known-busy period of an operation: the first poll waits for the initial delay,
+ * after that polling follows the underlying backoff from its first attempt.
+ */
+public class ProfiledDelay implements Delay {
+
+    @Getter
+    private final Duration initialDelay;
+    private final Delay backoff;
+
+    public ProfiledDelay(final Duration initialDelay, final Delay backoff) {
+        this.initialDelay = initialDelay;
+        this.backoff = backoff;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        if (attempt <= 1) {
+            return initialDelay;
+        }
+        return backoff.nextDelay(attempt - 1);
+    }
+}
@@ -0,0 +1,31 @@
+package software.amazon.rds.common.stabilization;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Observed completion times of a single kind of operation: the number of samples
+ * and the fastest completion seen so far.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class StabilizationProfile {
+
+    private final int samples;
+    private final Duration fastest;
+
+    public static StabilizationProfile of(final Duration duration) {
+        return new StabilizationProfile(1, duration);
+    }
+
+    public StabilizationProfile record(final Duration duration) {
+        return new StabilizationProfile(
+                samples == Integer.MAX_VALUE ? samples : samples + 1,
+                duration.compareTo(fastest) < 0 ? duration : fastest
+        );
+    }
+}
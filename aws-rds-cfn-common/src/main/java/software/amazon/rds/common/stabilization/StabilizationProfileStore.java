@@ -0,0 +1,80 @@
+package software.amazon.rds.common.stabilization;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * A bounded in-memory store of stabilization profiles keyed by operation and resource traits
+ * (e.g. engine and instance class). The store lives as long as the handler process, so warm
+ * invocations benefit from completion times observed by the previous ones.
+ */
+public class StabilizationProfileStore {
+
+    public static final int DEFAULT_CAPACITY = 256;
+    public static final int DEFAULT_MIN_SAMPLES = 2;
+    public static final Duration DEFAULT_MAX_INITIAL_DELAY = Duration.ofMinutes(10);
+
+    private static final double INITIAL_DELAY_RATIO = 0.8;
+    private static final String KEY_SEPARATOR = "/";
+    private static final String MISSING_KEY_PART = "-";
+
+    private final int minSamples;
+    private final Duration maxInitialDelay;
+    private final Map<String, StabilizationProfile> profiles;
+
+    public StabilizationProfileStore() {
+        this(DEFAULT_CAPACITY, DEFAULT_MIN_SAMPLES, DEFAULT_MAX_INITIAL_DELAY);
+    }
+
+    public StabilizationProfileStore(final int capacity, final int minSamples, final Duration maxInitialDelay) {
+        this.minSamples = minSamples;
+        this.maxInitialDelay = maxInitialDelay;
+        this.profiles = new LinkedHashMap<String, StabilizationProfile>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, StabilizationProfile> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public static String key(final String operation, final String... traits) {
+        return Stream.concat(Stream.of(operation), Stream.of(traits))
+                .map(part -> part == null || part.isEmpty() ? MISSING_KEY_PART : part.toLowerCase())
+                .collect(Collectors.joining(KEY_SEPARATOR));
+    }
+
+    public synchronized void record(final String key, final Duration duration) {
+        if (duration.isNegative()) {
+            return;
+        }
+        profiles.merge(key, StabilizationProfile.of(duration), (existing, sample) -> existing.record(duration));
+    }
+
+    public synchronized Optional<StabilizationProfile> get(final String key) {
+        return Optional.ofNullable(profiles.get(key));
+    }
+
+    public Delay delayFor(final String key, final Delay backoff) {
+        return get(key)
+                .filter(profile -> profile.getSamples() >= minSamples)
+                .map(profile -> {
+                    final Duration initialDelay = Duration.ofMillis(Math.round(profile.getFastest().toMillis() * INITIAL_DELAY_RATIO));
+                    if (initialDelay.compareTo(backoff.nextDelay(1)) <= 0) {
+                        return backoff;
+                    }
+                    return (Delay) new ProfiledDelay(
+                            initialDelay.compareTo(maxInitialDelay) > 0 ? maxInitialDelay : initialDelay,
+                            backoff
+                    );
+                })
+                .orElse(backoff);
+    }
+}
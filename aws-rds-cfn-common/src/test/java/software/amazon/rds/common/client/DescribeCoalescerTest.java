@@ -0,0 +1,202 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.RdsException;
+
+public class DescribeCoalescerTest {
+
+    private static final String DB_INSTANCE_IDENTIFIER = "db-instance";
+    private static final String DB_INSTANCE_ARN = "arn:aws:rds:us-east-1:123456789012:db:db-instance";
+
+    private RdsClient rdsClient;
+
+    @BeforeEach
+    public void setup() {
+        rdsClient = mock(RdsClient.class);
+        when(rdsClient.describeDBInstances(any(DescribeDbInstancesRequest.class))).thenReturn(DescribeDbInstancesResponse.builder().build());
+    }
+
+    @Test
+    public void test_decorate_Disabled() {
+        assertThat(DescribeCoalescer.decorate(rdsClient, null)).isSameAs(rdsClient);
+    }
+
+    @Test
+    public void test_describe_MemoizedWithinWindow() {
+        final RdsClient client = new DescribeCoalescer(Duration.ofMinutes(1)).decorate(rdsClient);
+
+        final DescribeDbInstancesResponse response = client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+        assertThat(client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"))).isSameAs(response);
+        client.describeDBInstances(describeRequest("other-instance", "key"));
+
+        verify(rdsClient, times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void test_describe_SharedAcrossClients() {
+        final DescribeCoalescer coalescer = new DescribeCoalescer(Duration.ofMinutes(1));
+
+        coalescer.decorate(rdsClient).describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+        coalescer.decorate(rdsClient).describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+
+        verify(rdsClient, times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void test_describe_NotSharedAcrossCredentials() {
+        final RdsClient client = new DescribeCoalescer(Duration.ofMinutes(1)).decorate(rdsClient);
+
+        client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+        client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "other-key"));
+
+        verify(rdsClient, times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void test_describe_ExpiredWindow() {
+        final RdsClient client = new DescribeCoalescer(Duration.ZERO).decorate(rdsClient);
+
+        client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+        client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+
+        verify(rdsClient, times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void test_mutation_InvalidatesSameResource() {
+        when(rdsClient.modifyDBInstance(any(ModifyDbInstanceRequest.class))).thenReturn(ModifyDbInstanceResponse.builder().build());
+        final RdsClient client = new DescribeCoalescer(Duration.ofMinutes(1)).decorate(rdsClient);
+
+        client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+        client.describeDBInstances(describeRequest("other-instance", "key"));
+        client.modifyDBInstance(ModifyDbInstanceRequest.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER).build());
+        client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+        client.describeDBInstances(describeRequest("other-instance", "key"));
+
+        verify(rdsClient, times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsClient).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+    }
+
+    @Test
+    public void test_mutation_InvalidatesDescribesRacingTheCall() {
+        final DescribeCoalescer coalescer = new DescribeCoalescer(Duration.ofMinutes(1));
+        final RdsClient client = coalescer.decorate(rdsClient);
+        // another handler reads the instance while the modification is still running
+        when(rdsClient.modifyDBInstance(any(ModifyDbInstanceRequest.class))).thenAnswer(invocation -> {
+            client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+            return ModifyDbInstanceResponse.builder().build();
+        });
+
+        client.modifyDBInstance(ModifyDbInstanceRequest.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER).build());
+        client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+
+        verify(rdsClient, times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsClient).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+    }
+
+    @Test
+    public void test_describe_EvictsExpiredEntries() {
+        final DescribeCoalescer coalescer = new DescribeCoalescer(Duration.ZERO);
+        final RdsClient client = coalescer.decorate(rdsClient);
+
+        client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+        client.describeDBInstances(describeRequest("other-instance", "key"));
+        client.describeDBInstances(describeRequest("third-instance", "key"));
+
+        assertThat(coalescer.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_mutation_InvalidatesByArn() {
+        when(rdsClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+        when(rdsClient.addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(AddTagsToResourceResponse.builder().build());
+        final RdsClient client = new DescribeCoalescer(Duration.ofMinutes(1)).decorate(rdsClient);
+
+        client.listTagsForResource(ListTagsForResourceRequest.builder().resourceName(DB_INSTANCE_ARN).build());
+        client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+        client.addTagsToResource(AddTagsToResourceRequest.builder().resourceName(DB_INSTANCE_ARN).build());
+        client.listTagsForResource(ListTagsForResourceRequest.builder().resourceName(DB_INSTANCE_ARN).build());
+        client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"));
+
+        verify(rdsClient, times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(rdsClient, times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void test_describe_FailureNotMemoized() {
+        when(rdsClient.describeDBInstances(any(DescribeDbInstancesRequest.class)))
+                .thenThrow(RdsException.builder().message("throttled").build())
+                .thenReturn(DescribeDbInstancesResponse.builder().build());
+        final RdsClient client = new DescribeCoalescer(Duration.ofMinutes(1)).decorate(rdsClient);
+
+        assertThatThrownBy(() -> client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key")))
+                .isInstanceOf(RdsException.class);
+        assertThat(client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key"))).isNotNull();
+
+        verify(rdsClient, times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void test_describe_CoalescesConcurrentCalls() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(rdsClient.describeDBInstances(any(DescribeDbInstancesRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return DescribeDbInstancesResponse.builder().build();
+        });
+        final RdsClient client = new DescribeCoalescer(Duration.ZERO).decorate(rdsClient);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<DescribeDbInstancesResponse> first = executor.submit(() -> client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key")));
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            final Future<DescribeDbInstancesResponse> second = executor.submit(() -> client.describeDBInstances(describeRequest(DB_INSTANCE_IDENTIFIER, "key")));
+            // Give the second caller time to join the in-flight call before it completes.
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(second.get(10, TimeUnit.SECONDS)).isSameAs(first.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(rdsClient, times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    private static DescribeDbInstancesRequest describeRequest(final String dbInstanceIdentifier, final String accessKeyId) {
+        return DescribeDbInstancesRequest.builder()
+                .dbInstanceIdentifier(dbInstanceIdentifier)
+                .overrideConfiguration(configuration -> configuration.credentialsProvider(
+                        StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKeyId, "secret"))))
+                .build();
+    }
+}
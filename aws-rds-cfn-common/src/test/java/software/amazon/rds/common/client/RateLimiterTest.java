@@ -0,0 +1,103 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.metrics.CallMetrics;
+
+public class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void test_tokenBucket_StartsFull() {
+        final TokenBucket bucket = new TokenBucket(1, 3, 0);
+
+        assertThat(bucket.reserve(0)).isEqualTo(0);
+        assertThat(bucket.reserve(0)).isEqualTo(0);
+        assertThat(bucket.reserve(0)).isEqualTo(0);
+        assertThat(bucket.reserve(0)).isEqualTo(SECOND);
+        assertThat(bucket.reserve(0)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    public void test_tokenBucket_Refills() {
+        final TokenBucket bucket = new TokenBucket(2, 1, 0);
+
+        assertThat(bucket.reserve(0)).isEqualTo(0);
+        assertThat(bucket.reserve(SECOND / 4)).isEqualTo(SECOND / 4);
+        // An idle bucket refills up to its capacity, not beyond.
+        assertThat(bucket.reserve(10 * SECOND)).isEqualTo(0);
+        assertThat(bucket.reserve(10 * SECOND)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    public void test_tokenBucket_InvalidRate() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void test_acquire_SeparateBuckets() {
+        final RateLimiter rateLimiter = new RateLimiter(1000, 50, 1);
+
+        assertThat(rateLimiter.acquire(ModifyDbInstanceRequest.builder().build())).isEqualTo(0);
+        // The describe bucket is untouched by the mutation above.
+        assertThat(rateLimiter.acquire(DescribeDbInstancesRequest.builder().build())).isEqualTo(0);
+
+        final long waitNanos = rateLimiter.acquire(ModifyDbInstanceRequest.builder().build());
+        assertThat(waitNanos).isGreaterThan(0);
+        assertThat(waitNanos).isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test_proxyClient_AcquiresBeforeInvoke() {
+        final ProxyClient<RdsClient> delegate = mock(ProxyClient.class);
+        final DescribeDbInstancesResponse response = DescribeDbInstancesResponse.builder().build();
+        when(delegate.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any(Function.class))).thenReturn(response);
+        final RateLimiter rateLimiter = new RateLimiter(10, 10);
+        final RdsClient rdsClient = mock(RdsClient.class);
+        final CallMetrics metrics = new CallMetrics();
+        final ProxyClient<RdsClient> proxyClient = new RateLimitedProxyClient<>(delegate, rateLimiter, metrics);
+
+        final DescribeDbInstancesResponse result = proxyClient.injectCredentialsAndInvokeV2(DescribeDbInstancesRequest.builder().build(), rdsClient::describeDBInstances);
+        assertThat(result).isSameAs(response);
+        // The bucket starts full, so the call was not queued.
+        assertThat(metrics.getOperations()).isEmpty();
+        verify(delegate).injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any(Function.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test_proxyClient_RecordsQueuedCalls() {
+        final ProxyClient<RdsClient> delegate = mock(ProxyClient.class);
+        when(delegate.injectCredentialsAndInvokeV2(any(ModifyDbInstanceRequest.class), any(Function.class))).thenReturn(ModifyDbInstanceResponse.builder().build());
+        final RateLimiter rateLimiter = new RateLimiter(1000, 100, 1);
+        final RdsClient rdsClient = mock(RdsClient.class);
+        final CallMetrics metrics = new CallMetrics();
+        final ProxyClient<RdsClient> proxyClient = new RateLimitedProxyClient<>(delegate, rateLimiter, metrics);
+
+        proxyClient.injectCredentialsAndInvokeV2(ModifyDbInstanceRequest.builder().build(), rdsClient::modifyDBInstance);
+        proxyClient.injectCredentialsAndInvokeV2(ModifyDbInstanceRequest.builder().build(), rdsClient::modifyDBInstance);
+
+        final CallMetrics.OperationMetrics operation = metrics.getOperations().get("rds::modify-db-instance");
+        assertThat(operation.getQueuedCalls()).isEqualTo(1);
+        assertThat(operation.getQueuedMillis()).isLessThanOrEqualTo(10);
+    }
+}
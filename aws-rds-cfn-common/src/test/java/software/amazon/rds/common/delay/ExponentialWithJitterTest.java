@@ -0,0 +1,71 @@
+package software.amazon.rds.common.delay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class ExponentialWithJitterTest {
+
+    @Test
+    public void test_nextDelay_DoublesUpToMaxDelay() {
+        final ExponentialWithJitter delay = ExponentialWithJitter.of()
+                .minDelay(Duration.ofSeconds(5))
+                .maxDelay(Duration.ofSeconds(30))
+                .timeout(Duration.ofMinutes(60))
+                .jitter(false)
+                .build();
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(delay.nextDelay(50)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void test_nextDelay_ZeroAfterTimeout() {
+        final ExponentialWithJitter delay = ExponentialWithJitter.of()
+                .minDelay(Duration.ofSeconds(1))
+                .maxDelay(Duration.ofSeconds(4))
+                .timeout(Duration.ofSeconds(15))
+                .jitter(false)
+                .build();
+
+        // 1 + 2 + 4 + 4 = 11, 11 + 4 = 15, 15 + 4 = 19
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(delay.nextDelay(6)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void test_nextDelay_JitterStaysWithinBounds() {
+        final ExponentialWithJitter delay = ExponentialWithJitter.of()
+                .minDelay(Duration.ofSeconds(2))
+                .maxDelay(Duration.ofSeconds(16))
+                .timeout(Duration.ofMinutes(10))
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(2));
+            assertThat(delay.nextDelay(4)).isBetween(Duration.ofSeconds(8), Duration.ofSeconds(16));
+            assertThat(delay.nextDelay(10)).isBetween(Duration.ofSeconds(8), Duration.ofSeconds(16));
+        }
+    }
+
+    @Test
+    public void test_build_InvalidArguments() {
+        assertThatThrownBy(() -> ExponentialWithJitter.of()
+                .minDelay(Duration.ZERO)
+                .maxDelay(Duration.ofSeconds(1))
+                .timeout(Duration.ofSeconds(1))
+                .build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ExponentialWithJitter.of()
+                .minDelay(Duration.ofSeconds(2))
+                .maxDelay(Duration.ofSeconds(1))
+                .timeout(Duration.ofSeconds(10))
+                .build()).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -107,4 +107,71 @@ class ErrorRuleSetTest {
         assertThat(errorRuleSetOrDirect.handle(exception)).isInstanceOf(IgnoreErrorStatus.class);
         assertThat(errorRuleSetOrReverse.handle(exception)).isInstanceOf(HandlerErrorStatus.class);
     }
+
+    @Test
+    void builder_withErrorClasses_Superclass() {
+        final ErrorRuleSet ruleSet = ErrorRuleSet.builder()
+                .withErrorClasses(ErrorStatus.ignore(), RuntimeException.class)
+                .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.InvalidRequest), IllegalArgumentException.class)
+                .build();
+        assertThat(ruleSet.handle(new IllegalStateException())).isInstanceOf(IgnoreErrorStatus.class);
+        assertThat(ruleSet.handle(new NumberFormatException())).isInstanceOf(HandlerErrorStatus.class);
+        assertThat(ruleSet.handle(new Exception())).isInstanceOf(UnexpectedErrorStatus.class);
+    }
+
+    @Test
+    void or_flattened() {
+        final ErrorRuleSet errorRuleSet = ErrorRuleSet.builder()
+                .withErrorClasses(ErrorStatus.ignore(), IllegalStateException.class)
+                .build()
+                .orElse(ErrorRuleSet.builder()
+                        .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.AccessDenied), RuntimeException.class)
+                        .build());
+        assertThat(errorRuleSet).isInstanceOf(CompiledErrorRuleSet.class);
+        assertThat(errorRuleSet.handle(new IllegalStateException())).isSameAs(ErrorStatus.ignore());
+        assertThat(errorRuleSet.handle(new RuntimeException())).isSameAs(ErrorStatus.failWith(HandlerErrorCode.AccessDenied));
+    }
+
+    @Test
+    void or_earlierRuleSetWins_SuperclassOverExactClass() {
+        final ErrorRuleSet errorRuleSet1 = ErrorRuleSet.builder()
+                .withErrorClasses(ErrorStatus.ignore(), RuntimeException.class)
+                .build();
+        final ErrorRuleSet errorRuleSet2 = ErrorRuleSet.builder()
+                .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.AccessDenied), IllegalStateException.class)
+                .build();
+
+        assertThat(errorRuleSet1.orElse(errorRuleSet2).handle(new IllegalStateException())).isInstanceOf(IgnoreErrorStatus.class);
+        assertThat(errorRuleSet2.orElse(errorRuleSet1).handle(new IllegalStateException())).isInstanceOf(HandlerErrorStatus.class);
+    }
+
+    @Test
+    void or_earlierRuleSetWins_CodeOverClass() {
+        final ErrorCode errorCode = ErrorCode.AccessDeniedException;
+        final ErrorRuleSet errorRuleSet1 = ErrorRuleSet.builder()
+                .withErrorCodes(ErrorStatus.ignore(), errorCode)
+                .build();
+        final ErrorRuleSet errorRuleSet2 = ErrorRuleSet.builder()
+                .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.AccessDenied), AwsServiceException.class)
+                .build();
+        final AwsServiceException exception = AwsServiceException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode(errorCode.toString())
+                        .build()
+                ).build();
+
+        assertThat(errorRuleSet1.orElse(errorRuleSet2).handle(exception)).isInstanceOf(IgnoreErrorStatus.class);
+        assertThat(errorRuleSet2.orElse(errorRuleSet1).handle(exception)).isInstanceOf(HandlerErrorStatus.class);
+    }
+
+    @Test
+    void or_nonCompiledRuleSet() {
+        final ErrorRuleSet errorRuleSet = ErrorRuleSet.builder()
+                .withErrorClasses(ErrorStatus.ignore(), IllegalStateException.class)
+                .build()
+                .orElse(exception -> ErrorStatus.failWith(HandlerErrorCode.AccessDenied));
+        assertThat(errorRuleSet).isInstanceOf(OrErrorRuleSet.class);
+        assertThat(errorRuleSet.handle(new IllegalStateException())).isInstanceOf(IgnoreErrorStatus.class);
+        assertThat(errorRuleSet.handle(new RuntimeException())).isInstanceOf(HandlerErrorStatus.class);
+    }
 }
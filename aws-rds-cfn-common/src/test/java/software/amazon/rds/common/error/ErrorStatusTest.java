@@ -14,11 +14,13 @@ class ErrorStatusTest {
         final ErrorStatus errorStatus = ErrorStatus.failWith(errorCode);
         assertThat(errorStatus).isInstanceOf(HandlerErrorStatus.class);
         assertThat(((HandlerErrorStatus)errorStatus).handlerErrorCode).isEqualTo(errorCode);
+        assertThat(ErrorStatus.failWith(errorCode)).isSameAs(errorStatus);
     }
 
     @Test
     void ignore() {
         final ErrorStatus errorStatus = ErrorStatus.ignore();
         assertThat(errorStatus).isInstanceOf(IgnoreErrorStatus.class);
+        assertThat(ErrorStatus.ignore()).isSameAs(errorStatus);
     }
 }
@@ -2,6 +2,8 @@ package software.amazon.rds.common.handler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
@@ -9,10 +11,13 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.error.HandlerErrorStatus;
+import software.amazon.rds.common.error.RetryErrorStatus;
 
 public class CommonsTest {
 
@@ -40,8 +45,9 @@ public class CommonsTest {
     @Test
     public void handle_ThrottlingException() {
         final ErrorStatus status = Commons.DEFAULT_ERROR_RULE_SET.handle(newAwsServiceException(ErrorCode.ThrottlingException));
-        assertThat(status).isInstanceOf(HandlerErrorStatus.class);
-        assertThat(((HandlerErrorStatus) status).getHandlerErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(status).isInstanceOf(RetryErrorStatus.class);
+        assertThat(((RetryErrorStatus) status).getHandlerErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(((RetryErrorStatus) status).getBackoff()).isSameAs(Commons.THROTTLING_BACKOFF);
     }
 
     @Test
@@ -108,6 +114,46 @@ public class CommonsTest {
         assertThat(resultEvent.getErrorCode()).isEqualTo(HandlerErrorCode.InternalFailure);
     }
 
+    @Test
+    public void handleException_RetryWithBackoff() {
+        final StdCallbackContext context = new StdCallbackContext();
+        final ProgressEvent<Void, StdCallbackContext> event = ProgressEvent.progress(null, context);
+        final Exception exception = new RuntimeException("test exception");
+        final ErrorRuleSet ruleSet = ErrorRuleSet.builder()
+                .withErrorClasses(ErrorStatus.retryWithBackoff(Constant.of()
+                        .delay(Duration.ofMillis(1500))
+                        .timeout(Duration.ofSeconds(3))
+                        .build(), HandlerErrorCode.Throttling), RuntimeException.class)
+                .build();
+
+        final ProgressEvent<Void, StdCallbackContext> first = Commons.handleException(event, exception, ruleSet);
+        assertThat(first.isInProgress()).isTrue();
+        assertThat(first.getCallbackDelaySeconds()).isEqualTo(2);
+        assertThat(first.getCallbackContext()).isSameAs(context);
+
+        final ProgressEvent<Void, StdCallbackContext> second = Commons.handleException(event, exception, ruleSet);
+        assertThat(second.isInProgress()).isTrue();
+
+        final ProgressEvent<Void, StdCallbackContext> exhausted = Commons.handleException(event, exception, ruleSet);
+        assertThat(exhausted.isFailed()).isTrue();
+        assertThat(exhausted.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+    }
+
+    @Test
+    public void handleException_RetryWithBackoff_NoContext() {
+        final ProgressEvent<Void, Void> event = new ProgressEvent<>();
+        final ErrorRuleSet ruleSet = ErrorRuleSet.builder()
+                .withErrorClasses(ErrorStatus.retryWithBackoff(Constant.of()
+                        .delay(Duration.ofSeconds(10))
+                        .timeout(Duration.ofSeconds(10))
+                        .build(), HandlerErrorCode.Throttling), RuntimeException.class)
+                .build();
+
+        final ProgressEvent<Void, Void> resultEvent = Commons.handleException(event, new RuntimeException("test exception"), ruleSet);
+        assertThat(resultEvent.isInProgress()).isTrue();
+        assertThat(resultEvent.getCallbackDelaySeconds()).isEqualTo(10);
+    }
+
     private AwsServiceException newAwsServiceException(final ErrorCode errorCode) {
         return AwsServiceException.builder()
                 .awsErrorDetails(AwsErrorDetails.builder()
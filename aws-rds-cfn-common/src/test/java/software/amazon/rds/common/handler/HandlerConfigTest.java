@@ -7,6 +7,7 @@ import java.time.Duration;
 import org.junit.jupiter.api.Test;
 
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.delay.ExponentialWithJitter;
 
 public class HandlerConfigTest {
 
@@ -31,7 +32,17 @@ public class HandlerConfigTest {
     public void test_HandlerConfigBuilder_Defaults() {
         final HandlerConfig config = HandlerConfig.builder().build();
         assertThat(config.isProbingEnabled()).isNotNull();
-        assertThat(config.getBackoff()).isNotNull();
+        assertThat(config.getBackoff()).isInstanceOf(ExponentialWithJitter.class);
+        assertThat(config.getDescribeCacheTtl()).isEqualTo(Duration.ZERO);
+        assertThat(config.getMembershipPollDelay()).isNull();
+        assertThat(config.getStabilizationProfiles()).isNull();
+        assertThat(config.getEngineDefaultParameters()).isNull();
+        assertThat(config.getDescribeCoalescer()).isNull();
+        assertThat(config.getRateLimiter()).isNull();
+        assertThat(config.isListHydrationEnabled()).isFalse();
+        assertThat(config.isBatchRoleUpdatesEnabled()).isFalse();
+        assertThat(config.isCompositeStabilizationEnabled()).isFalse();
+        assertThat(config.isDetachAllGlobalClusterMembers()).isFalse();
     }
 
 }
@@ -3,14 +3,19 @@ package software.amazon.rds.common.handler;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
 import com.google.common.collect.ImmutableMap;
@@ -79,4 +84,65 @@ public class TaggingTest extends ProxyClientTestBase {
         Collection<Tag> result = Tagging.listTagsForResource(proxyRdsClient, "arn");
         assertThat(result).isNotEmpty();
     }
+
+    @Test
+    void diffTags_valueChangeIsAddOnly() {
+        final Tagging.TagChanges tagChanges = Tagging.diffTags(
+                ImmutableMap.of("key1", "value1", "key2", "value2"),
+                ImmutableMap.of("key1", "value1-new", "key3", "value3")
+        );
+        assertThat(tagChanges.getTagsToAdd()).containsExactlyInAnyOrder(
+                Tag.builder().key("key1").value("value1-new").build(),
+                Tag.builder().key("key3").value("value3").build()
+        );
+        assertThat(tagChanges.getTagKeysToRemove()).containsExactly("key2");
+        assertThat(Tagging.diffTags(null, null).isEmpty()).isTrue();
+    }
+
+    @Test
+    void updateTags_noChanges_skipsCalls() {
+        final ProgressEvent<Void, Void> event = new ProgressEvent<>();
+        final Map<String, String> tags = ImmutableMap.of("key1", "value1");
+
+        Tagging.updateTags(proxyRdsClient, "test-arn", event, tags, tags, Commons.DEFAULT_ERROR_RULE_SET);
+
+        verify(rds, never()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(rds, never()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+    }
+
+    @Test
+    void updateTags_chunksRequests() {
+        final ProgressEvent<Void, Void> event = new ProgressEvent<>();
+        final Map<String, String> desiredTags = new HashMap<>();
+        for (int i = 0; i < Tagging.MAX_TAGS_PER_REQUEST + 10; i++) {
+            desiredTags.put("key" + i, "value" + i);
+        }
+        when(proxyRdsClient.client().addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(AddTagsToResourceResponse.builder().build());
+
+        final ProgressEvent<Void, Void> resultEvent = Tagging.updateTags(proxyRdsClient, "test-arn", event, null, desiredTags, Commons.DEFAULT_ERROR_RULE_SET);
+        assertThat(resultEvent.isFailed()).isFalse();
+
+        final ArgumentCaptor<AddTagsToResourceRequest> captor = ArgumentCaptor.forClass(AddTagsToResourceRequest.class);
+        verify(rds, times(2)).addTagsToResource(captor.capture());
+        assertThat(captor.getAllValues().get(0).tags()).hasSize(Tagging.MAX_TAGS_PER_REQUEST);
+        assertThat(captor.getAllValues().get(1).tags()).hasSize(10);
+        verify(rds, never()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+    }
+
+    @Test
+    void reconcileTags_usesSingleSnapshot() {
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tagList(Tag.builder().key("key1").value("value1").build(),
+                                Tag.builder().key("key2").value("value2").build())
+                        .build());
+        when(proxyRdsClient.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(RemoveTagsFromResourceResponse.builder().build());
+
+        final Tagging.TagChanges tagChanges = Tagging.reconcileTags(proxyRdsClient, "test-arn", ImmutableMap.of("key1", "value1"));
+
+        assertThat(tagChanges.getTagKeysToRemove()).containsExactly("key2");
+        verify(rds, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(rds, times(1)).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(rds, never()).addTagsToResource(any(AddTagsToResourceRequest.class));
+    }
 }
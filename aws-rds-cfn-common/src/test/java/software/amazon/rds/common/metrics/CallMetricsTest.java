@@ -0,0 +1,101 @@
+package software.amazon.rds.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.RdsException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.client.InstrumentedProxyClient;
+
+public class CallMetricsTest {
+
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void test_operationName() {
+        assertThat(CallMetrics.operationName(ModifyDbInstanceRequest.builder().build())).isEqualTo("rds::modify-db-instance");
+        assertThat(CallMetrics.operationName(DescribeDbInstancesRequest.builder().build())).isEqualTo("rds::describe-db-instances");
+    }
+
+    @Test
+    public void test_record() {
+        final CallMetrics metrics = new CallMetrics();
+        metrics.record("rds::modify-db-instance", 5 * MILLISECOND, throttling());
+        metrics.record("rds::modify-db-instance", 300 * MILLISECOND, null);
+        metrics.record("rds::modify-db-instance", 20 * MILLISECOND, null);
+        metrics.record("rds::modify-db-instance", 20_000 * MILLISECOND, RdsException.builder().build());
+
+        final CallMetrics.OperationMetrics operation = metrics.getOperations().get("rds::modify-db-instance");
+        assertThat(operation.getCalls()).isEqualTo(4);
+        assertThat(operation.getThrottles()).isEqualTo(1);
+        assertThat(operation.getErrors()).isEqualTo(1);
+        assertThat(operation.getRetries()).isEqualTo(1);
+        assertThat(operation.getMinLatencyMillis()).isEqualTo(5);
+        assertThat(operation.getMaxLatencyMillis()).isEqualTo(20_000);
+        assertThat(operation.getTotalLatencyMillis()).isEqualTo(20_325);
+        assertThat(operation.getLatencyBuckets()).containsExactly(1, 1, 0, 0, 0, 1, 0, 0, 0, 0, 1);
+    }
+
+    @Test
+    public void test_toEmf() {
+        final CallMetrics metrics = new CallMetrics();
+        metrics.record("rds::describe-db-instances", 40 * MILLISECOND, null);
+        metrics.record("rds::describe-db-instances", 45 * MILLISECOND, null);
+        metrics.recordQueued("rds::describe-db-instances", 0);
+        metrics.recordQueued("rds::describe-db-instances", 30 * MILLISECOND);
+        metrics.record("rds::modify-db-instance", 120 * MILLISECOND, null);
+
+        final List<String> documents = metrics.toEmf("AWS::RDS::DBInstance", "UpdateHandler", 1000L);
+        assertThat(documents).hasSize(2);
+        assertThat(documents.get(0)).isEqualTo("{\"_aws\":{\"Timestamp\":1000,\"CloudWatchMetrics\":[{\"Namespace\":\"AWS/CloudFormation/RDS\"," +
+                "\"Dimensions\":[[\"ResourceType\",\"Handler\",\"Operation\"]],\"Metrics\":[{\"Name\":\"Calls\",\"Unit\":\"Count\"}," +
+                "{\"Name\":\"Throttles\",\"Unit\":\"Count\"},{\"Name\":\"Errors\",\"Unit\":\"Count\"},{\"Name\":\"Retries\",\"Unit\":\"Count\"}," +
+                "{\"Name\":\"QueuedCalls\",\"Unit\":\"Count\"},{\"Name\":\"QueuedTime\",\"Unit\":\"Milliseconds\"}," +
+                "{\"Name\":\"Latency\",\"Unit\":\"Milliseconds\"}]}]},\"ResourceType\":\"AWS::RDS::DBInstance\",\"Handler\":\"UpdateHandler\"," +
+                "\"Operation\":\"rds::describe-db-instances\",\"Calls\":2,\"Throttles\":0,\"Errors\":0,\"Retries\":0," +
+                "\"QueuedCalls\":1,\"QueuedTime\":30,\"Latency\":{\"Values\":[50],\"Counts\":[2],\"Max\":45,\"Min\":40,\"Sum\":85,\"Count\":2}}");
+        assertThat(documents.get(1)).contains("\"Operation\":\"rds::modify-db-instance\"");
+        assertThat(new CallMetrics().toEmf("AWS::RDS::DBInstance", "UpdateHandler", 1000L)).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test_instrumentedProxyClient() {
+        final ProxyClient<RdsClient> delegate = mock(ProxyClient.class);
+        final RdsClient rdsClient = mock(RdsClient.class);
+        when(delegate.injectCredentialsAndInvokeV2(any(ModifyDbInstanceRequest.class), any(Function.class)))
+                .thenThrow(throttling())
+                .thenReturn(ModifyDbInstanceResponse.builder().build());
+        final CallMetrics metrics = new CallMetrics();
+        final ProxyClient<RdsClient> proxyClient = new InstrumentedProxyClient<>(delegate, metrics);
+
+        assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(ModifyDbInstanceRequest.builder().build(), rdsClient::modifyDBInstance))
+                .isInstanceOf(RdsException.class);
+        proxyClient.injectCredentialsAndInvokeV2(ModifyDbInstanceRequest.builder().build(), rdsClient::modifyDBInstance);
+
+        final CallMetrics.OperationMetrics operation = metrics.getOperations().get("rds::modify-db-instance");
+        assertThat(operation.getCalls()).isEqualTo(2);
+        assertThat(operation.getThrottles()).isEqualTo(1);
+        assertThat(operation.getRetries()).isEqualTo(1);
+    }
+
+    private static RdsException throttling() {
+        return (RdsException) RdsException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                .build();
+    }
+}
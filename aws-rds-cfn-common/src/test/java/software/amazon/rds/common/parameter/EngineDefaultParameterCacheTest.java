@@ -0,0 +1,106 @@
+package software.amazon.rds.common.parameter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.rds.model.ApplyMethod;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+public class EngineDefaultParameterCacheTest {
+
+    private static final String FAMILY = "mysql8.0";
+
+    private static final Parameter STATIC_PARAMETER = Parameter.builder()
+            .parameterName("innodb_buffer_pool_size")
+            .parameterValue("{DBInstanceClassMemory*3/4}")
+            .isModifiable(true)
+            .applyType("static")
+            .dataType("integer")
+            .allowedValues("0-9223372036854775807")
+            .applyMethod(ApplyMethod.PENDING_REBOOT)
+            .source("engine-default")
+            .build();
+
+    private static final Parameter UNSET_PARAMETER = Parameter.builder()
+            .parameterName("auto_increment_offset")
+            .isModifiable(false)
+            .build();
+
+    private static final Map<String, Parameter> PARAMETERS = ImmutableMap.of(
+            STATIC_PARAMETER.parameterName(), STATIC_PARAMETER,
+            UNSET_PARAMETER.parameterName(), UNSET_PARAMETER
+    );
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_get_Miss() {
+        final EngineDefaultParameterCache cache = new EngineDefaultParameterCache();
+        assertThat(cache.get(FAMILY)).isEmpty();
+    }
+
+    @Test
+    public void test_put_Get() {
+        final EngineDefaultParameterCache cache = new EngineDefaultParameterCache();
+        cache.put(FAMILY, PARAMETERS);
+
+        assertThat(cache.get(FAMILY)).contains(PARAMETERS);
+        assertThat(cache.get("postgres13")).isEmpty();
+    }
+
+    @Test
+    public void test_get_EvictsExpired() {
+        final EngineDefaultParameterCache cache = new EngineDefaultParameterCache(Duration.ZERO, null);
+        cache.put(FAMILY, PARAMETERS);
+
+        assertThat(cache.get(FAMILY)).isEmpty();
+    }
+
+    @Test
+    public void test_invalidate() {
+        final EngineDefaultParameterCache cache = new EngineDefaultParameterCache();
+        cache.put(FAMILY, PARAMETERS);
+        cache.invalidate(FAMILY);
+
+        assertThat(cache.get(FAMILY)).isEmpty();
+    }
+
+    @Test
+    public void test_persistence_RoundTrip() {
+        final Path path = tempDir.resolve("engine-defaults.bin");
+        new EngineDefaultParameterCache(Duration.ofHours(1), path).put(FAMILY, PARAMETERS);
+
+        assertThat(path).exists();
+        assertThat(new EngineDefaultParameterCache(Duration.ofHours(1), path).get(FAMILY)).contains(PARAMETERS);
+    }
+
+    @Test
+    public void test_persistence_SkipsExpired() {
+        final Path path = tempDir.resolve("engine-defaults.bin");
+        new EngineDefaultParameterCache(Duration.ofHours(1), path).put(FAMILY, PARAMETERS);
+
+        assertThat(new EngineDefaultParameterCache(Duration.ZERO, path).get(FAMILY)).isEmpty();
+    }
+
+    @Test
+    public void test_persistence_IgnoresCorruptedFile() throws IOException {
+        final Path path = tempDir.resolve("engine-defaults.bin");
+        Files.write(path, new byte[]{1, 2, 3});
+
+        final EngineDefaultParameterCache cache = new EngineDefaultParameterCache(Duration.ofHours(1), path);
+        assertThat(cache.get(FAMILY)).isEmpty();
+
+        cache.put(FAMILY, PARAMETERS);
+        assertThat(new EngineDefaultParameterCache(Duration.ofHours(1), path).get(FAMILY)).contains(PARAMETERS);
+    }
+}
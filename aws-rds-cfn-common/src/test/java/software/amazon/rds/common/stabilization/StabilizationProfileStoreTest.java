@@ -0,0 +1,90 @@
+package software.amazon.rds.common.stabilization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+public class StabilizationProfileStoreTest {
+
+    private static final Constant BACKOFF = Constant.of()
+            .delay(Duration.ofSeconds(10))
+            .timeout(Duration.ofMinutes(60))
+            .build();
+
+    @Test
+    public void test_key() {
+        assertThat(StabilizationProfileStore.key("create-db-instance", "MySQL", "db.t3.micro"))
+                .isEqualTo("create-db-instance/mysql/db.t3.micro");
+        assertThat(StabilizationProfileStore.key("create-db-instance", null, ""))
+                .isEqualTo("create-db-instance/-/-");
+    }
+
+    @Test
+    public void test_record() {
+        final StabilizationProfileStore store = new StabilizationProfileStore();
+        store.record("key", Duration.ofSeconds(200));
+        store.record("key", Duration.ofSeconds(100));
+        store.record("key", Duration.ofSeconds(300));
+
+        final StabilizationProfile profile = store.get("key").get();
+        assertThat(profile.getSamples()).isEqualTo(3);
+        assertThat(profile.getFastest()).isEqualTo(Duration.ofSeconds(100));
+        assertThat(store.get("unknown")).isEmpty();
+    }
+
+    @Test
+    public void test_record_EvictsLeastRecentlyUsed() {
+        final StabilizationProfileStore store = new StabilizationProfileStore(2, 1, Duration.ofMinutes(10));
+        store.record("a", Duration.ofSeconds(1));
+        store.record("b", Duration.ofSeconds(1));
+        store.get("a");
+        store.record("c", Duration.ofSeconds(1));
+
+        assertThat(store.get("a")).isPresent();
+        assertThat(store.get("b")).isEmpty();
+        assertThat(store.get("c")).isPresent();
+    }
+
+    @Test
+    public void test_delayFor_NotEnoughSamples() {
+        final StabilizationProfileStore store = new StabilizationProfileStore();
+        store.record("key", Duration.ofMinutes(4));
+
+        assertThat(store.delayFor("key", BACKOFF)).isSameAs(BACKOFF);
+        assertThat(store.delayFor("unknown", BACKOFF)).isSameAs(BACKOFF);
+    }
+
+    @Test
+    public void test_delayFor_SkipsKnownBusyPeriod() {
+        final StabilizationProfileStore store = new StabilizationProfileStore();
+        store.record("key", Duration.ofMinutes(5));
+        store.record("key", Duration.ofMinutes(4));
+
+        final Delay delay = store.delayFor("key", BACKOFF);
+        assertThat(delay).isInstanceOf(ProfiledDelay.class);
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(192));
+        assertThat(delay.nextDelay(2)).isEqualTo(BACKOFF.nextDelay(1));
+        assertThat(delay.nextDelay(3)).isEqualTo(BACKOFF.nextDelay(2));
+    }
+
+    @Test
+    public void test_delayFor_CapsInitialDelay() {
+        final StabilizationProfileStore store = new StabilizationProfileStore(16, 1, Duration.ofMinutes(2));
+        store.record("key", Duration.ofMinutes(30));
+
+        assertThat(store.delayFor("key", BACKOFF).nextDelay(1)).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    @Test
+    public void test_delayFor_FastOperation() {
+        final StabilizationProfileStore store = new StabilizationProfileStore(16, 1, Duration.ofMinutes(2));
+        store.record("key", Duration.ofSeconds(5));
+
+        assertThat(store.delayFor("key", BACKOFF)).isSameAs(BACKOFF);
+    }
+}
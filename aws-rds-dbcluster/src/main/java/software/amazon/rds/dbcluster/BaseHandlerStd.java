@@ -1,11 +1,13 @@
 package software.amazon.rds.dbcluster;
 
 import com.amazonaws.util.StringUtils;
-import com.google.common.collect.Sets;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.CloudwatchLogsExportConfiguration;
 import software.amazon.awssdk.services.rds.model.DBCluster;
 import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbClusterRoleAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbClusterRoleNotFoundException;
+import software.amazon.awssdk.services.rds.model.InvalidDbClusterStateException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.TerminalException;
@@ -14,9 +16,21 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.client.RateLimiter;
+import software.amazon.rds.common.client.RdsProxyClients;
+import software.amazon.rds.common.delay.ExponentialWithJitter;
+import software.amazon.rds.common.error.ErrorRuleSet;
+import software.amazon.rds.common.error.ErrorStatus;
+import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.handler.Tagging;
+import software.amazon.rds.common.metrics.CallMetrics;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -25,23 +39,63 @@ import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static software.amazon.rds.dbcluster.Translator.*;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     private static final String MESSAGE_FORMAT_FAILED_TO_STABILIZE = "DBCluster %s failed to stabilize.";
+    private static final String ROLE_UPDATE_ADD = "add";
+    private static final String ROLE_UPDATE_REMOVE = "remove";
     protected static final int DBCLUSTER_ID_MAX_LENGTH = 63;
     protected static final int PAUSE_TIME_SECONDS = 60;
-    protected static final Constant BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(120L)).delay(Duration.ofSeconds(30L)).build();
+    protected static final Delay BACKOFF_DELAY = ExponentialWithJitter.of()
+            .minDelay(Duration.ofSeconds(5L))
+            .maxDelay(Duration.ofSeconds(30L))
+            .timeout(Duration.ofMinutes(120L))
+            .build();
+    protected static final RateLimiter RATE_LIMITER = new RateLimiter(
+            RateLimiter.DEFAULT_DESCRIBES_PER_SECOND,
+            RateLimiter.DEFAULT_MUTATIONS_PER_SECOND);
+    // AddRoleToDBCluster keeps failing with DBClusterRoleAlreadyExists for a short while after the old feature shows up as detached.
+    protected static final Delay ROLE_REATTACH_DELAY = Constant.of()
+            .delay(Duration.ofSeconds(10L))
+            .timeout(Duration.ofMinutes(10L))
+            .build();
     protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
 
+    protected static final ErrorRuleSet DEFAULT_DB_CLUSTER_ERROR_RULE_SET = ErrorRuleSet.builder()
+            .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.NotFound),
+                    DbClusterNotFoundException.class)
+            .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.ResourceConflict),
+                    InvalidDbClusterStateException.class)
+            .build()
+            .orElse(Commons.DEFAULT_ERROR_RULE_SET);
+
+    protected static final ErrorRuleSet REATTACH_DB_CLUSTER_ROLE_ERROR_RULE_SET = ErrorRuleSet.builder()
+            .withErrorClasses(ErrorStatus.retryWithBackoff(ROLE_REATTACH_DELAY, HandlerErrorCode.ResourceConflict),
+                    DbClusterRoleAlreadyExistsException.class)
+            .build()
+            .orElse(DEFAULT_DB_CLUSTER_ERROR_RULE_SET);
+
+    protected HandlerConfig config;
+
+    public BaseHandlerStd(final HandlerConfig config) {
+        super();
+        this.config = config;
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                              final ResourceHandlerRequest<ResourceModel> request,
                                                                              final CallbackContext callbackContext,
                                                                              final Logger logger) {
-
-        return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), proxy.newProxy(ClientBuilder::getClient), logger);
+        final CallMetrics metrics = new CallMetrics();
+        try {
+            return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), RdsProxyClients.newProxy(proxy, ClientBuilder::getClient, config, metrics), logger);
+        } finally {
+            metrics.emit(logger, ResourceModel.TYPE_NAME, getClass().getSimpleName());
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(AmazonWebServicesClientProxy proxy,
@@ -93,11 +147,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected ProgressEvent<ResourceModel, CallbackContext> modifyDBCluster(final AmazonWebServicesClientProxy proxy,
                                                                             final ProxyClient<RdsClient> proxyClient,
                                                                             final ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                            final CloudwatchLogsExportConfiguration config) {
+                                                                            final CloudwatchLogsExportConfiguration cloudwatchLogsExportConfiguration) {
         if (progress.getCallbackContext().isModified()) return progress;
         return proxy.initiate("rds::modify-dbcluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-            .translateToServiceRequest((modelRequest) -> modifyDbClusterRequest(modelRequest, config))
-            .backoffDelay(BACKOFF_STRATEGY)
+            .translateToServiceRequest((modelRequest) -> modifyDbClusterRequest(modelRequest, cloudwatchLogsExportConfiguration))
+            .backoffDelay(config.getBackoff())
             .makeServiceCall((dbClusterModifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(dbClusterModifyRequest, proxyInvocation.client()::modifyDBCluster))
             .done((modifyDbClusterRequest, modifyDbClusterResponse, proxyInvocation, resourceModel, callbackContext) ->  {
                 callbackContext.setModified(true);
@@ -124,6 +178,168 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return progress;
     }
 
+    protected ProgressEvent<ResourceModel, CallbackContext> updateAssociatedRoles(final AmazonWebServicesClientProxy proxy,
+                                                                                  final ProxyClient<RdsClient> proxyClient,
+                                                                                  final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                                  final Collection<DBClusterRole> previousRoles,
+                                                                                  final Collection<DBClusterRole> desiredRoles) {
+        final Set<DBClusterRole> rolesToRemove = roleDifference(previousRoles, desiredRoles);
+        final Set<DBClusterRole> rolesToAdd = roleDifference(desiredRoles, previousRoles);
+        if (rolesToRemove.isEmpty() && rolesToAdd.isEmpty()) return progress;
+
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        // an ARN can be attached to a cluster once, so a role that only changes feature is re-attached after the removal
+        final Set<String> roleArnsToRemove = rolesToRemove.stream().map(DBClusterRole::getRoleArn).collect(Collectors.toSet());
+        final List<DBClusterRole> rolesToReattach = rolesToAdd.stream()
+            .filter(role -> roleArnsToRemove.contains(role.getRoleArn()))
+            .collect(Collectors.toList());
+        return proxy.initiate("rds::update-dbcluster-roles", proxyClient, progress.getResourceModel(), callbackContext)
+            .translateToServiceRequest(Function.identity())
+            .backoffDelay(config.getBackoff())
+            .makeServiceCall((model, proxyInvocation) -> {
+                for (final DBClusterRole role : rolesToRemove) {
+                    issueRoleUpdate(callbackContext, ROLE_UPDATE_REMOVE, role, () -> {
+                        try {
+                            proxyInvocation.injectCredentialsAndInvokeV2(
+                                removeRoleFromDbClusterRequest(model.getDBClusterIdentifier(), role.getRoleArn(), role.getFeatureName()),
+                                proxyInvocation.client()::removeRoleFromDBCluster);
+                        } catch (DbClusterRoleNotFoundException e) {
+                            // already detached
+                        }
+                    });
+                }
+                for (final DBClusterRole role : rolesToAdd) {
+                    if (rolesToReattach.contains(role)) continue;
+                    issueRoleUpdate(callbackContext, ROLE_UPDATE_ADD, role, () -> {
+                        try {
+                            proxyInvocation.injectCredentialsAndInvokeV2(
+                                addRoleToDbClusterRequest(model.getDBClusterIdentifier(), role.getRoleArn(), role.getFeatureName()),
+                                proxyInvocation.client()::addRoleToDBCluster);
+                        } catch (DbClusterRoleAlreadyExistsException e) {
+                            // already attached
+                        }
+                    });
+                }
+                return model;
+            })
+            .handleError((model, exception, proxyInvocation, resourceModel, context) ->
+                Commons.handleException(ProgressEvent.progress(resourceModel, context), exception, DEFAULT_DB_CLUSTER_ERROR_RULE_SET))
+            .progress()
+            .then(p -> reattachRoles(proxy, proxyClient, p, rolesToReattach))
+            .then(p -> proxy.initiate("rds::stabilize-dbcluster-roles", proxyClient, p.getResourceModel(), p.getCallbackContext())
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall(EMPTY_CALL)
+                // one describe per poll covers every role in the batch
+                .stabilize((model, response, proxyInvocation, resourceModel, context) ->
+                    isRoleSetStabilized(fetchDBCluster(proxyInvocation, resourceModel), rolesToRemove, rolesToAdd))
+                .handleError((model, exception, proxyInvocation, resourceModel, context) ->
+                    Commons.handleException(ProgressEvent.progress(resourceModel, context), exception, DEFAULT_DB_CLUSTER_ERROR_RULE_SET))
+                .progress());
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> reattachRoles(final AmazonWebServicesClientProxy proxy,
+                                                                        final ProxyClient<RdsClient> proxyClient,
+                                                                        final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                        final List<DBClusterRole> rolesToReattach) {
+        ProgressEvent<ResourceModel, CallbackContext> result = progress;
+        for (final DBClusterRole role : rolesToReattach) {
+            result = result.then(p -> reattachRole(proxy, proxyClient, p, role));
+        }
+        return result;
+    }
+
+    // waits for the cluster to drop the ARN from its old feature, then attaches it for the new one on a call graph of its own
+    private ProgressEvent<ResourceModel, CallbackContext> reattachRole(final AmazonWebServicesClientProxy proxy,
+                                                                       final ProxyClient<RdsClient> proxyClient,
+                                                                       final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                       final DBClusterRole role) {
+        final String roleUpdate = roleUpdate(ROLE_UPDATE_ADD, role);
+        if (progress.getCallbackContext().isRoleUpdateIssued(roleUpdate)) return progress;
+        return proxy.initiate("rds::await-dbcluster-role-released::" + roleUpdate, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            .translateToServiceRequest(Function.identity())
+            .backoffDelay(config.getBackoff())
+            .makeServiceCall(EMPTY_CALL)
+            .stabilize((model, response, proxyInvocation, resourceModel, context) ->
+                isRoleArnReleased(fetchDBCluster(proxyInvocation, resourceModel), context, role))
+            .handleError((model, exception, proxyInvocation, resourceModel, context) ->
+                Commons.handleException(ProgressEvent.progress(resourceModel, context), exception, DEFAULT_DB_CLUSTER_ERROR_RULE_SET))
+            .progress()
+            .then(p -> {
+                if (p.getCallbackContext().isRoleUpdateIssued(roleUpdate)) return p;
+                return proxy.initiate("rds::reattach-dbcluster-role::" + roleUpdate, proxyClient, p.getResourceModel(), p.getCallbackContext())
+                    .translateToServiceRequest(model -> addRoleToDbClusterRequest(model.getDBClusterIdentifier(), role.getRoleArn(), role.getFeatureName()))
+                    .backoffDelay(config.getBackoff())
+                    .makeServiceCall((addRoleRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(addRoleRequest, proxyInvocation.client()::addRoleToDBCluster))
+                    .handleError((addRoleRequest, exception, proxyInvocation, resourceModel, context) ->
+                        Commons.handleException(ProgressEvent.progress(resourceModel, context), exception, REATTACH_DB_CLUSTER_ROLE_ERROR_RULE_SET))
+                    .done((addRoleRequest, addRoleResponse, proxyInvocation, resourceModel, context) -> {
+                        context.markRoleUpdateIssued(roleUpdate);
+                        return ProgressEvent.progress(resourceModel, context);
+                    });
+            });
+    }
+
+    // a cluster that already lists the role under its new feature needs no add
+    private static boolean isRoleArnReleased(final DBCluster dbCluster,
+                                             final CallbackContext context,
+                                             final DBClusterRole role) {
+        final List<software.amazon.awssdk.services.rds.model.DBClusterRole> currentRoles =
+            Optional.ofNullable(dbCluster.associatedRoles()).orElse(Collections.emptyList());
+        if (currentRoles.stream().anyMatch(currentRole -> isSameRole(currentRole, role))) {
+            context.markRoleUpdateIssued(roleUpdate(ROLE_UPDATE_ADD, role));
+            return true;
+        }
+        return currentRoles.stream().noneMatch(currentRole -> currentRole.roleArn().equals(role.getRoleArn()));
+    }
+
+    private static String roleUpdate(final String action, final DBClusterRole role) {
+        return action + ":" + role.getRoleArn() + ":" + role.getFeatureName();
+    }
+
+    protected static Set<DBClusterRole> roleDifference(final Collection<DBClusterRole> roles,
+                                                       final Collection<DBClusterRole> excludedRoles) {
+        final Set<DBClusterRole> difference = new HashSet<>(Optional.ofNullable(roles).orElse(Collections.emptyList()));
+        difference.removeAll(Optional.ofNullable(excludedRoles).orElse(Collections.emptyList()));
+        return difference;
+    }
+
+    private void issueRoleUpdate(final CallbackContext context,
+                                 final String action,
+                                 final DBClusterRole role,
+                                 final Runnable call) {
+        final String roleUpdate = roleUpdate(action, role);
+        if (context.isRoleUpdateIssued(roleUpdate)) return;
+        call.run();
+        context.markRoleUpdateIssued(roleUpdate);
+    }
+
+    protected static boolean isRoleSetStabilized(final DBCluster dbCluster,
+                                                 final Collection<DBClusterRole> rolesToRemove,
+                                                 final Collection<DBClusterRole> rolesToAdd) {
+        final List<software.amazon.awssdk.services.rds.model.DBClusterRole> currentRoles =
+            Optional.ofNullable(dbCluster.associatedRoles()).orElse(Collections.emptyList());
+        // a removed ARN that is re-attached stays listed, just under its new feature
+        final Set<String> roleArnsToAdd = rolesToAdd.stream().map(DBClusterRole::getRoleArn).collect(Collectors.toSet());
+        return rolesToAdd.stream().allMatch(lookupRole -> currentRoles.stream().anyMatch(role -> isSameRole(role, lookupRole))) &&
+            rolesToRemove.stream()
+                .filter(lookupRole -> !roleArnsToAdd.contains(lookupRole.getRoleArn()))
+                .noneMatch(lookupRole -> currentRoles.stream().anyMatch(role -> role.roleArn().equals(lookupRole.getRoleArn())));
+    }
+
+    private static boolean isSameRole(final software.amazon.awssdk.services.rds.model.DBClusterRole role,
+                                      final DBClusterRole lookupRole) {
+        return role.roleArn().equals(lookupRole.getRoleArn()) &&
+            (StringUtils.isNullOrEmpty(role.featureName()) || role.featureName().equals(lookupRole.getFeatureName()));
+    }
+
+    protected DBCluster fetchDBCluster(final ProxyClient<RdsClient> proxyClient, final ResourceModel model) {
+        return proxyClient.injectCredentialsAndInvokeV2(
+            Translator.describeDbClustersRequest(model),
+            proxyClient.client()::describeDBClusters).dbClusters().stream().findFirst()
+            .orElseThrow(() -> new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getDBClusterIdentifier()));
+    }
+
     protected boolean isRoleStabilized(final ProxyClient<RdsClient> proxyClient,
                                        final ResourceModel model,
                                        final software.amazon.rds.dbcluster.DBClusterRole addedRole,
@@ -151,12 +367,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .done((describeDbClusterRequest, describeDbClusterResponse, rdsClientProxyClient, resourceModel, context) -> {
                     final String arn = describeDbClusterResponse.dbClusters().stream().findFirst().get().dbClusterArn();
 
-                    final Set<Tag> currentTags = new HashSet<>(Optional.ofNullable(resourceModel.getTags()).orElse(Collections.emptySet()));
-                    final Set<Tag> existingTags = Translator.translateTagsFromSdk(rdsClientProxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest(arn), rdsClientProxyClient.client()::listTagsForResource).tagList());
-                    final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
-                    final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
-                    rdsClientProxyClient.injectCredentialsAndInvokeV2(removeTagsFromResourceRequest(arn, tagsToRemove), rdsClientProxyClient.client()::removeTagsFromResource);
-                    rdsClientProxyClient.injectCredentialsAndInvokeV2(addTagsToResourceRequest(arn, tagsToAdd), rdsClientProxyClient.client()::addTagsToResource);
+                    Tagging.reconcileTags(rdsClientProxyClient, arn, Tagging.translateTagsToMap(translateTagsToSdk(resourceModel.getTags())));
                     return ProgressEvent.progress(resourceModel, context);
                 });
     }
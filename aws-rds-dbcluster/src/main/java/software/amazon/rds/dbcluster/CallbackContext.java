@@ -1,5 +1,8 @@
 package software.amazon.rds.dbcluster;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -8,4 +11,19 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     private boolean modified;
+
+    private Set<String> issuedRoleUpdates;
+
+    public CallbackContext() {
+        super();
+        this.issuedRoleUpdates = new HashSet<>();
+    }
+
+    public boolean isRoleUpdateIssued(final String roleUpdate) {
+        return this.issuedRoleUpdates.contains(roleUpdate);
+    }
+
+    public void markRoleUpdateIssued(final String roleUpdate) {
+        this.issuedRoleUpdates.add(roleUpdate);
+    }
 }
@@ -0,0 +1,57 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Compares the previous and the desired model of an update and tells which update phases have
+ * something to do. Any property that is neither a tag nor an associated role goes through ModifyDBCluster.
+ */
+public final class ChangeClassifier {
+
+    public enum Change {
+        MODIFY,
+        ROLES,
+        TAGS
+    }
+
+    private ChangeClassifier() {
+    }
+
+    public static Set<Change> classify(final ResourceModel previous, final ResourceModel desired) {
+        final Set<Change> changes = EnumSet.noneOf(Change.class);
+        if (previous == null) {
+            changes.addAll(EnumSet.allOf(Change.class));
+            return changes;
+        }
+        if (!Objects.equals(modifiableProperties(previous), modifiableProperties(desired))) {
+            changes.add(Change.MODIFY);
+        }
+        if (!Objects.equals(asSet(previous.getAssociatedRoles()), asSet(desired.getAssociatedRoles()))) {
+            changes.add(Change.ROLES);
+        }
+        if (!Objects.equals(asSet(previous.getTags()), asSet(desired.getTags()))) {
+            changes.add(Change.TAGS);
+        }
+        return changes;
+    }
+
+    // Roles and tags are reconciled by their own calls, endpoints are read-only.
+    private static ResourceModel modifiableProperties(final ResourceModel model) {
+        return model.toBuilder()
+                .associatedRoles(null)
+                .tags(null)
+                .endpoint(null)
+                .readEndpoint(null)
+                .build();
+    }
+
+    private static <T> Set<T> asSet(final Collection<T> collection) {
+        return new HashSet<>(Optional.ofNullable(collection).orElse(Collections.emptyList()));
+    }
+}
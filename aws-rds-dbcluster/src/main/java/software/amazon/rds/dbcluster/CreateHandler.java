@@ -9,9 +9,21 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.resource.IdentifierUtils;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 public class CreateHandler extends BaseHandlerStd {
 
+    public CreateHandler() {
+        this(HandlerConfig.builder()
+                .backoff(BACKOFF_DELAY)
+                .rateLimiter(RATE_LIMITER)
+                .build());
+    }
+
+    public CreateHandler(final HandlerConfig config) {
+        super(config);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                           final ResourceHandlerRequest<ResourceModel> request,
                                                                           final CallbackContext callbackContext,
@@ -29,7 +41,7 @@ public class CreateHandler extends BaseHandlerStd {
                     // restore to point in time
                     return proxy.initiate("rds::restore-dbcluster-in-time", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::restoreDbClusterToPointInTimeRequest)
-                        .backoffDelay(BACKOFF_STRATEGY)
+                        .backoffDelay(config.getBackoff())
                         .makeServiceCall((dbClusterRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(dbClusterRequest, proxyInvocation.client()::restoreDBClusterToPointInTime))
                         .progress();
                 }
@@ -41,7 +53,7 @@ public class CreateHandler extends BaseHandlerStd {
                     // restore from snapshot
                     return proxy.initiate("rds::restore-dbcluster-snapshot", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::restoreDbClusterFromSnapshotRequest)
-                        .backoffDelay(BACKOFF_STRATEGY)
+                        .backoffDelay(config.getBackoff())
                         .makeServiceCall((dbClusterRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(dbClusterRequest, proxyInvocation.client()::restoreDBClusterFromSnapshot))
                         .progress();
                 }
@@ -54,7 +66,7 @@ public class CreateHandler extends BaseHandlerStd {
                     return proxy
                         .initiate("rds::create-dbcluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::createDbClusterRequest)
-                        .backoffDelay(BACKOFF_STRATEGY)
+                        .backoffDelay(config.getBackoff())
                         .makeServiceCall((dbClusterRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(dbClusterRequest, proxyInvocation.client()::createDBCluster))
                         .progress();
                 }
@@ -69,6 +81,6 @@ public class CreateHandler extends BaseHandlerStd {
             })
             .then(progress -> waitForDBClusterAvailableStatus(proxy, proxyClient, progress))
             .then(progress -> addAssociatedRoles(proxy, proxyClient, progress, progress.getResourceModel().getAssociatedRoles()))
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> new ReadHandler(config).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 }
@@ -6,9 +6,21 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 public class DeleteHandler extends BaseHandlerStd {
 
+    public DeleteHandler() {
+        this(HandlerConfig.builder()
+                .backoff(BACKOFF_DELAY)
+                .rateLimiter(RATE_LIMITER)
+                .build());
+    }
+
+    public DeleteHandler(final HandlerConfig config) {
+        super(config);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                           final ResourceHandlerRequest<ResourceModel> request,
                                                                           final CallbackContext callbackContext,
@@ -17,7 +29,7 @@ public class DeleteHandler extends BaseHandlerStd {
         return proxy.initiate("rds::delete-dbcluster", proxyClient, request.getDesiredResourceState(), callbackContext)
                 // request to delete db cluster
                 .translateToServiceRequest(Translator::deleteDbClusterRequest)
-                .backoffDelay(BACKOFF_STRATEGY)
+                .backoffDelay(config.getBackoff())
                 .makeServiceCall((deleteDbClusterRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(deleteDbClusterRequest, proxyInvocation.client()::deleteDBCluster))
                 // wait until deleted
                 .stabilize((deleteDbClusterRequest, deleteDbClusterResponse, proxyInvocation, model, context) -> isDBClusterStabilized(proxyInvocation, model, DBClusterStatus.Deleted))
@@ -8,11 +8,23 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 import java.util.stream.Collectors;
 
 public class ListHandler extends BaseHandlerStd {
 
+    public ListHandler() {
+        this(HandlerConfig.builder()
+                .backoff(BACKOFF_DELAY)
+                .rateLimiter(RATE_LIMITER)
+                .build());
+    }
+
+    public ListHandler(final HandlerConfig config) {
+        super(config);
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
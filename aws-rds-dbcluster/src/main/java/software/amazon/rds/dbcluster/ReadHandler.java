@@ -10,6 +10,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -18,6 +19,17 @@ import static software.amazon.rds.dbcluster.Translator.listTagsForResourceReques
 
 public class ReadHandler extends BaseHandlerStd {
 
+    public ReadHandler() {
+        this(HandlerConfig.builder()
+                .backoff(BACKOFF_DELAY)
+                .rateLimiter(RATE_LIMITER)
+                .build());
+    }
+
+    public ReadHandler(final HandlerConfig config) {
+        super(config);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                           final ResourceHandlerRequest<ResourceModel> request,
                                                                           final CallbackContext callbackContext,
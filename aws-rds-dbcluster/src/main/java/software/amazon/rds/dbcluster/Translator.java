@@ -11,8 +11,6 @@ import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
 import software.amazon.awssdk.services.rds.model.DeleteDbClusterRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
-import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
-import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.rds.model.ScalingConfigurationInfo;
 import software.amazon.awssdk.services.rds.model.ScalingConfiguration;
 import software.amazon.awssdk.services.rds.model.Tag;
@@ -179,25 +177,6 @@ public class Translator {
                 .build();
     }
 
-    static AddTagsToResourceRequest addTagsToResourceRequest(final String dbClusterParameterGroupArn,
-                                                             final Set<software.amazon.rds.dbcluster.Tag> tags) {
-        return AddTagsToResourceRequest.builder()
-                .resourceName(dbClusterParameterGroupArn)
-                .tags(translateTagsToSdk(tags))
-                .build();
-    }
-
-    static RemoveTagsFromResourceRequest removeTagsFromResourceRequest(final String dbClusterParameterGroupArn,
-                                                                       final Set<software.amazon.rds.dbcluster.Tag> tags) {
-        return RemoveTagsFromResourceRequest.builder()
-                .resourceName(dbClusterParameterGroupArn)
-                .tagKeys(tags
-                        .stream()
-                        .map(software.amazon.rds.dbcluster.Tag::getKey)
-                        .collect(Collectors.toSet()))
-                .build();
-    }
-
     static Set<Tag> translateTagsToSdk(final Collection<software.amazon.rds.dbcluster.Tag> tags) {
         return Optional.ofNullable(tags).orElse(Collections.emptySet())
                 .stream()
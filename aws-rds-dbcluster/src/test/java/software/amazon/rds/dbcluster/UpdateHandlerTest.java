@@ -1,10 +1,15 @@
 package software.amazon.rds.dbcluster;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.junit.jupiter.api.AfterEach;
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DbClusterRoleAlreadyExistsException;
 import software.amazon.awssdk.services.rds.model.DbClusterRoleNotFoundException;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.InvalidDbClusterStateException;
 import software.amazon.awssdk.services.rds.model.AddRoleToDbClusterRequest;
 import software.amazon.awssdk.services.rds.model.AddRoleToDBClusterResponse;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
@@ -12,12 +17,12 @@ import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbClusterRequest;
 import software.amazon.awssdk.services.rds.model.RemoveRoleFromDBClusterResponse;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
-import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
 import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
 import software.amazon.awssdk.services.rds.model.ModifyDbClusterResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
@@ -25,6 +30,8 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -34,7 +41,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verify;
@@ -74,7 +83,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyRdsClient.client().modifyDBCluster(any(ModifyDbClusterRequest.class))).thenReturn(modifyDbClusterResponse);
 
         CallbackContext callbackContext = new CallbackContext();
-        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(RESOURCE_MODEL).build();
+        final ResourceModel previousModel = RESOURCE_MODEL.toBuilder().backtrackWindow(BACKTRACK_WINDOW + 1).build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(previousModel).build();
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
         callbackContext.setModified(true);
 
@@ -101,19 +111,20 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final AddRoleToDBClusterResponse addRoleToDBClusterResponse = AddRoleToDBClusterResponse.builder().build();
         when(proxyRdsClient.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class))).thenReturn(addRoleToDBClusterResponse);
 
-        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeActiveDbClustersResponse);
+        // the role is re-added for the new feature once the previous one is detached
+        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class)))
+                .thenReturn(describeDbClustersResponseWithNoRole, describeActiveDbClustersResponse);
 
         final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
-        final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
-        final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
         when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
-        when(proxyRdsClient.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
-        when(proxyRdsClient.client().addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(addTagsToResourceResponse);
 
         CallbackContext callbackContext = new CallbackContext();
         callbackContext.setModified(true);
 
-        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(RESOURCE_MODEL).build();
+        final ResourceModel previousModel = RESOURCE_MODEL.toBuilder()
+                .associatedRoles(Lists.newArrayList(DBClusterRole.builder().roleArn(ROLE_ARN).featureName("previousFeature").build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(previousModel).build();
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
 
         assertThat(response).isNotNull();
@@ -124,10 +135,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyRdsClient.client(), times(4)).describeDBClusters(any(DescribeDbClustersRequest.class));
-        verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
-        verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(proxyRdsClient.client()).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
+        verify(proxyRdsClient.client()).addRoleToDBCluster(any(AddRoleToDbClusterRequest.class));
+        verify(proxyRdsClient.client(), times(3)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(proxyRdsClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyRdsClient.client(), never()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(proxyRdsClient.client(), never()).addTagsToResource(any(AddTagsToResourceRequest.class));
 
     }
 
@@ -155,17 +168,22 @@ public class UpdateHandlerTest extends AbstractTestBase {
             }
         });
 
-        final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
+        final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder()
+                .tagList(software.amazon.awssdk.services.rds.model.Tag.builder().key("stale-key").value("stale-value").build())
+                .build();
         final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
-        final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
         when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
         when(proxyRdsClient.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
-        when(proxyRdsClient.client().addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(addTagsToResourceResponse);
 
         CallbackContext callbackContext = new CallbackContext();
         callbackContext.setModified(true);
 
-        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(RESOURCE_MODEL).build();
+        final ResourceModel previousModel = RESOURCE_MODEL.toBuilder()
+                .backtrackWindow(BACKTRACK_WINDOW + 1)
+                .associatedRoles(Lists.newArrayList(DBClusterRole.builder().roleArn(ROLE_ARN).featureName("previousFeature").build()))
+                .tags(Sets.newHashSet(Tag.builder().key("stale-key").value("stale-value").build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(previousModel).build();
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
 
         assertThat(response).isNotNull();
@@ -179,7 +197,142 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyRdsClient.client(), times(6)).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
-        verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(proxyRdsClient.client(), never()).addTagsToResource(any(AddTagsToResourceRequest.class));
+
+    }
+
+
+    @Test
+    public void handleRequest_RolesDiff_UnchangedRolesUntouched() {
+        final DescribeDbClustersResponse describeActiveDbClustersResponse = DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE).build();
+        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeActiveDbClustersResponse);
+        when(proxyRdsClient.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class))).thenReturn(RemoveRoleFromDBClusterResponse.builder().build());
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final DBClusterRole staleRole = DBClusterRole.builder().roleArn("staleArn").featureName(ROLE_FEATURE).build();
+        final ResourceModel previousModel = RESOURCE_MODEL.toBuilder()
+                .associatedRoles(Lists.newArrayList(ROLE, staleRole))
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(previousModel).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.isRoleUpdateIssued("remove:staleArn:" + ROLE_FEATURE)).isTrue();
+
+        final ArgumentCaptor<RemoveRoleFromDbClusterRequest> captor = ArgumentCaptor.forClass(RemoveRoleFromDbClusterRequest.class);
+        verify(proxyRdsClient.client()).removeRoleFromDBCluster(captor.capture());
+        assertThat(captor.getValue().roleArn()).isEqualTo("staleArn");
+        verify(proxyRdsClient.client(), never()).addRoleToDBCluster(any(AddRoleToDbClusterRequest.class));
+        verify(proxyRdsClient.client(), times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RoleFeatureSwap() {
+        final DBCluster dbClusterPreviousFeature = DBCLUSTER_ACTIVE.toBuilder()
+                .associatedRoles(software.amazon.awssdk.services.rds.model.DBClusterRole.builder().roleArn(ROLE_ARN).featureName("previousFeature").build())
+                .build();
+        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(
+                DescribeDbClustersResponse.builder().dbClusters(dbClusterPreviousFeature).build(),
+                DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE_NO_ROLE).build(),
+                DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE_NO_ROLE).build(),
+                DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE).build()
+        );
+        when(proxyRdsClient.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class))).thenReturn(RemoveRoleFromDBClusterResponse.builder().build());
+        // the detach is not visible to the first add yet
+        when(proxyRdsClient.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
+                .thenThrow(DbClusterRoleAlreadyExistsException.builder().build())
+                .thenReturn(AddRoleToDBClusterResponse.builder().build());
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ResourceModel previousModel = RESOURCE_MODEL.toBuilder()
+                .associatedRoles(Lists.newArrayList(DBClusterRole.builder().roleArn(ROLE_ARN).featureName("previousFeature").build()))
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(previousModel).build();
+
+        // the rejected add is retried on the next invocation
+        final ProgressEvent<ResourceModel, CallbackContext> retry = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
+        assertThat(retry.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(retry.getCallbackDelaySeconds()).isEqualTo(10);
+        assertThat(callbackContext.isRoleUpdateIssued("add:" + ROLE_ARN + ":" + ROLE_FEATURE)).isFalse();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.isRoleUpdateIssued("add:" + ROLE_ARN + ":" + ROLE_FEATURE)).isTrue();
+
+        final InOrder inOrder = inOrder(proxyRdsClient.client());
+        inOrder.verify(proxyRdsClient.client()).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
+        inOrder.verify(proxyRdsClient.client(), times(2)).addRoleToDBCluster(any(AddRoleToDbClusterRequest.class));
+        verify(proxyRdsClient.client(), times(5)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RoleUpdate_InvalidDbClusterState() {
+        when(proxyRdsClient.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class))).thenThrow(
+                InvalidDbClusterStateException.builder().message("cluster is busy").build());
+
+        final ResourceModel previousModel = RESOURCE_MODEL.toBuilder()
+                .associatedRoles(Lists.newArrayList(ROLE, DBClusterRole.builder().roleArn("staleArn").featureName(ROLE_FEATURE).build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(previousModel).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ResourceConflict);
+
+        verify(proxyRdsClient.client()).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
+        verify(proxyRdsClient.client(), never()).describeDBClusters(any(DescribeDbClustersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_TagsOnly() {
+        final DescribeDbClustersResponse describeActiveDbClustersResponse = DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE).build();
+        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeActiveDbClustersResponse);
+
+        final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder()
+                .tagList(software.amazon.awssdk.services.rds.model.Tag.builder().key("stale-key").value("stale-value").build())
+                .build();
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
+        when(proxyRdsClient.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(RemoveTagsFromResourceResponse.builder().build());
+
+        final ResourceModel previousModel = RESOURCE_MODEL.toBuilder()
+                .tags(Sets.newHashSet(Tag.builder().key("stale-key").value("stale-value").build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(previousModel).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+
+        verify(proxyRdsClient.client(), never()).modifyDBCluster(any(ModifyDbClusterRequest.class));
+        verify(proxyRdsClient.client(), never()).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
+        verify(proxyRdsClient.client(), never()).addRoleToDBCluster(any(AddRoleToDbClusterRequest.class));
+        verify(proxyRdsClient.client(), times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoChanges() {
+        final DescribeDbClustersResponse describeActiveDbClustersResponse = DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE).build();
+        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeActiveDbClustersResponse);
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(RESOURCE_MODEL).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
 
+        verify(proxyRdsClient.client(), never()).modifyDBCluster(any(ModifyDbClusterRequest.class));
+        verify(proxyRdsClient.client(), times(1)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(proxyRdsClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 }
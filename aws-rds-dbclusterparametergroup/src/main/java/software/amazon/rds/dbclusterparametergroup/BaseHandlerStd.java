@@ -1,10 +1,21 @@
 package software.amazon.rds.dbclusterparametergroup;
 
 import com.amazonaws.util.StringUtils;
-import com.google.common.collect.Sets;
+import java.time.Duration;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.Iterables;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
@@ -20,25 +31,49 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.rds.common.client.RateLimiter;
+import software.amazon.rds.common.client.RdsProxyClients;
+import software.amazon.rds.common.delay.ExponentialWithJitter;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.handler.Tagging;
+import software.amazon.rds.common.metrics.CallMetrics;
 
+public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
-import java.util.stream.Collectors;
+    protected static final Delay BACKOFF_DELAY = ExponentialWithJitter.of()
+            .minDelay(Duration.ofSeconds(5L))
+            .maxDelay(Duration.ofSeconds(30L))
+            .timeout(Duration.ofMinutes(120L))
+            .build();
+    protected static final RateLimiter RATE_LIMITER = new RateLimiter(
+            RateLimiter.DEFAULT_DESCRIBES_PER_SECOND,
+            RateLimiter.DEFAULT_MUTATIONS_PER_SECOND);
 
-import static software.amazon.rds.dbclusterparametergroup.Translator.mapToTags;
+    protected static int MAX_LENGTH_GROUP_NAME = 255;
+    protected static final int MAX_PARAMETERS_PER_REQUEST = 20;
 
-public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
 
-    protected static int MAX_LENGTH_GROUP_NAME = 255;
-    protected static int CALLBACK_DELAY_SECONDS = 5 * 60; // 5 min for propagation
-    protected static int NO_CALLBACK_DELAY = 0;
 
+    protected HandlerConfig config;
+
+    public BaseHandlerStd(final HandlerConfig config) {
+        super();
+        this.config = config;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                        final ResourceHandlerRequest<ResourceModel> request,
                                                                        final CallbackContext callbackContext,
                                                                        final Logger logger) {
-        return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), proxy.newProxy(ClientBuilder::getClient), logger);
+        final CallMetrics metrics = new CallMetrics();
+        try {
+            return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), RdsProxyClients.newProxy(proxy, ClientBuilder::getClient, config, metrics), logger);
+        } finally {
+            metrics.emit(logger, ResourceModel.TYPE_NAME, getClass().getSimpleName());
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(AmazonWebServicesClientProxy proxy,
@@ -51,40 +86,130 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                             final ProxyClient<RdsClient> proxyClient,
                                                                             final ResourceModel model,
                                                                             final CallbackContext callbackContext) {
-        if (callbackContext.isParametersApplied()) return ProgressEvent.defaultInProgressHandler(callbackContext, NO_CALLBACK_DELAY, model);
-
-        callbackContext.setParametersApplied(true);
-        ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY_SECONDS, model);
+        if (!callbackContext.isParametersApplied()) {
+            if (!model.getParameters().isEmpty()) {
+                final Map<String, Parameter> parametersToModify = resolveParametersToModify(proxyClient, model);
+
+                int batch = 0;
+                for (final List<Parameter> parameters : Iterables.partition(parametersToModify.values(), MAX_PARAMETERS_PER_REQUEST)) {
+                    final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::modify-db-cluster-parameter-group::" + batch++, proxyClient, model, callbackContext)
+                            .translateToServiceRequest((resourceModel) -> Translator.modifyDbClusterParameterGroupRequest(resourceModel, parameters))
+                            .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::modifyDBClusterParameterGroup))
+                            .progress();
+                    // a rejected batch fails the handler right away, only accepted batches are waited for
+                    if (!progressEvent.isInProgress()) return progressEvent;
+                    parameters.forEach(parameter -> callbackContext.getParametersToPropagate().add(parameter.parameterName()));
+                }
+            }
+            callbackContext.setParametersApplied(true);
+        }
+
+        return waitForParametersPropagated(proxy, proxyClient, model, callbackContext);
+    }
 
-        if (model.getParameters().isEmpty()) return progress;
+    protected ProgressEvent<ResourceModel, CallbackContext> waitForParametersPropagated(final AmazonWebServicesClientProxy proxy,
+                                                                                        final ProxyClient<RdsClient> proxyClient,
+                                                                                        final ResourceModel model,
+                                                                                        final CallbackContext callbackContext) {
+        // nothing was modified or reset, so there is nothing to wait for
+        if (callbackContext.getParametersToPropagate().isEmpty()) return ProgressEvent.progress(model, callbackContext);
+
+        return proxy.initiate("rds::stabilize-db-cluster-parameter-group-parameters", proxyClient, model, callbackContext)
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall(EMPTY_CALL)
+                .stabilize((request, response, proxyInvocation, resourceModel, context) -> isParametersPropagated(proxyInvocation, resourceModel, context))
+                .done((request, response, proxyInvocation, resourceModel, context) -> {
+                    context.getParametersToPropagate().clear();
+                    return ProgressEvent.progress(resourceModel, context);
+                });
+    }
 
-        // check if provided parameter is supported by rds
-        Set<String> paramNames = model.getParameters().keySet();
+    // Modified parameters must be visible as user-set with the requested value, reset ones must no longer be user-set.
+    protected boolean isParametersPropagated(final ProxyClient<RdsClient> proxyClient,
+                                             final ResourceModel model,
+                                             final CallbackContext callbackContext) {
+        final Map<String, Object> parameters = Optional.ofNullable(model.getParameters()).orElse(Collections.emptyMap());
+        final Set<String> parametersToPropagate = callbackContext.getParametersToPropagate();
+        final Set<String> unpropagated = parametersToPropagate.stream()
+                .filter(parameters::containsKey)
+                .collect(Collectors.toSet());
 
         String marker = null;
         do {
+            final DescribeDbClusterParametersResponse dbClusterParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.describeUserDbClusterParametersRequest(model, marker), proxyClient.client()::describeDBClusterParameters);
+            for (final Parameter parameter : dbClusterParametersResponse.parameters()) {
+                final String name = parameter.parameterName();
+                if (!parametersToPropagate.contains(name)) continue;
+                if (!parameters.containsKey(name)) return false;
+                if (String.valueOf(parameters.get(name)).equals(parameter.parameterValue())) unpropagated.remove(name);
+            }
+            marker = dbClusterParametersResponse.marker();
+        } while (!StringUtils.isNullOrEmpty(marker));
+
+        return unpropagated.isEmpty();
+    }
 
+    // Pages through the family catalog once and keeps only the requested parameters that actually change.
+    private Map<String, Parameter> resolveParametersToModify(final ProxyClient<RdsClient> proxyClient,
+                                                             final ResourceModel model) {
+        final Map<String, Object> parameters = model.getParameters();
+        final Set<String> unresolved = new HashSet<>(parameters.keySet());
+        final Map<String, Parameter> parametersToModify = new LinkedHashMap<>();
+
+        String marker = null;
+        do {
             final DescribeDbClusterParametersResponse dbClusterParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
                     Translator.describeDbClusterParametersRequest(model, marker), proxyClient.client()::describeDBClusterParameters);
-
+            for (final Parameter parameter : dbClusterParametersResponse.parameters()) {
+                if (unresolved.remove(parameter.parameterName())) {
+                    Translator.getParameterToModify(parameters, parameter)
+                            .ifPresent(param -> parametersToModify.put(param.parameterName(), param));
+                }
+            }
             marker = dbClusterParametersResponse.marker();
-            final Set<Parameter> params = Translator.getParametersToModify(model, dbClusterParametersResponse.parameters());
+        } while (!unresolved.isEmpty() && !StringUtils.isNullOrEmpty(marker));
+        // if there are parameters left that couldn't be found in rds api then they are invalid
+        if (!unresolved.isEmpty()) throw new CfnInvalidRequestException("Invalid / Unsupported DB Parameter: " + unresolved.iterator().next());
 
-            // if no params need to be modified then skip the api invocation
-            if (params.isEmpty()) continue;
+        return parametersToModify;
+    }
+
+    // Resets only user-set parameters that are no longer requested instead of resetting the whole group.
+    protected ProgressEvent<ResourceModel, CallbackContext> resetParameters(final AmazonWebServicesClientProxy proxy,
+                                                                            final ProxyClient<RdsClient> proxyClient,
+                                                                            final ResourceModel model,
+                                                                            final CallbackContext callbackContext) {
+        if (callbackContext.isParametersApplied()) return ProgressEvent.progress(model, callbackContext);
 
-            // substract set of found and modified params
-            paramNames.removeAll(params.stream().map(Parameter::parameterName).collect(Collectors.toSet()));
+        final Map<String, Object> parameters = Optional.ofNullable(model.getParameters()).orElse(Collections.emptyMap());
+        final List<Parameter> parametersToReset = new ArrayList<>();
 
-            progress = proxy.initiate("rds::modify-db-cluster-parameter-group::" + marker, proxyClient, model, callbackContext)
-                    .translateToServiceRequest((resourceModel) -> Translator.modifyDbClusterParameterGroupRequest(resourceModel, params))
-                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::modifyDBClusterParameterGroup))
-                    .progress(CALLBACK_DELAY_SECONDS);
+        String marker = null;
+        do {
+            final DescribeDbClusterParametersResponse dbClusterParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.describeUserDbClusterParametersRequest(model, marker), proxyClient.client()::describeDBClusterParameters);
+            for (final Parameter parameter : dbClusterParametersResponse.parameters()) {
+                if (!parameters.containsKey(parameter.parameterName())) {
+                    parametersToReset.add(Translator.resetParameter(parameter));
+                }
+            }
+            marker = dbClusterParametersResponse.marker();
         } while (!StringUtils.isNullOrEmpty(marker));
-        // if there are parameters left that couldn't be found in rds api then they are invalid
-        if (!paramNames.isEmpty()) throw new CfnInvalidRequestException("Invalid / Unsupported DB Parameter: " + paramNames.stream().findFirst().get());
 
-        return progress;
+        int batch = 0;
+        for (final List<Parameter> resetBatch : Iterables.partition(parametersToReset, MAX_PARAMETERS_PER_REQUEST)) {
+            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::reset-db-cluster-parameter-group::" + batch++, proxyClient, model, callbackContext)
+                    .translateToServiceRequest((resourceModel) -> Translator.resetDbClusterParameterGroupRequest(resourceModel, resetBatch))
+                    .backoffDelay(config.getBackoff())
+                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::resetDBClusterParameterGroup))
+                    .progress();
+            if (!progressEvent.isInProgress()) return progressEvent;
+            resetBatch.forEach(parameter -> callbackContext.getParametersToPropagate().add(parameter.parameterName()));
+        }
+
+        return ProgressEvent.progress(model, callbackContext);
     }
 
     protected Completed<DescribeDbClusterParameterGroupsRequest,
@@ -114,13 +239,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                         final Map<String, String> tags) {
         final String arn = describeDbClusterParameterGroupsResponse.dbClusterParameterGroups().stream().findFirst().get().dbClusterParameterGroupArn();
 
-        final Set<Tag> currentTags = mapToTags(tags);
-        final Set<Tag> existingTags = listTags(proxyClient, arn);
-        final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
-        final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
-
-        proxyClient.injectCredentialsAndInvokeV2(Translator.removeTagsFromResourceRequest(arn, tagsToRemove), proxyClient.client()::removeTagsFromResource);
-        proxyClient.injectCredentialsAndInvokeV2(Translator.addTagsToResourceRequest(arn, tagsToAdd), proxyClient.client()::addTagsToResource);
+        Tagging.reconcileTags(proxyClient, arn, tags);
         return ProgressEvent.progress(model, callbackContext);
     }
 
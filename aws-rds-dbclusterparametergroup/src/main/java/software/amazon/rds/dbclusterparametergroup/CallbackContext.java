@@ -1,5 +1,8 @@
 package software.amazon.rds.dbclusterparametergroup;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 
@@ -11,4 +14,5 @@ public class CallbackContext extends StdCallbackContext {
     private boolean parametersApplied;
     private String marker;
     private boolean clusterStabilized;
+    private Set<String> parametersToPropagate = new HashSet<>();
 }
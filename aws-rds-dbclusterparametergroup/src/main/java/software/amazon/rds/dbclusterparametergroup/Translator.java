@@ -1,7 +1,6 @@
 package software.amazon.rds.dbclusterparametergroup;
 
 import software.amazon.awssdk.services.rds.model.ApplyMethod;
-import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.rds.model.CreateDbClusterParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbClusterParameterGroupsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbClusterParametersRequest;
@@ -10,7 +9,6 @@ import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ModifyDbClusterParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.ResetDbClusterParameterGroupRequest;
-import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.rds.model.Parameter;
 import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -18,14 +16,14 @@ import software.amazon.cloudformation.exceptions.TerminalException;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public class Translator {
-    private static final int MAX_RECORDS_TO_DESCRIBE = 20;
+    private static final int MAX_RECORDS_TO_DESCRIBE = 100;
+    private static final String PARAMETER_SOURCE_USER = "user";
     private static final String STATIC_TYPE = "static";
     private static final String DYNAMIC_TYPE = "dynamic";
     private static final ApplyMethod IMMEDIATE_APPLY_METHOD = ApplyMethod.IMMEDIATE;;
@@ -50,6 +48,16 @@ public class Translator {
                 .build();
     }
 
+    static DescribeDbClusterParametersRequest describeUserDbClusterParametersRequest(final ResourceModel model,
+                                                                                     final String nextToken) {
+        return DescribeDbClusterParametersRequest.builder()
+                .dbClusterParameterGroupName(model.getDBClusterParameterGroupName())
+                .source(PARAMETER_SOURCE_USER)
+                .marker(nextToken)
+                .maxRecords(MAX_RECORDS_TO_DESCRIBE)
+                .build();
+    }
+
     static DescribeDbClustersRequest describeDbClustersRequest(final String nextToken) {
         return DescribeDbClustersRequest.builder()
             .marker(nextToken)
@@ -78,17 +86,18 @@ public class Translator {
     }
 
     static ModifyDbClusterParameterGroupRequest modifyDbClusterParameterGroupRequest(final ResourceModel model,
-                                                                                     final Set<Parameter> parameters) {
+                                                                                     final Collection<Parameter> parameters) {
         return ModifyDbClusterParameterGroupRequest.builder()
                 .dbClusterParameterGroupName(model.getDBClusterParameterGroupName())
                 .parameters(parameters)
                 .build();
     }
 
-    static ResetDbClusterParameterGroupRequest resetDbClusterParameterGroupRequest(final ResourceModel model) {
+    static ResetDbClusterParameterGroupRequest resetDbClusterParameterGroupRequest(final ResourceModel model,
+                                                                                   final Collection<Parameter> parameters) {
         return ResetDbClusterParameterGroupRequest.builder()
                 .dbClusterParameterGroupName(model.getDBClusterParameterGroupName())
-                .resetAllParameters(true)
+                .parameters(parameters)
                 .build();
     }
 
@@ -98,34 +107,21 @@ public class Translator {
                 .build();
     }
 
-    static AddTagsToResourceRequest addTagsToResourceRequest(final String dbClusterParameterGroupArn,
-                                                             final Set<software.amazon.rds.dbclusterparametergroup.Tag> tags) {
-        return AddTagsToResourceRequest.builder()
-                .resourceName(dbClusterParameterGroupArn)
-                .tags(translateTagsToSdk(tags))
-                .build();
+    // Returns nothing when the parameter already holds the requested value, so no modify entry is built for it.
+    protected static Optional<Parameter> getParameterToModify(final Map<String, Object> parameters,
+                                                              final Parameter parameter) {
+        if (!parameter.isModifiable()) throw new CfnInvalidRequestException("Unmodifiable DB Parameter: " + parameter.parameterName());
+        if (String.valueOf(parameters.get(parameter.parameterName())).equals(parameter.parameterValue())) return Optional.empty();
+        return Optional.of(modifyParameter(parameters, parameter));
     }
 
-    static RemoveTagsFromResourceRequest removeTagsFromResourceRequest(final String dbClusterParameterGroupArn,
-                                                                       final Set<software.amazon.rds.dbclusterparametergroup.Tag> tags) {
-        return RemoveTagsFromResourceRequest.builder()
-                .resourceName(dbClusterParameterGroupArn)
-                .tagKeys(tags
-                        .stream()
-                        .map(software.amazon.rds.dbclusterparametergroup.Tag::getKey)
-                        .collect(Collectors.toSet()))
+    protected static Parameter resetParameter(final Parameter parameter) {
+        return Parameter.builder()
+                .parameterName(parameter.parameterName())
+                .applyMethod(STATIC_TYPE.equalsIgnoreCase(parameter.applyType()) ? PENDING_REBOOT_APPLY_METHOD : IMMEDIATE_APPLY_METHOD)
                 .build();
     }
 
-
-    protected static Set<Parameter> getParametersToModify(final ResourceModel model,
-                                                          final List<Parameter> parameters) {
-        return parameters.stream()
-                .filter(parameter -> model.getParameters().containsKey(parameter.parameterName()))
-                .map(parameter -> modifyParameter(model.getParameters(), parameter))
-                .collect(Collectors.toSet());
-    }
-
     private static Parameter modifyParameter(final Map<String, Object> parameters,
                                                final Parameter parameter) {
         if (!parameter.isModifiable()) throw new CfnInvalidRequestException("Unmodifiable DB Parameter: " + parameter.parameterName());
@@ -164,13 +160,6 @@ public class Translator {
                 .collect(Collectors.toSet());
     }
 
-    static Set<software.amazon.rds.dbclusterparametergroup.Tag> mapToTags(final Map<String, String> tags) {
-        return Optional.of(tags.entrySet()).orElse(Collections.emptySet())
-                .stream()
-                .map(entry -> software.amazon.rds.dbclusterparametergroup.Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
-                .collect(Collectors.toSet());
-    }
-
     static Set<software.amazon.rds.dbclusterparametergroup.Tag> translateTagsFromSdk(final Collection<Tag> tags) {
         return Optional.ofNullable(tags).orElse(Collections.emptySet())
                 .stream()
@@ -1,6 +1,5 @@
 package software.amazon.rds.dbclusterparametergroup;
 
-import java.time.Duration;
 import java.util.Arrays;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.RdsException;
@@ -12,13 +11,24 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 public class UpdateHandler extends BaseHandlerStd {
+
     private static final String AVAILABLE = "available";
     private static final String ACCESS_DENIED_ERROR_CODE = "AccessDenied";
     public static final String STABILIZATION_PERMISSION_MESSAGE = "Could not stabilize on AWS::RDS::DBClusterParameterGroup. IAM permissions rds:DescribeDBClusters is required to stabilize on RDS DBClusterParameterGroup updates.";
-    protected static final Constant BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(120L)).delay(Duration.ofSeconds(30L)).build();
+
+    public UpdateHandler() {
+        this(HandlerConfig.builder()
+                .backoff(BACKOFF_DELAY)
+                .rateLimiter(RATE_LIMITER)
+                .build());
+    }
+
+    public UpdateHandler(final HandlerConfig config) {
+        super(config);
+    }
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
@@ -31,11 +41,11 @@ public class UpdateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(model, callbackContext)
             .then(progress -> {
                 if (!parametersUpdated) return progress; // if same params then skip update
-                return proxy.initiate("rds::update-db-cluster-parameter-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(Translator::resetDbClusterParameterGroupRequest)
-                    .backoffDelay(BACKOFF_STRATEGY)
-                    .makeServiceCall((resetGroupRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(resetGroupRequest, proxyInvocation.client()::resetDBClusterParameterGroup))
-                    .done((resetGroupRequest, resetGroupResponse, proxyInvocation, resourceModel, context) -> applyParameters(proxy, proxyInvocation, resourceModel, context));
+                return resetParameters(proxy, proxyClient, progress.getResourceModel(), progress.getCallbackContext());
+            })
+            .then(progress -> {
+                if (!parametersUpdated) return progress;
+                return applyParameters(proxy, proxyClient, progress.getResourceModel(), progress.getCallbackContext());
             })
             .then(progress -> {
                 if (!parametersUpdated) return progress; // if same params then skip stabilization
@@ -75,6 +85,6 @@ public class UpdateHandler extends BaseHandlerStd {
             .then(progress ->
                 describeDbClusterParameterGroup(proxy, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                     .done((paramGroupRequest, paramGroupResponse, rdsProxyClient, resourceModel, cxt) -> tagResource(paramGroupResponse, proxyClient, resourceModel, cxt, request.getDesiredResourceTags())))
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> new ReadHandler(config).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 }
@@ -29,20 +29,28 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.handler.HandlerConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -138,7 +146,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    public void handleRequest_SimpleInProgress() {
+    public void handleRequest_SimpleSuccessWithParameters() {
         final CreateHandler handler = new CreateHandler();
         final CreateDbClusterParameterGroupResponse createDbClusterParameterGroupResponse = CreateDbClusterParameterGroupResponse.builder().build();
         when(rds.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class))).thenReturn(createDbClusterParameterGroupResponse);
@@ -155,9 +163,12 @@ public class CreateHandlerTest extends AbstractTestBase {
                                 .isModifiable(true)
                                 .applyType("dynamic")
                                 .build()).build();
-        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenReturn(describeDbClusterParametersResponse);
+        mockDescribeDbClusterParameters(describeDbClusterParametersResponse, DescribeDbClusterParametersResponse.builder()
+                .parameters(userParameters(PARAMS))
+                .build());
         final ModifyDbClusterParameterGroupResponse modifyDbClusterParameterGroupResponse = ModifyDbClusterParameterGroupResponse.builder().build();
         when(rds.modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class))).thenReturn(modifyDbClusterParameterGroupResponse);
+        mockReadDbClusterParameterGroup();
 
         RESOURCE_MODEL.setDBClusterParameterGroupName("sampleName");
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -169,21 +180,23 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
 
         assertThat(response).isNotNull();
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackContext()).isNotNull();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(300);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext()).isNull();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
-        verify(proxyRdsClient.client()).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+        verify(proxyRdsClient.client(), times(2)).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyRdsClient.client()).modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class));
     }
 
 
     @Test
-    public void handleRequest_SimpleInProgressFailed() {
+    public void handleRequest_SimpleSuccessUnknownApplyType() {
         final CreateHandler handler = new CreateHandler();
         final CreateDbClusterParameterGroupResponse createDbClusterParameterGroupResponse = CreateDbClusterParameterGroupResponse.builder().build();
         when(rds.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class))).thenReturn(createDbClusterParameterGroupResponse);
@@ -200,9 +213,12 @@ public class CreateHandlerTest extends AbstractTestBase {
                                 .isModifiable(true)
                                 .applyType("new")
                                 .build()).build();
-        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenReturn(describeDbClusterParametersResponse);
+        mockDescribeDbClusterParameters(describeDbClusterParametersResponse, DescribeDbClusterParametersResponse.builder()
+                .parameters(userParameters(PARAMS))
+                .build());
         final ModifyDbClusterParameterGroupResponse modifyDbClusterParameterGroupResponse = ModifyDbClusterParameterGroupResponse.builder().build();
         when(rds.modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class))).thenReturn(modifyDbClusterParameterGroupResponse);
+        mockReadDbClusterParameterGroup();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .clientRequestToken("token")
@@ -213,15 +229,18 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
 
         assertThat(response).isNotNull();
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackContext()).isNotNull();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(300);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext()).isNull();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
-        verify(proxyRdsClient.client()).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+        verify(proxyRdsClient.client(), times(2)).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyRdsClient.client()).modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class));
     }
 
     @Test
@@ -279,4 +298,155 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
         verify(proxyRdsClient.client()).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
     }
+
+    @Test
+    public void handleRequest_ResolvesParametersInSinglePass() {
+        final CreateHandler handler = new CreateHandler();
+        when(rds.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class))).thenReturn(CreateDbClusterParameterGroupResponse.builder().build());
+
+        final Map<String, Object> params = new HashMap<>();
+        final List<Parameter> page = new ArrayList<>();
+        for (int i = 0; i < 46; i++) {
+            params.put("param" + i, "value");
+            page.add(Parameter.builder()
+                    .parameterName("param" + i)
+                    .parameterValue(i == 0 ? "value" : "system_value")
+                    .isModifiable(true)
+                    .applyType("dynamic")
+                    .build());
+        }
+        page.add(Parameter.builder().parameterName("other").isModifiable(false).applyType("static").build());
+        // All requested parameters are on the first page, so the marker is never followed.
+        mockDescribeDbClusterParameters(DescribeDbClusterParametersResponse.builder()
+                .parameters(page)
+                .marker("marker")
+                .build(), DescribeDbClusterParametersResponse.builder()
+                .parameters(userParameters(params))
+                .build());
+        when(rds.modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class))).thenReturn(ModifyDbClusterParameterGroupResponse.builder().build());
+        mockReadDbClusterParameterGroup();
+
+        RESOURCE_MODEL.setDBClusterParameterGroupName("sampleName");
+        RESOURCE_MODEL.setParameters(params);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceState(RESOURCE_MODEL)
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .stackId(StackId)
+                .logicalResourceIdentifier("logicalId").build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(RESOURCE_MODEL.getParameters()).hasSize(46);
+
+        final ArgumentCaptor<DescribeDbClusterParametersRequest> describeCaptor = ArgumentCaptor.forClass(DescribeDbClusterParametersRequest.class);
+        verify(proxyRdsClient.client(), times(2)).describeDBClusterParameters(describeCaptor.capture());
+        assertThat(describeCaptor.getAllValues()).extracting(DescribeDbClusterParametersRequest::maxRecords).containsOnly(100);
+        assertThat(describeCaptor.getAllValues()).extracting(DescribeDbClusterParametersRequest::source).containsExactly(null, "user");
+
+        final ArgumentCaptor<ModifyDbClusterParameterGroupRequest> modifyCaptor = ArgumentCaptor.forClass(ModifyDbClusterParameterGroupRequest.class);
+        verify(proxyRdsClient.client(), times(3)).modifyDBClusterParameterGroup(modifyCaptor.capture());
+        assertThat(modifyCaptor.getAllValues()).extracting(modify -> modify.parameters().size()).containsExactly(20, 20, 5);
+        assertThat(modifyCaptor.getAllValues()).flatExtracting(ModifyDbClusterParameterGroupRequest::parameters)
+                .extracting(Parameter::parameterName)
+                .doesNotContain("param0", "other");
+        verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SkipsPropagationWhenUnchanged() {
+        final CreateHandler handler = new CreateHandler();
+        when(rds.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class))).thenReturn(CreateDbClusterParameterGroupResponse.builder().build());
+        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenReturn(DescribeDbClusterParametersResponse.builder()
+                .parameters(userParameters(PARAMS))
+                .build());
+        mockReadDbClusterParameterGroup();
+
+        RESOURCE_MODEL.setDBClusterParameterGroupName("sampleName");
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceState(RESOURCE_MODEL)
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .stackId(StackId)
+                .logicalResourceIdentifier("logicalId").build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WaitsForParameterPropagation() {
+        final CreateHandler handler = new CreateHandler(HandlerConfig.builder()
+                .backoff(Constant.of().delay(Duration.ofMillis(1)).timeout(Duration.ofSeconds(10)).build())
+                .build());
+        when(rds.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class))).thenReturn(CreateDbClusterParameterGroupResponse.builder().build());
+        final DescribeDbClusterParametersResponse catalog = DescribeDbClusterParametersResponse.builder()
+                .parameters(Parameter.builder().parameterName("param").parameterValue("system_value").isModifiable(true).applyType("dynamic").build(),
+                        Parameter.builder().parameterName("param2").parameterValue("system_value").isModifiable(true).applyType("dynamic").build())
+                .build();
+        final DescribeDbClusterParametersResponse stale = DescribeDbClusterParametersResponse.builder()
+                .parameters(Parameter.builder().parameterName("param").parameterValue("value").source("user").build())
+                .build();
+        final DescribeDbClusterParametersResponse propagated = DescribeDbClusterParametersResponse.builder()
+                .parameters(userParameters(PARAMS))
+                .build();
+        mockDescribeDbClusterParameters(catalog, stale, propagated);
+        when(rds.modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class))).thenReturn(ModifyDbClusterParameterGroupResponse.builder().build());
+        mockReadDbClusterParameterGroup();
+
+        RESOURCE_MODEL.setDBClusterParameterGroupName("sampleName");
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceState(RESOURCE_MODEL)
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .stackId(StackId)
+                .logicalResourceIdentifier("logicalId").build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client()).modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client(), times(3)).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    private void mockDescribeDbClusterParameters(final DescribeDbClusterParametersResponse catalog,
+                                                 final DescribeDbClusterParametersResponse... userParameters) {
+        final AtomicInteger userDescribes = new AtomicInteger();
+        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenAnswer(invocation -> {
+            final DescribeDbClusterParametersRequest request = invocation.getArgument(0);
+            if (request.source() == null) {
+                return catalog;
+            }
+            return userParameters[Math.min(userDescribes.getAndIncrement(), userParameters.length - 1)];
+        });
+    }
+
+    private void mockReadDbClusterParameterGroup() {
+        when(rds.describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class))).thenReturn(DescribeDbClusterParameterGroupsResponse.builder()
+                .dbClusterParameterGroups(DBClusterParameterGroup.builder().dbClusterParameterGroupArn("arn").build())
+                .build());
+        when(rds.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+    }
+
+    private static List<Parameter> userParameters(final Map<String, Object> parameters) {
+        return parameters.entrySet().stream()
+                .map(entry -> Parameter.builder()
+                        .parameterName(entry.getKey())
+                        .parameterValue(String.valueOf(entry.getValue()))
+                        .isModifiable(true)
+                        .applyType("dynamic")
+                        .source("user")
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
@@ -6,10 +6,16 @@ import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.ApplyMethod;
 import software.amazon.awssdk.services.rds.model.DBCluster;
 import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbClusterParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClusterParametersResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.Parameter;
 import software.amazon.awssdk.services.rds.model.RdsException;
 import software.amazon.awssdk.services.rds.model.ResetDbClusterParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.ResetDbClusterParameterGroupResponse;
@@ -19,7 +25,6 @@ import software.amazon.awssdk.services.rds.model.DBClusterParameterGroup;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
-import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
 import software.amazon.awssdk.services.rds.model.Tag;
@@ -31,18 +36,21 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verify;
@@ -74,7 +82,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     @AfterEach
     public void post_execute() {
-        verify(rds, atLeastOnce()).serviceName();
+        // Stabilization-only passes never go through proxy.initiate, which is what queries the service name.
+        verify(rds, atLeast(0)).serviceName();
         verifyNoMoreInteractions(proxyRdsClient.client());
     }
 
@@ -125,8 +134,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         callbackContext.setParametersApplied(true);
         callbackContext.setClusterStabilized(true);
 
-        final ResetDbClusterParameterGroupResponse resetDbClusterParameterGroupResponse = ResetDbClusterParameterGroupResponse.builder().build();
-        when(rds.resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class))).thenReturn(resetDbClusterParameterGroupResponse);
         final DescribeDbClusterParameterGroupsResponse describeDbClusterParameterGroupsResponse = DescribeDbClusterParameterGroupsResponse.builder()
                 .dbClusterParameterGroups(DBClusterParameterGroup.builder()
                 .dbClusterParameterGroupArn("arn").build()).build();
@@ -134,8 +141,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
         when(rds.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
-        final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
-        when(rds.removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
         final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
         when(rds.addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(addTagsToResourceResponse);
 
@@ -149,10 +154,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyRdsClient.client()).resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client(), never()).resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class));
         verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
         verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(proxyRdsClient.client(), never()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
     }
 
@@ -167,8 +172,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .dbClusterParameterGroup("SampleName")
             .status("available").build();
 
-        final ResetDbClusterParameterGroupResponse resetDbClusterParameterGroupResponse = ResetDbClusterParameterGroupResponse.builder().build();
-        when(rds.resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class))).thenReturn(resetDbClusterParameterGroupResponse);
         final DescribeDbClustersResponse describeDbClustersResponse = DescribeDbClustersResponse.builder()
             .dbClusters(Lists.newArrayList(dbCluster))
             .marker("token")
@@ -186,7 +189,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyRdsClient.client()).resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client(), never()).resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class));
         verify(proxyRdsClient.client()).describeDBClusters(any(DescribeDbClustersRequest.class));
     }
 
@@ -197,8 +200,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         callbackContext.setParametersApplied(true);
         callbackContext.setClusterStabilized(false);
 
-        final ResetDbClusterParameterGroupResponse resetDbClusterParameterGroupResponse = ResetDbClusterParameterGroupResponse.builder().build();
-        when(rds.resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class))).thenReturn(resetDbClusterParameterGroupResponse);
         when(rds.describeDBClusters(any(DescribeDbClustersRequest.class))).thenThrow(RdsException.builder()
                 .statusCode(404)
                 .awsErrorDetails(AwsErrorDetails.builder()
@@ -219,8 +220,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         callbackContext.setParametersApplied(true);
         callbackContext.setClusterStabilized(false);
 
-        final ResetDbClusterParameterGroupResponse resetDbClusterParameterGroupResponse = ResetDbClusterParameterGroupResponse.builder().build();
-        when(rds.resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class))).thenReturn(resetDbClusterParameterGroupResponse);
         when(rds.describeDBClusters(any(DescribeDbClustersRequest.class))).thenThrow(RdsException.builder()
                 .message("DBClusterIdentifier doesn't refer to an existing DB cluster")
                 .statusCode(404)
@@ -237,8 +236,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         callbackContext.setParametersApplied(true);
         callbackContext.setClusterStabilized(false);
 
-        final ResetDbClusterParameterGroupResponse resetDbClusterParameterGroupResponse = ResetDbClusterParameterGroupResponse.builder().build();
-        when(rds.resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class))).thenReturn(resetDbClusterParameterGroupResponse);
         when(rds.describeDBClusters(any(DescribeDbClustersRequest.class))).thenThrow(RdsException.builder()
                 .awsErrorDetails(AwsErrorDetails.builder().errorCode(ACCESS_DENIED_ERROR_CODE).build())
                 .build()
@@ -253,10 +250,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder()
                 .tagList(Tag.builder().key("key").value("value").build()).build();
         when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
-        final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
-        when(rds.removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
-        final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
-        when(rds.addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(addTagsToResourceResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, requestUpdParams, callbackContext, proxyRdsClient, logger);
 
@@ -269,12 +262,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyRdsClient.client()).resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client(), never()).resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class));
         verify(proxyRdsClient.client()).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
         verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
-        verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(proxyRdsClient.client(), never()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(proxyRdsClient.client(), never()).addTagsToResource(any(AddTagsToResourceRequest.class));
     }
 
     @Test
@@ -288,8 +281,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .dbClusterParameterGroup("SampleName")
             .status("available").build();
 
-        final ResetDbClusterParameterGroupResponse resetDbClusterParameterGroupResponse = ResetDbClusterParameterGroupResponse.builder().build();
-        when(rds.resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class))).thenReturn(resetDbClusterParameterGroupResponse);
         final DescribeDbClustersResponse describeDbClustersResponse = DescribeDbClustersResponse.builder()
             .dbClusters(Lists.newArrayList(dbCluster))
             .build();
@@ -304,10 +295,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder()
             .tagList(Tag.builder().key("key").value("value").build()).build();
         when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
-        final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
-        when(rds.removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
-        final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
-        when(rds.addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(addTagsToResourceResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, requestUpdParams, callbackContext, proxyRdsClient, logger);
 
@@ -320,12 +307,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyRdsClient.client()).resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client(), never()).resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class));
         verify(proxyRdsClient.client()).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
         verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
-        verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(proxyRdsClient.client(), never()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(proxyRdsClient.client(), never()).addTagsToResource(any(AddTagsToResourceRequest.class));
     }
 
     @Test
@@ -339,8 +326,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .dbClusterParameterGroup("SampleName")
             .status("modifying").build();
 
-        final ResetDbClusterParameterGroupResponse resetDbClusterParameterGroupResponse = ResetDbClusterParameterGroupResponse.builder().build();
-        when(rds.resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class))).thenReturn(resetDbClusterParameterGroupResponse);
         final DescribeDbClustersResponse describeDbClustersResponse = DescribeDbClustersResponse.builder()
             .dbClusters(Lists.newArrayList(dbCluster))
             .build();
@@ -357,7 +342,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyRdsClient.client()).resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client(), never()).resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class));
         verify(proxyRdsClient.client()).describeDBClusters(any(DescribeDbClustersRequest.class));
     }
 
@@ -374,8 +359,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
         when(rds.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
-        final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
-        when(rds.removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
         final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
         when(rds.addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(addTagsToResourceResponse);
 
@@ -391,7 +374,116 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
         verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(proxyRdsClient.client(), never()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ResetsOnlyStaleUserParameters() {
+        final AtomicBoolean applied = new AtomicBoolean();
+        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenAnswer(invocation -> {
+            final DescribeDbClusterParametersRequest request = invocation.getArgument(0);
+            assertThat(request.maxRecords()).isEqualTo(100);
+            if ("user".equals(request.source()) && applied.get()) {
+                return DescribeDbClusterParametersResponse.builder()
+                        .parameters(Parameter.builder().parameterName("param").parameterValue("value").applyType("dynamic").source("user").build())
+                        .build();
+            }
+            if ("user".equals(request.source())) {
+                return DescribeDbClusterParametersResponse.builder()
+                        .parameters(
+                                Parameter.builder().parameterName("param").parameterValue("old").applyType("dynamic").source("user").build(),
+                                Parameter.builder().parameterName("stale").parameterValue("value").applyType("static").source("user").build()
+                        ).build();
+            }
+            return DescribeDbClusterParametersResponse.builder()
+                    .parameters(
+                            Parameter.builder().parameterName("param").parameterValue("old").isModifiable(true).applyType("dynamic").build(),
+                            Parameter.builder().parameterName("param2").parameterValue("value").isModifiable(true).applyType("dynamic").build()
+                    ).build();
+        });
+        when(rds.resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class))).thenReturn(ResetDbClusterParameterGroupResponse.builder().build());
+        when(rds.modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class))).thenAnswer(invocation -> {
+            applied.set(true);
+            return ModifyDbClusterParameterGroupResponse.builder().build();
+        });
+        when(rds.describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class))).thenReturn(DescribeDbClusterParameterGroupsResponse.builder()
+                .dbClusterParameterGroups(DBClusterParameterGroup.builder().dbClusterParameterGroupArn("arn").build())
+                .build());
+        when(rds.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+        when(rds.addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(AddTagsToResourceResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setClusterStabilized(true);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, requestUpdParams, callbackContext, proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ArgumentCaptor<ResetDbClusterParameterGroupRequest> resetCaptor = ArgumentCaptor.forClass(ResetDbClusterParameterGroupRequest.class);
+        verify(proxyRdsClient.client()).resetDBClusterParameterGroup(resetCaptor.capture());
+        assertThat(resetCaptor.getValue().resetAllParameters()).isNull();
+        assertThat(resetCaptor.getValue().parameters()).containsExactly(
+                Parameter.builder().parameterName("stale").applyMethod(ApplyMethod.PENDING_REBOOT).build());
+
+        final ArgumentCaptor<ModifyDbClusterParameterGroupRequest> modifyCaptor = ArgumentCaptor.forClass(ModifyDbClusterParameterGroupRequest.class);
+        verify(proxyRdsClient.client()).modifyDBClusterParameterGroup(modifyCaptor.capture());
+        assertThat(modifyCaptor.getValue().parameters()).extracting(Parameter::parameterName).containsExactly("param");
+
+        // user-set lookup for resets, catalog resolution and one propagation check
+        verify(proxyRdsClient.client(), times(3)).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
+        verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
     }
+
+    @Test
+    public void handleRequest_ModifyRejected_FailsWithoutWaiting() {
+        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenAnswer(invocation -> {
+            final DescribeDbClusterParametersRequest request = invocation.getArgument(0);
+            if ("user".equals(request.source())) {
+                return DescribeDbClusterParametersResponse.builder().build();
+            }
+            return DescribeDbClusterParametersResponse.builder()
+                    .parameters(
+                            Parameter.builder().parameterName("param").parameterValue("old").isModifiable(true).applyType("dynamic").build(),
+                            Parameter.builder().parameterName("param2").parameterValue("old").isModifiable(true).applyType("dynamic").build()
+                    ).build();
+        });
+        when(rds.modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class))).thenThrow(invalidParameterValue());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, requestUpdParams, callbackContext, proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(callbackContext.getParametersToPropagate()).isEmpty();
+
+        verify(proxyRdsClient.client()).modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class));
+        // user-set lookup for resets and catalog resolution, no propagation check
+        verify(proxyRdsClient.client(), times(2)).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ResetRejected_Fails() {
+        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenReturn(DescribeDbClusterParametersResponse.builder()
+                .parameters(Parameter.builder().parameterName("stale").parameterValue("value").applyType("static").source("user").build())
+                .build());
+        when(rds.resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class))).thenThrow(invalidParameterValue());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, requestUpdParams, callbackContext, proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(callbackContext.getParametersToPropagate()).isEmpty();
+
+        verify(proxyRdsClient.client()).resetDBClusterParameterGroup(any(ResetDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client(), never()).modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+    }
+
+    private static AwsServiceException invalidParameterValue() {
+        return RdsException.builder()
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("InvalidParameterValue").build())
+                .build();
+    }
 }
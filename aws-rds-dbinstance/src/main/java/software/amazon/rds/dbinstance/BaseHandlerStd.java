@@ -1,5 +1,7 @@
 package software.amazon.rds.dbinstance;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -12,9 +14,9 @@ import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import com.amazonaws.util.CollectionUtils;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsResponse;
 import software.amazon.awssdk.services.ec2.model.SecurityGroup;
@@ -48,17 +50,26 @@ import software.amazon.awssdk.services.rds.model.SnapshotQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.StorageQuotaExceededException;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.cloudformation.resource.IdentifierUtils;
+import software.amazon.rds.common.client.InstrumentedProxyClient;
+import software.amazon.rds.common.client.RateLimiter;
+import software.amazon.rds.common.client.RdsProxyClients;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
+import software.amazon.rds.common.error.IgnoreErrorStatus;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.metrics.CallMetrics;
+import software.amazon.rds.common.stabilization.StabilizationProfileStore;
+import software.amazon.rds.dbinstance.util.CachingRdsProxyClient;
 import software.amazon.rds.dbinstance.util.ProgressEventLambda;
 import software.amazon.rds.dbinstance.util.VoidBiFunction;
 
@@ -69,6 +80,15 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected static final int RESOURCE_ID_MAX_LENGTH = 63;
 
+    // Below the 5s minimum of the default backoff, so consecutive stabilization polls never share a cached describe.
+    protected static final Duration DESCRIBE_CACHE_TTL = Duration.ofSeconds(2);
+    protected static final RateLimiter RATE_LIMITER = new RateLimiter(
+            RateLimiter.DEFAULT_DESCRIBES_PER_SECOND,
+            RateLimiter.DEFAULT_MUTATIONS_PER_SECOND);
+
+    // Shared across invocations served by the same handler process.
+    protected static final StabilizationProfileStore STABILIZATION_PROFILES = new StabilizationProfileStore();
+
     protected static final List<String> SQLSERVER_ENGINES_WITH_MIRRORING = Arrays.asList(
             "sqlserver-ee",
             "sqlserver-se"
@@ -76,6 +96,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> NOOP_CALL = (model, proxyClient) -> model;
 
+    protected static final Delay ROLE_DETACH_BACKOFF = Constant.of()
+            .delay(Duration.ofSeconds(10))
+            .timeout(Duration.ofMinutes(10))
+            .build();
+
+    protected static final String ROLE_UPDATE_ADD = "add";
+    protected static final String ROLE_UPDATE_REMOVE = "remove";
+
     protected static final ErrorRuleSet DEFAULT_DB_INSTANCE_ERROR_RULE_SET = ErrorRuleSet.builder()
             .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.ServiceLimitExceeded),
                     ErrorCode.InstanceQuotaExceeded,
@@ -187,6 +215,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             .build()
             .orElse(DEFAULT_DB_INSTANCE_ERROR_RULE_SET);
 
+    // A detach can take a while to reach the add path after describe already stopped listing the ARN.
+    protected static final ErrorRuleSet HELD_BACK_ROLE_ADD_ERROR_RULE_SET = ErrorRuleSet.builder()
+            .withErrorClasses(ErrorStatus.retryWithBackoff(ROLE_DETACH_BACKOFF, HandlerErrorCode.ResourceConflict),
+                    DbInstanceRoleAlreadyExistsException.class)
+            .build()
+            .orElse(DEFAULT_DB_INSTANCE_ERROR_RULE_SET);
+
     protected static final ErrorRuleSet DELETE_DB_INSTANCE_ERROR_RULE_SET = ErrorRuleSet.builder()
             .withErrorCodes(ErrorStatus.ignore(),
                     ErrorCode.InvalidParameterValue)
@@ -226,19 +261,59 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext context,
             final Logger logger) {
-        return handleRequest(
+        final CallMetrics metrics = new CallMetrics();
+        try {
+            return handleRequest(proxy, request, context, logger, metrics);
+        } finally {
+            metrics.emit(logger, ResourceModel.TYPE_NAME, getClass().getSimpleName());
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext context,
+            final Logger logger,
+            final CallMetrics metrics) {
+        final ProxyClient<Ec2Client> ec2ProxyClient = new InstrumentedProxyClient<>(proxy.newProxy(Ec2ClientBuilder::getClient), metrics);
+        if (config.getDescribeCacheTtl().isZero()) {
+            return handleRequest(
+                    proxy,
+                    request,
+                    context != null ? context : new CallbackContext(),
+                    RdsProxyClients.newProxy(proxy, RdsClientBuilder::getClient, config, metrics),
+                    ec2ProxyClient,
+                    logger);
+        }
+        final CachingRdsProxyClient rdsProxyClient = new CachingRdsProxyClient(
+                RdsProxyClients.newProxy(proxy, RdsClientBuilder::getClient, config, metrics),
+                config.getDescribeCacheTtl()
+        );
+        final ProgressEvent<ResourceModel, CallbackContext> progress = handleRequest(
                 proxy,
                 request,
                 context != null ? context : new CallbackContext(),
-                proxy.newProxy(RdsClientBuilder::getClient),
-                proxy.newProxy(Ec2ClientBuilder::getClient),
+                rdsProxyClient,
+                ec2ProxyClient,
                 logger);
+        logger.log(String.format("DescribeDBInstances cache: %d hits, %d misses",
+                rdsProxyClient.getHits(), rdsProxyClient.getMisses()));
+        return progress;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> waitForDbInstanceAvailableStatus(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> rdsProxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress
+    ) {
+        return waitForDbInstanceAvailableStatus(proxy, rdsProxyClient, progress, null);
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> waitForDbInstanceAvailableStatus(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final String operation
     ) {
         return proxy.initiate(
                 "rds::stabilize-db-instance-" + getClass().getSimpleName(),
@@ -247,9 +322,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 progress.getCallbackContext()
         )
                 .translateToServiceRequest(Function.identity())
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(stabilizationDelay(operation, progress.getResourceModel()))
                 .makeServiceCall(NOOP_CALL)
-                .stabilize((request, response, proxyInvocation, model, context) -> isDbInstanceStabilized(proxyInvocation, model))
+                .stabilize((request, response, proxyInvocation, model, context) -> withStabilizationProfile(
+                        context,
+                        operation,
+                        model,
+                        () -> isDbInstanceStabilized(proxyInvocation, model)
+                ))
                 .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
                         ProgressEvent.progress(resourceModel, context),
                         exception,
@@ -258,6 +338,42 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .progress();
     }
 
+    protected Delay stabilizationDelay(final String operation, final ResourceModel model) {
+        final StabilizationProfileStore profiles = config.getStabilizationProfiles();
+        if (profiles == null || operation == null) {
+            return config.getBackoff();
+        }
+        return profiles.delayFor(stabilizationProfileKey(operation, model), config.getBackoff());
+    }
+
+    protected boolean withStabilizationProfile(
+            final CallbackContext context,
+            final String operation,
+            final ResourceModel model,
+            final Supplier<Boolean> checker
+    ) {
+        final StabilizationProfileStore profiles = config.getStabilizationProfiles();
+        if (profiles == null || operation == null) {
+            return checker.get();
+        }
+        context.startStabilization(operation, Instant.now().toEpochMilli());
+        final boolean check = checker.get();
+        if (check) {
+            final Long startedAt = context.finishStabilization(operation);
+            if (startedAt != null) {
+                profiles.record(
+                        stabilizationProfileKey(operation, model),
+                        Duration.ofMillis(Instant.now().toEpochMilli() - startedAt)
+                );
+            }
+        }
+        return check;
+    }
+
+    private String stabilizationProfileKey(final String operation, final ResourceModel model) {
+        return StabilizationProfileStore.key(operation, model.getEngine(), model.getDBInstanceClass());
+    }
+
     protected boolean withProbing(
             final CallbackContext context,
             final String probeName,
@@ -366,8 +482,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return isDbInstanceRoleStabilized(
                 rdsProxyClient,
                 model,
-                (roles) -> roles.anyMatch(role -> role.roleArn().equals(lookupRole.getRoleArn()) &&
-                        (role.featureName() == null || role.featureName().equals(lookupRole.getFeatureName())))
+                (roles) -> roles.anyMatch(role -> isSameRole(role, lookupRole))
         );
     }
 
@@ -383,50 +498,252 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         );
     }
 
-    protected void addNewTags(
+    protected ProgressEvent<ResourceModel, CallbackContext> updateAssociatedRoles(
+            final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> rdsProxyClient,
-            final String arn,
-            final Collection<Tag> tagsToAdd
+            ProgressEvent<ResourceModel, CallbackContext> progress,
+            Collection<DBInstanceRole> previousRoles,
+            Collection<DBInstanceRole> desiredRoles
     ) {
-        if (CollectionUtils.isNullOrEmpty(tagsToAdd)) {
-            return;
+        final Set<DBInstanceRole> rolesToRemove = roleDifference(previousRoles, desiredRoles);
+        final Set<DBInstanceRole> rolesToAdd = roleDifference(desiredRoles, previousRoles);
+
+        if (config.isBatchRoleUpdatesEnabled()) {
+            if (rolesToRemove.isEmpty() && rolesToAdd.isEmpty()) {
+                return progress;
+            }
+            return progress
+                    .then(p -> issueRoleUpdates(proxy, rdsProxyClient, p, rolesToRemove, rolesToAdd))
+                    .then(p -> waitForDbInstanceRolesStabilized(proxy, rdsProxyClient, p, rolesToRemove, rolesToAdd));
         }
-        rdsProxyClient.injectCredentialsAndInvokeV2(
-                Translator.addTagsToResourceRequest(arn, tagsToAdd),
-                rdsProxyClient.client()::addTagsToResource
-        );
+
+        return progress
+                .then(p -> removeOldRoles(proxy, rdsProxyClient, p, rolesToRemove))
+                .then(p -> addNewRoles(proxy, rdsProxyClient, p, rolesToAdd));
+    }
+
+    protected static Set<DBInstanceRole> roleDifference(
+            final Collection<DBInstanceRole> roles,
+            final Collection<DBInstanceRole> excludedRoles
+    ) {
+        final Set<DBInstanceRole> difference = new HashSet<>(Optional.ofNullable(roles).orElse(Collections.emptyList()));
+        difference.removeAll(Optional.ofNullable(excludedRoles).orElse(Collections.emptyList()));
+        return difference;
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> issueRoleUpdates(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Collection<DBInstanceRole> rolesToRemove,
+            final Collection<DBInstanceRole> rolesToAdd
+    ) {
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        // A role that moves to another feature keeps its ARN, it can only be re-added once the old association is gone.
+        final Set<String> roleArnsToRemove = rolesToRemove.stream()
+                .map(DBInstanceRole::getRoleArn)
+                .collect(Collectors.toSet());
+        return proxy.initiate("rds::update-db-instance-roles", rdsProxyClient, progress.getResourceModel(), callbackContext)
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall((model, proxyInvocation) -> {
+                    for (final DBInstanceRole role : rolesToRemove) {
+                        issueRoleUpdate(callbackContext, ROLE_UPDATE_REMOVE, role, () -> proxyInvocation.injectCredentialsAndInvokeV2(
+                                Translator.removeRoleFromDbInstanceRequest(model, role),
+                                proxyInvocation.client()::removeRoleFromDBInstance
+                        ));
+                    }
+                    for (final DBInstanceRole role : rolesToAdd) {
+                        if (roleArnsToRemove.contains(role.getRoleArn())) {
+                            continue;
+                        }
+                        issueRoleUpdate(callbackContext, ROLE_UPDATE_ADD, role, () -> proxyInvocation.injectCredentialsAndInvokeV2(
+                                Translator.addRoleToDbInstanceRequest(model, role),
+                                proxyInvocation.client()::addRoleToDBInstance
+                        ));
+                    }
+                    return model;
+                })
+                .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
+                        ProgressEvent.progress(resourceModel, context),
+                        exception,
+                        UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET
+                ))
+                .progress()
+                .then(p -> addHeldBackRoles(proxy, rdsProxyClient, p, rolesToAdd.stream()
+                        .filter(role -> roleArnsToRemove.contains(role.getRoleArn()))
+                        .collect(Collectors.toList())));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> addHeldBackRoles(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Collection<DBInstanceRole> heldBackRoles
+    ) {
+        ProgressEvent<ResourceModel, CallbackContext> result = progress;
+        for (final DBInstanceRole role : heldBackRoles) {
+            result = result.then(p -> addRoleOnceDetached(proxy, rdsProxyClient, p, role));
+        }
+        return result;
+    }
+
+    // Each held-back role waits for its ARN on its own call graph, the add is only marked issued once the service accepts it.
+    private ProgressEvent<ResourceModel, CallbackContext> addRoleOnceDetached(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final DBInstanceRole role
+    ) {
+        final String roleUpdate = roleUpdate(ROLE_UPDATE_ADD, role);
+        if (progress.getCallbackContext().isRoleUpdateIssued(roleUpdate)) {
+            return progress;
+        }
+        return proxy.initiate("rds::await-db-instance-role-detached::" + roleUpdate, rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall(NOOP_CALL)
+                .stabilize((request, response, proxyInvocation, model, context) -> isDbInstanceRoleArnDetached(
+                        proxyInvocation, model, context, role
+                ))
+                .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
+                        ProgressEvent.progress(resourceModel, context),
+                        exception,
+                        UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET
+                ))
+                .progress()
+                .then(p -> addHeldBackRole(proxy, rdsProxyClient, p, role));
     }
 
-    protected void removeOldTags(
+    private ProgressEvent<ResourceModel, CallbackContext> addHeldBackRole(
+            final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> rdsProxyClient,
-            final String arn,
-            final Collection<Tag> tagsToRemove
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final DBInstanceRole role
+    ) {
+        final String roleUpdate = roleUpdate(ROLE_UPDATE_ADD, role);
+        if (progress.getCallbackContext().isRoleUpdateIssued(roleUpdate)) {
+            return progress;
+        }
+        return proxy.initiate("rds::add-db-instance-role::" + roleUpdate, rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(model -> Translator.addRoleToDbInstanceRequest(model, role))
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                        request,
+                        proxyInvocation.client()::addRoleToDBInstance
+                ))
+                .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
+                        ProgressEvent.progress(resourceModel, context),
+                        exception,
+                        HELD_BACK_ROLE_ADD_ERROR_RULE_SET
+                ))
+                .done((request, response, proxyInvocation, model, context) -> {
+                    context.markRoleUpdateIssued(roleUpdate);
+                    return ProgressEvent.progress(model, context);
+                });
+    }
+
+    // The old feature has let go of the ARN. A role already attached for the new feature needs no add at all.
+    private boolean isDbInstanceRoleArnDetached(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ResourceModel model,
+            final CallbackContext context,
+            final DBInstanceRole role
+    ) {
+        final List<software.amazon.awssdk.services.rds.model.DBInstanceRole> currentRoles = Optional.ofNullable(
+                fetchDBInstance(rdsProxyClient, model).associatedRoles()
+        ).orElse(Collections.emptyList());
+        if (currentRoles.stream().anyMatch(currentRole -> isSameRole(currentRole, role))) {
+            context.markRoleUpdateIssued(roleUpdate(ROLE_UPDATE_ADD, role));
+            return true;
+        }
+        return currentRoles.stream().noneMatch(currentRole -> currentRole.roleArn().equals(role.getRoleArn()));
+    }
+
+    private static String roleUpdate(final String action, final DBInstanceRole role) {
+        return action + ":" + role.getRoleArn() + ":" + role.getFeatureName();
+    }
+
+    private void issueRoleUpdate(
+            final CallbackContext context,
+            final String action,
+            final DBInstanceRole role,
+            final Runnable call
     ) {
-        if (CollectionUtils.isNullOrEmpty(tagsToRemove)) {
+        final String roleUpdate = roleUpdate(action, role);
+        if (context.isRoleUpdateIssued(roleUpdate)) {
             return;
         }
-        rdsProxyClient.injectCredentialsAndInvokeV2(
-                Translator.removeTagsFromResourceRequest(arn, tagsToRemove),
-                rdsProxyClient.client()::removeTagsFromResource
-        );
+        try {
+            call.run();
+        } catch (RuntimeException exception) {
+            // An already detached role counts as issued, anything else aborts the batch.
+            if (!(UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET.handle(exception) instanceof IgnoreErrorStatus)) {
+                throw exception;
+            }
+            // The ARN may still be attached for another feature, so an add is only confirmed against the attached roles.
+            if (exception instanceof DbInstanceRoleAlreadyExistsException) {
+                return;
+            }
+        }
+        context.markRoleUpdateIssued(roleUpdate);
     }
 
-    protected ProgressEvent<ResourceModel, CallbackContext> updateAssociatedRoles(
+    protected ProgressEvent<ResourceModel, CallbackContext> waitForDbInstanceRolesStabilized(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> rdsProxyClient,
-            ProgressEvent<ResourceModel, CallbackContext> progress,
-            Collection<DBInstanceRole> previousRoles,
-            Collection<DBInstanceRole> desiredRoles
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Collection<DBInstanceRole> rolesToRemove,
+            final Collection<DBInstanceRole> rolesToAdd
     ) {
-        final Set<DBInstanceRole> rolesToRemove = new HashSet<>(Optional.ofNullable(previousRoles).orElse(Collections.emptyList()));
-        final Set<DBInstanceRole> rolesToAdd = new HashSet<>(Optional.ofNullable(desiredRoles).orElse(Collections.emptyList()));
+        return proxy.initiate("rds::stabilize-db-instance-roles", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall(NOOP_CALL)
+                .stabilize((request, response, proxyInvocation, model, context) -> isDbInstanceRoleSetStabilized(
+                        proxyInvocation, model, rolesToRemove, rolesToAdd
+                ))
+                .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
+                        ProgressEvent.progress(resourceModel, context),
+                        exception,
+                        UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET
+                ))
+                .progress();
+    }
 
-        rolesToAdd.removeAll(Optional.ofNullable(previousRoles).orElse(Collections.emptyList()));
-        rolesToRemove.removeAll(Optional.ofNullable(desiredRoles).orElse(Collections.emptyList()));
+    protected boolean isDbInstanceRoleSetStabilized(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ResourceModel model,
+            final Collection<DBInstanceRole> rolesToRemove,
+            final Collection<DBInstanceRole> rolesToAdd
+    ) {
+        return isRoleSetStabilized(fetchDBInstance(rdsProxyClient, model), rolesToRemove, rolesToAdd);
+    }
 
-        return progress
-                .then(p -> removeOldRoles(proxy, rdsProxyClient, p, rolesToRemove))
-                .then(p -> addNewRoles(proxy, rdsProxyClient, p, rolesToAdd));
+    protected static boolean isRoleSetStabilized(
+            final DBInstance dbInstance,
+            final Collection<DBInstanceRole> rolesToRemove,
+            final Collection<DBInstanceRole> rolesToAdd
+    ) {
+        final List<software.amazon.awssdk.services.rds.model.DBInstanceRole> currentRoles = Optional.ofNullable(
+                dbInstance.associatedRoles()
+        ).orElse(Collections.emptyList());
+        // A role re-attached for another feature keeps its ARN, so only the ARNs that are not re-added have to disappear.
+        final Set<String> roleArnsToAdd = rolesToAdd.stream()
+                .map(DBInstanceRole::getRoleArn)
+                .collect(Collectors.toSet());
+        return rolesToAdd.stream().allMatch(lookupRole -> currentRoles.stream().anyMatch(role -> isSameRole(role, lookupRole))) &&
+                rolesToRemove.stream()
+                        .filter(lookupRole -> !roleArnsToAdd.contains(lookupRole.getRoleArn()))
+                        .noneMatch(lookupRole -> currentRoles.stream().anyMatch(role -> role.roleArn().equals(lookupRole.getRoleArn())));
+    }
+
+    private static boolean isSameRole(
+            final software.amazon.awssdk.services.rds.model.DBInstanceRole role,
+            final DBInstanceRole lookupRole
+    ) {
+        return role.roleArn().equals(lookupRole.getRoleArn()) &&
+                (role.featureName() == null || role.featureName().equals(lookupRole.getFeatureName()));
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> addNewRoles(
@@ -518,7 +835,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProxyClient<RdsClient> rdsProxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
-        return reboot(proxy, rdsProxyClient, progress).then(p -> waitForDbInstanceAvailableStatus(proxy, rdsProxyClient, p));
+        return reboot(proxy, rdsProxyClient, progress).then(p -> waitForDbInstanceAvailableStatus(proxy, rdsProxyClient, p, "reboot-db-instance"));
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> ensureEngineSet(
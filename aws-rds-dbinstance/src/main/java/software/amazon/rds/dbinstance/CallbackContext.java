@@ -1,7 +1,9 @@
 package software.amazon.rds.dbinstance;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
@@ -17,10 +19,14 @@ public class CallbackContext extends StdCallbackContext {
     private boolean rebooted;
 
     private Map<String, Integer> probes;
+    private Map<String, Long> stabilizationStartedAt;
+    private Set<String> issuedRoleUpdates;
 
     public CallbackContext() {
         super();
         this.probes = new HashMap<>();
+        this.stabilizationStartedAt = new HashMap<>();
+        this.issuedRoleUpdates = new HashSet<>();
     }
 
     public int getProbes(final String sampleName) {
@@ -34,4 +40,20 @@ public class CallbackContext extends StdCallbackContext {
     public void flushProbes(final String sampleName) {
         this.probes.remove(sampleName);
     }
+
+    public void startStabilization(final String operation, final long startedAt) {
+        this.stabilizationStartedAt.putIfAbsent(operation, startedAt);
+    }
+
+    public Long finishStabilization(final String operation) {
+        return this.stabilizationStartedAt.remove(operation);
+    }
+
+    public boolean isRoleUpdateIssued(final String roleUpdate) {
+        return this.issuedRoleUpdates.contains(roleUpdate);
+    }
+
+    public void markRoleUpdateIssued(final String roleUpdate) {
+        this.issuedRoleUpdates.add(roleUpdate);
+    }
 }
@@ -27,7 +27,13 @@ public class CreateHandler extends BaseHandlerStd {
     public static final String ILLEGAL_DELETION_POLICY_ERR = "DeletionPolicy:Snapshot cannot be specified for a cluster instance, use deletion policy on the cluster instead.";
 
     public CreateHandler() {
-        this(HandlerConfig.builder().probingEnabled(true).build());
+        this(HandlerConfig.builder()
+                .probingEnabled(true)
+                .describeCacheTtl(DESCRIBE_CACHE_TTL)
+                .stabilizationProfiles(STABILIZATION_PROFILES)
+                .batchRoleUpdatesEnabled(true)
+                .rateLimiter(RATE_LIMITER)
+                .build());
     }
 
     public CreateHandler(final HandlerConfig config) {
@@ -104,13 +110,17 @@ public class CreateHandler extends BaseHandlerStd {
                 progress.getResourceModel(),
                 progress.getCallbackContext()
         ).translateToServiceRequest(Translator::createDbInstanceRequest)
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(stabilizationDelay("create-db-instance", progress.getResourceModel()))
                 .makeServiceCall((createRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         createRequest,
                         proxyInvocation.client()::createDBInstance
                 ))
-                .stabilize((request, response, proxyInvocation, model, context) ->
-                        isDbInstanceStabilized(proxyInvocation, model))
+                .stabilize((request, response, proxyInvocation, model, context) -> withStabilizationProfile(
+                        context,
+                        "create-db-instance",
+                        model,
+                        () -> isDbInstanceStabilized(proxyInvocation, model)
+                ))
                 .handleError((request, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -141,13 +151,17 @@ public class CreateHandler extends BaseHandlerStd {
                 resourceModel,
                 progress.getCallbackContext()
         ).translateToServiceRequest(Translator::restoreDbInstanceFromSnapshotRequest)
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(stabilizationDelay("restore-db-instance-from-snapshot", resourceModel))
                 .makeServiceCall((restoreRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         restoreRequest,
                         proxyInvocation.client()::restoreDBInstanceFromDBSnapshot
                 ))
-                .stabilize((request, response, proxyInvocation, model, context) ->
-                        isDbInstanceStabilized(proxyInvocation, model))
+                .stabilize((request, response, proxyInvocation, model, context) -> withStabilizationProfile(
+                        context,
+                        "restore-db-instance-from-snapshot",
+                        model,
+                        () -> isDbInstanceStabilized(proxyInvocation, model)
+                ))
                 .handleError((request, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -167,13 +181,17 @@ public class CreateHandler extends BaseHandlerStd {
                 progress.getResourceModel(),
                 progress.getCallbackContext()
         ).translateToServiceRequest(Translator::createDbInstanceReadReplicaRequest)
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(stabilizationDelay("create-db-instance-read-replica", progress.getResourceModel()))
                 .makeServiceCall((createRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         createRequest,
                         proxyInvocation.client()::createDBInstanceReadReplica
                 ))
-                .stabilize((request, response, proxyInvocation, model, context) ->
-                        isDbInstanceStabilized(proxyInvocation, model))
+                .stabilize((request, response, proxyInvocation, model, context) -> withStabilizationProfile(
+                        context,
+                        "create-db-instance-read-replica",
+                        model,
+                        () -> isDbInstanceStabilized(proxyInvocation, model)
+                ))
                 .handleError((request, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
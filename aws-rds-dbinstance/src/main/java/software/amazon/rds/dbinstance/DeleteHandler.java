@@ -24,7 +24,12 @@ public class DeleteHandler extends BaseHandlerStd {
     private static final String DB_INSTANCE_IS_BEING_DELETED_ERR = "is already being deleted";
 
     public DeleteHandler() {
-        this(HandlerConfig.builder().probingEnabled(true).build());
+        this(HandlerConfig.builder()
+                .probingEnabled(true)
+                .describeCacheTtl(DESCRIBE_CACHE_TTL)
+                .stabilizationProfiles(STABILIZATION_PROFILES)
+                .rateLimiter(RATE_LIMITER)
+                .build());
     }
 
     public DeleteHandler(final HandlerConfig config) {
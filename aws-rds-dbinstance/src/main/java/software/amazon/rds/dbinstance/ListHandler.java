@@ -1,6 +1,7 @@
 package software.amazon.rds.dbinstance;
 
 import java.util.List;
+import java.util.Optional;
 
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.rds.RdsClient;
@@ -14,8 +15,13 @@ import software.amazon.rds.common.handler.HandlerConfig;
 
 public class ListHandler extends BaseHandlerStd {
 
+    // The largest page DescribeDBInstances returns.
+    public static final int MAX_RECORDS = 100;
+
     public ListHandler() {
-        this(HandlerConfig.builder().build());
+        this(HandlerConfig.builder()
+                .rateLimiter(RATE_LIMITER)
+                .build());
     }
 
     public ListHandler(final HandlerConfig config) {
@@ -31,13 +37,23 @@ public class ListHandler extends BaseHandlerStd {
             final ProxyClient<Ec2Client> ec2ProxyClient,
             final Logger logger
     ) {
-        return proxy.initiate("rds::list-db-instances", rdsProxyClient, request.getDesiredResourceState(), callbackContext)
-                .translateToServiceRequest(resourceModel -> Translator.describeDbInstancesRequest(request.getNextToken()))
+        // The desired state of a list request only carries optional filters and may be omitted altogether.
+        final ResourceModel filterModel = Optional.ofNullable(request.getDesiredResourceState())
+                .orElseGet(() -> ResourceModel.builder().build());
+        return proxy.initiate("rds::list-db-instances", rdsProxyClient, filterModel, callbackContext)
+                .translateToServiceRequest(resourceModel -> Translator.describeDbInstancesRequest(
+                        request.getNextToken(),
+                        resourceModel,
+                        MAX_RECORDS
+                ))
                 .makeServiceCall((describeRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         describeRequest,
                         rdsProxyClient.client()::describeDBInstances
                 )).done((describeRequest, describeResponse, proxyInvocation, resourceModel, context) -> {
-                    final List<ResourceModel> resourceModels = Translator.translateDbInstancesFromSdk(describeResponse.dbInstances());
+                    final List<ResourceModel> resourceModels = Translator.translateDbInstancesFromSdk(
+                            describeResponse.dbInstances(),
+                            config.isListHydrationEnabled()
+                    );
                     return ProgressEvent.<ResourceModel, CallbackContext>builder()
                             .callbackContext(callbackContext)
                             .resourceModels(resourceModels)
@@ -15,7 +15,12 @@ import software.amazon.rds.common.handler.HandlerConfig;
 public class ReadHandler extends BaseHandlerStd {
 
     public ReadHandler() {
-        this(HandlerConfig.builder().probingEnabled(true).build());
+        this(HandlerConfig.builder()
+                .probingEnabled(true)
+                .describeCacheTtl(DESCRIBE_CACHE_TTL)
+                .stabilizationProfiles(STABILIZATION_PROFILES)
+                .rateLimiter(RATE_LIMITER)
+                .build());
     }
 
     public ReadHandler(final HandlerConfig config) {
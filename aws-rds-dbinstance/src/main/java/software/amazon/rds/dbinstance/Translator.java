@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -17,7 +18,6 @@ import org.apache.commons.lang3.BooleanUtils;
 import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsRequest;
 import software.amazon.awssdk.services.ec2.model.Filter;
 import software.amazon.awssdk.services.rds.model.AddRoleToDbInstanceRequest;
-import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.rds.model.CloudwatchLogsExportConfiguration;
 import software.amazon.awssdk.services.rds.model.CreateDbInstanceReadReplicaRequest;
 import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
@@ -31,24 +31,55 @@ import software.amazon.awssdk.services.rds.model.DescribeDbSnapshotsRequest;
 import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
 import software.amazon.awssdk.services.rds.model.RebootDbInstanceRequest;
 import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbInstanceRequest;
-import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.rds.model.RestoreDbInstanceFromDbSnapshotRequest;
 import software.amazon.awssdk.utils.StringUtils;
 
 public class Translator {
 
+    public static final String FILTER_ENGINE = "engine";
+    public static final String FILTER_DB_CLUSTER_ID = "db-cluster-id";
+
+    public static final int PARALLEL_TRANSLATION_THRESHOLD = 20;
+
     public static DescribeDbInstancesRequest describeDbInstancesRequest(final ResourceModel model) {
         return DescribeDbInstancesRequest.builder()
                 .dbInstanceIdentifier(model.getDBInstanceIdentifier())
                 .build();
     }
 
-    public static DescribeDbInstancesRequest describeDbInstancesRequest(final String nextToken) {
+    public static DescribeDbInstancesRequest describeDbInstancesRequest(
+            final String nextToken,
+            final ResourceModel filterModel,
+            final int maxRecords
+    ) {
+        final List<software.amazon.awssdk.services.rds.model.Filter> filters = translateFiltersToSdk(filterModel);
         return DescribeDbInstancesRequest.builder()
                 .marker(nextToken)
+                .maxRecords(maxRecords)
+                .filters(filters.isEmpty() ? null : filters)
                 .build();
     }
 
+    public static List<software.amazon.awssdk.services.rds.model.Filter> translateFiltersToSdk(final ResourceModel filterModel) {
+        final List<software.amazon.awssdk.services.rds.model.Filter> filters = new ArrayList<>();
+        if (filterModel == null) {
+            return filters;
+        }
+        if (StringUtils.isNotBlank(filterModel.getEngine())) {
+            filters.add(software.amazon.awssdk.services.rds.model.Filter.builder()
+                    .name(FILTER_ENGINE)
+                    .values(filterModel.getEngine())
+                    .build());
+        }
+        if (StringUtils.isNotBlank(filterModel.getDBClusterIdentifier())) {
+            filters.add(software.amazon.awssdk.services.rds.model.Filter.builder()
+                    .name(FILTER_DB_CLUSTER_ID)
+                    .values(filterModel.getDBClusterIdentifier())
+                    .build());
+        }
+        return filters;
+    }
+
     public static DescribeDbSnapshotsRequest describeDbSnapshotsRequest(final ResourceModel model) {
         return DescribeDbSnapshotsRequest.builder()
                 .dbSnapshotIdentifier(model.getDBSnapshotIdentifier())
@@ -180,45 +211,49 @@ public class Translator {
                 .build();
     }
 
+    // Only attributes that differ between the previous and the desired model are sent, the rest stays null.
     public static ModifyDbInstanceRequest modifyDbInstanceRequest(
             final ResourceModel previousModel,
             final ResourceModel desiredModel,
             final Boolean isRollback
     ) {
+        final ResourceModel previous = Optional.ofNullable(previousModel).orElseGet(() -> ResourceModel.builder().build());
+        final String engineVersion = diff(previous, desiredModel, ResourceModel::getEngineVersion);
+
         ModifyDbInstanceRequest.Builder builder = ModifyDbInstanceRequest.builder()
-                .allowMajorVersionUpgrade(desiredModel.getAllowMajorVersionUpgrade())
+                .allowMajorVersionUpgrade(engineVersion != null ? desiredModel.getAllowMajorVersionUpgrade() : null)
                 .applyImmediately(Boolean.TRUE)
-                .autoMinorVersionUpgrade(desiredModel.getAutoMinorVersionUpgrade())
-                .backupRetentionPeriod(desiredModel.getBackupRetentionPeriod())
-                .caCertificateIdentifier(desiredModel.getCACertificateIdentifier())
-                .copyTagsToSnapshot(desiredModel.getCopyTagsToSnapshot())
-                .dbInstanceClass(desiredModel.getDBInstanceClass())
+                .autoMinorVersionUpgrade(diff(previous, desiredModel, ResourceModel::getAutoMinorVersionUpgrade))
+                .backupRetentionPeriod(diff(previous, desiredModel, ResourceModel::getBackupRetentionPeriod))
+                .caCertificateIdentifier(diff(previous, desiredModel, ResourceModel::getCACertificateIdentifier))
+                .copyTagsToSnapshot(diff(previous, desiredModel, ResourceModel::getCopyTagsToSnapshot))
+                .dbInstanceClass(diff(previous, desiredModel, ResourceModel::getDBInstanceClass))
                 .dbInstanceIdentifier(desiredModel.getDBInstanceIdentifier())
-                .dbParameterGroupName(desiredModel.getDBParameterGroupName())
-                .dbPortNumber(desiredModel.getPort())
-                .deletionProtection(desiredModel.getDeletionProtection())
-                .domain(desiredModel.getDomain())
-                .domainIAMRoleName(desiredModel.getDomainIAMRoleName())
-                .enableIAMDatabaseAuthentication(desiredModel.getEnableIAMDatabaseAuthentication())
-                .enablePerformanceInsights(desiredModel.getEnablePerformanceInsights())
-                .engineVersion(desiredModel.getEngineVersion())
-                .licenseModel(desiredModel.getLicenseModel())
-                .masterUserPassword(desiredModel.getMasterUserPassword())
-                .maxAllocatedStorage(desiredModel.getMaxAllocatedStorage())
-                .monitoringInterval(desiredModel.getMonitoringInterval())
-                .monitoringRoleArn(desiredModel.getMonitoringRoleArn())
-                .multiAZ(desiredModel.getMultiAZ())
-                .newDBInstanceIdentifier(desiredModel.getDBInstanceIdentifier())
-                .optionGroupName(desiredModel.getOptionGroupName())
-                .performanceInsightsKMSKeyId(desiredModel.getPerformanceInsightsKMSKeyId())
-                .performanceInsightsRetentionPeriod(desiredModel.getPerformanceInsightsRetentionPeriod())
-                .preferredBackupWindow(desiredModel.getPreferredBackupWindow())
-                .preferredMaintenanceWindow(desiredModel.getPreferredMaintenanceWindow())
-                .promotionTier(desiredModel.getPromotionTier())
-                .storageType(desiredModel.getStorageType())
-                .tdeCredentialArn(desiredModel.getTdeCredentialArn())
-                .tdeCredentialPassword(desiredModel.getTdeCredentialPassword())
-                .vpcSecurityGroupIds(desiredModel.getVPCSecurityGroups());
+                .dbParameterGroupName(diff(previous, desiredModel, ResourceModel::getDBParameterGroupName))
+                .dbPortNumber(diff(previous, desiredModel, ResourceModel::getPort))
+                .deletionProtection(diff(previous, desiredModel, ResourceModel::getDeletionProtection))
+                .domain(diff(previous, desiredModel, ResourceModel::getDomain))
+                .domainIAMRoleName(diff(previous, desiredModel, ResourceModel::getDomainIAMRoleName))
+                .enableIAMDatabaseAuthentication(diff(previous, desiredModel, ResourceModel::getEnableIAMDatabaseAuthentication))
+                .enablePerformanceInsights(diff(previous, desiredModel, ResourceModel::getEnablePerformanceInsights))
+                .engineVersion(engineVersion)
+                .licenseModel(diff(previous, desiredModel, ResourceModel::getLicenseModel))
+                .masterUserPassword(diff(previous, desiredModel, ResourceModel::getMasterUserPassword))
+                .maxAllocatedStorage(diff(previous, desiredModel, ResourceModel::getMaxAllocatedStorage))
+                .monitoringInterval(diff(previous, desiredModel, ResourceModel::getMonitoringInterval))
+                .monitoringRoleArn(diff(previous, desiredModel, ResourceModel::getMonitoringRoleArn))
+                .multiAZ(diff(previous, desiredModel, ResourceModel::getMultiAZ))
+                .newDBInstanceIdentifier(diff(previous, desiredModel, ResourceModel::getDBInstanceIdentifier))
+                .optionGroupName(diff(previous, desiredModel, ResourceModel::getOptionGroupName))
+                .performanceInsightsKMSKeyId(diff(previous, desiredModel, ResourceModel::getPerformanceInsightsKMSKeyId))
+                .performanceInsightsRetentionPeriod(diff(previous, desiredModel, ResourceModel::getPerformanceInsightsRetentionPeriod))
+                .preferredBackupWindow(diff(previous, desiredModel, ResourceModel::getPreferredBackupWindow))
+                .preferredMaintenanceWindow(diff(previous, desiredModel, ResourceModel::getPreferredMaintenanceWindow))
+                .promotionTier(diff(previous, desiredModel, ResourceModel::getPromotionTier))
+                .storageType(diff(previous, desiredModel, ResourceModel::getStorageType))
+                .tdeCredentialArn(diff(previous, desiredModel, ResourceModel::getTdeCredentialArn))
+                .tdeCredentialPassword(diff(previous, desiredModel, ResourceModel::getTdeCredentialPassword))
+                .vpcSecurityGroupIds(diff(previous, desiredModel, ResourceModel::getVPCSecurityGroups));
 
         // An attempt to "move" an instance to the same db subnet will cause a
         // 400: "The specified DB instance is already in the target DB subnet group."
@@ -233,19 +268,21 @@ public class Translator {
                 Optional.ofNullable(previousModel).map(ResourceModel::getEnableCloudwatchLogsExports).orElse(Collections.emptyList()),
                 desiredModel.getEnableCloudwatchLogsExports()
         );
-        builder.cloudwatchLogsExportConfiguration(cloudwatchLogsExportConfiguration);
+        if (!cloudwatchLogsExportConfiguration.enableLogTypes().isEmpty() || !cloudwatchLogsExportConfiguration.disableLogTypes().isEmpty()) {
+            builder.cloudwatchLogsExportConfiguration(cloudwatchLogsExportConfiguration);
+        }
 
+        final Integer allocatedStorage;
+        final Integer iops;
         if (previousModel != null && BooleanUtils.isTrue(isRollback)) {
-            builder.allocatedStorage(
-                    canUpdateAllocatedStorage(previousModel.getAllocatedStorage(), desiredModel.getAllocatedStorage()) ? getAllocatedStorage(desiredModel) : getAllocatedStorage(previousModel)
-            );
-            builder.iops(
-                    canUpdateIops(previousModel.getIops(), desiredModel.getIops()) ? desiredModel.getIops() : previousModel.getIops()
-            );
+            allocatedStorage = canUpdateAllocatedStorage(previousModel.getAllocatedStorage(), desiredModel.getAllocatedStorage()) ? getAllocatedStorage(desiredModel) : getAllocatedStorage(previousModel);
+            iops = canUpdateIops(previousModel.getIops(), desiredModel.getIops()) ? desiredModel.getIops() : previousModel.getIops();
         } else {
-            builder.allocatedStorage(getAllocatedStorage(desiredModel));
-            builder.iops(desiredModel.getIops());
+            allocatedStorage = getAllocatedStorage(desiredModel);
+            iops = desiredModel.getIops();
         }
+        builder.allocatedStorage(Objects.equals(allocatedStorage, getAllocatedStorage(previous)) ? null : allocatedStorage);
+        builder.iops(Objects.equals(iops, previous.getIops()) ? null : iops);
 
         if (shouldSetProcessorFeatures(previousModel, desiredModel)) {
             builder.processorFeatures(translateProcessorFeaturesToSdk(desiredModel.getProcessorFeatures()));
@@ -255,6 +292,20 @@ public class Translator {
         return builder.build();
     }
 
+    // Identifier and apply mode are always present, any other attribute means there is something to modify.
+    public static boolean isModifyDbInstanceRequestEmpty(final ModifyDbInstanceRequest request) {
+        return request.toBuilder()
+                .dbInstanceIdentifier(null)
+                .applyImmediately(null)
+                .build()
+                .equals(ModifyDbInstanceRequest.builder().build());
+    }
+
+    private static <T> T diff(final ResourceModel previousModel, final ResourceModel desiredModel, final Function<ResourceModel, T> getter) {
+        final T desired = getter.apply(desiredModel);
+        return Objects.equals(getter.apply(previousModel), desired) ? null : desired;
+    }
+
     public static RemoveRoleFromDbInstanceRequest removeRoleFromDbInstanceRequest(
             final ResourceModel model,
             final DBInstanceRole role
@@ -277,26 +328,6 @@ public class Translator {
                 .build();
     }
 
-    public static AddTagsToResourceRequest addTagsToResourceRequest(
-            final String arn,
-            final Collection<Tag> tags
-    ) {
-        return AddTagsToResourceRequest.builder()
-                .resourceName(arn)
-                .tags(translateTagsToSdk(tags))
-                .build();
-    }
-
-    public static RemoveTagsFromResourceRequest removeTagsFromResourceRequest(
-            final String arn,
-            final Collection<Tag> tags
-    ) {
-        return RemoveTagsFromResourceRequest.builder()
-                .resourceName(arn)
-                .tagKeys(tags.stream().map(Tag::getKey).collect(Collectors.toSet()))
-                .build();
-    }
-
     public static RebootDbInstanceRequest rebootDbInstanceRequest(final ResourceModel model) {
         return RebootDbInstanceRequest.builder()
                 .dbInstanceIdentifier(model.getDBInstanceIdentifier())
@@ -366,6 +397,32 @@ public class Translator {
                 .collect(Collectors.toList());
     }
 
+    public static List<ResourceModel> translateDbInstancesFromSdk(
+            final List<software.amazon.awssdk.services.rds.model.DBInstance> dbInstances,
+            final boolean hydrate
+    ) {
+        if (!hydrate) {
+            return streamOfOrEmpty(dbInstances)
+                    .map(Translator::translateDbInstanceIdentifierFromSdk)
+                    .collect(Collectors.toList());
+        }
+        if (dbInstances == null || dbInstances.size() < PARALLEL_TRANSLATION_THRESHOLD) {
+            return translateDbInstancesFromSdk(dbInstances);
+        }
+        // Full hydration of a large page is CPU bound, the ordered collector keeps the page order intact.
+        return dbInstances.parallelStream()
+                .map(Translator::translateDbInstanceFromSdk)
+                .collect(Collectors.toList());
+    }
+
+    public static ResourceModel translateDbInstanceIdentifierFromSdk(
+            final software.amazon.awssdk.services.rds.model.DBInstance dbInstance
+    ) {
+        return ResourceModel.builder()
+                .dBInstanceIdentifier(dbInstance.dbInstanceIdentifier())
+                .build();
+    }
+
     public static ResourceModel.ResourceModelBuilder translateDbInstanceFromSdkBuilder(
             final software.amazon.awssdk.services.rds.model.DBInstance dbInstance
     ) {
@@ -3,9 +3,11 @@ package software.amazon.rds.dbinstance;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -21,22 +23,38 @@ import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
 import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
 import software.amazon.awssdk.services.rds.model.DescribeDbEngineVersionsResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.dbinstance.util.ImmutabilityHelper;
+import software.amazon.rds.dbinstance.util.StabilizationPlan;
 
 public class UpdateHandler extends BaseHandlerStd {
 
     public static final String PENDING_REBOOT_STATUS = "pending-reboot";
 
+    private static final String ROLES_STABILIZED = "roles-stabilized";
+
+    private static final StabilizationPlan UPDATE_STABILIZATION_PLAN = StabilizationPlan.available()
+            .and(StabilizationPlan.PARAMETERS_APPLIED, StabilizationPlan::isParameterApplyComplete);
+
     public UpdateHandler() {
-        this(HandlerConfig.builder().probingEnabled(true).build());
+        this(HandlerConfig.builder()
+                .probingEnabled(true)
+                .describeCacheTtl(DESCRIBE_CACHE_TTL)
+                .stabilizationProfiles(STABILIZATION_PROFILES)
+                .batchRoleUpdatesEnabled(true)
+                .compositeStabilizationEnabled(true)
+                .rateLimiter(RATE_LIMITER)
+                .build());
     }
 
     public UpdateHandler(final HandlerConfig config) {
@@ -60,22 +78,21 @@ public class UpdateHandler extends BaseHandlerStd {
             );
         }
 
-        final Collection<Tag> previousTags = Translator.translateTagsFromRequest(
-                mergeMaps(Arrays.asList(
-                        request.getPreviousSystemTags(),
-                        request.getPreviousResourceTags()
-                ))
-        );
-        final Collection<Tag> desiredTags = Translator.translateTagsFromRequest(
-                mergeMaps(Arrays.asList(
-                        request.getSystemTags(),
-                        request.getDesiredResourceTags()
-                ))
-        );
+        final Map<String, String> previousTags = mergeMaps(Arrays.asList(
+                request.getPreviousSystemTags(),
+                request.getPreviousResourceTags()
+        ));
+        final Map<String, String> desiredTags = mergeMaps(Arrays.asList(
+                request.getSystemTags(),
+                request.getDesiredResourceTags()
+        ));
 
         final Collection<DBInstanceRole> previousRoles = request.getPreviousResourceState().getAssociatedRoles();
         final Collection<DBInstanceRole> desiredRoles = request.getDesiredResourceState().getAssociatedRoles();
 
+        // The latest instance seen by a composite stabilization, later steps read it instead of describing again.
+        final AtomicReference<DBInstance> observedDbInstance = new AtomicReference<>();
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> {
                     if (shouldSetParameterGroupName(request)) {
@@ -96,25 +113,45 @@ public class UpdateHandler extends BaseHandlerStd {
                     return progress;
                 })
                 .then(progress -> ensureEngineSet(rdsProxyClient, progress))
-                .then(progress -> execOnce(progress, () ->
-                                updateDbInstance(proxy, request, rdsProxyClient, progress),
-                        CallbackContext::isUpdated, CallbackContext::setUpdated)
+                .then(progress -> execOnce(progress, () -> {
+                            if (!shouldUpdateDbInstance(request)) {
+                                return progress;
+                            }
+                            if (config.isCompositeStabilizationEnabled()) {
+                                return updateDbInstanceAwait(proxy, request, rdsProxyClient, progress, observedDbInstance);
+                            }
+                            return updateDbInstance(proxy, request, rdsProxyClient, progress);
+                        }, CallbackContext::isUpdated, CallbackContext::setUpdated)
                 )
                 .then(progress -> execOnce(progress, () -> {
-                            if (shouldReboot(rdsProxyClient, progress)) {
+                            if (shouldReboot(rdsProxyClient, progress, observedDbInstance.get())) {
                                 return rebootAwait(proxy, rdsProxyClient, progress);
                             }
                             return progress;
                         }, CallbackContext::isRebooted, CallbackContext::setRebooted)
                 )
-                .then(progress -> execOnce(progress, () ->
-                                updateAssociatedRoles(proxy, rdsProxyClient, progress, previousRoles, desiredRoles),
-                        CallbackContext::isUpdatedRoles, CallbackContext::setUpdatedRoles)
+                .then(progress -> execOnce(progress, () -> {
+                            if (config.isCompositeStabilizationEnabled()) {
+                                return updateAssociatedRolesAwait(proxy, rdsProxyClient, progress, previousRoles, desiredRoles, observedDbInstance);
+                            }
+                            return updateAssociatedRoles(proxy, rdsProxyClient, progress, previousRoles, desiredRoles);
+                        }, CallbackContext::isUpdatedRoles, CallbackContext::setUpdatedRoles)
                 )
-                .then(progress -> updateTags(proxy, rdsProxyClient, progress, previousTags, desiredTags))
+                .then(progress -> updateTags(proxy, rdsProxyClient, progress, previousTags, desiredTags, observedDbInstance.get()))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, rdsProxyClient, ec2ProxyClient, logger));
     }
 
+    private boolean shouldReboot(
+            final ProxyClient<RdsClient> proxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final DBInstance observedDbInstance
+    ) {
+        if (observedDbInstance != null) {
+            return StabilizationPlan.isPendingReboot(observedDbInstance);
+        }
+        return shouldReboot(proxyClient, progress);
+    }
+
     private boolean shouldReboot(
             final ProxyClient<RdsClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress
@@ -131,6 +168,15 @@ public class UpdateHandler extends BaseHandlerStd {
         return false;
     }
 
+    // Tag-only and role-only updates leave nothing to modify, so they skip the modification and its stabilization.
+    private boolean shouldUpdateDbInstance(final ResourceHandlerRequest<ResourceModel> request) {
+        return !Translator.isModifyDbInstanceRequestEmpty(Translator.modifyDbInstanceRequest(
+                request.getPreviousResourceState(),
+                request.getDesiredResourceState(),
+                BooleanUtils.isTrue(request.getRollback())
+        ));
+    }
+
     private boolean shouldSetParameterGroupName(final ResourceHandlerRequest<ResourceModel> request) {
         final ResourceModel desiredModel = request.getDesiredResourceState();
         final ResourceModel previousModel = request.getPreviousResourceState();
@@ -171,6 +217,105 @@ public class UpdateHandler extends BaseHandlerStd {
                 .progress();
     }
 
+    private ProgressEvent<ResourceModel, CallbackContext> updateDbInstanceAwait(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final AtomicReference<DBInstance> observedDbInstance
+    ) {
+        final ModifyDbInstanceRequest modifyDbInstanceRequest = Translator.modifyDbInstanceRequest(
+                request.getPreviousResourceState(),
+                request.getDesiredResourceState(),
+                BooleanUtils.isTrue(request.getRollback()));
+        final StabilizationPlan plan = UPDATE_STABILIZATION_PLAN
+                .and(StabilizationPlan.NO_PENDING_MODIFIED_VALUES, StabilizationPlan.hasNoPendingModifiedValues(modifyDbInstanceRequest));
+        return proxy.initiate("rds::modify-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(resourceModel -> modifyDbInstanceRequest)
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                        modifyRequest,
+                        proxyInvocation.client()::modifyDBInstance
+                ))
+                .handleError((modifyRequest, exception, client, model, context) -> Commons.handleException(
+                        ProgressEvent.progress(model, context),
+                        exception,
+                        MODIFY_DB_INSTANCE_ERROR_RULE_SET
+                ))
+                .progress()
+                .then(p -> waitForStabilizationPlan(
+                        proxy,
+                        rdsProxyClient,
+                        p,
+                        "rds::stabilize-db-instance-modification",
+                        plan,
+                        3,
+                        MODIFY_DB_INSTANCE_ERROR_RULE_SET,
+                        observedDbInstance
+                ));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> updateAssociatedRolesAwait(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Collection<DBInstanceRole> previousRoles,
+            final Collection<DBInstanceRole> desiredRoles,
+            final AtomicReference<DBInstance> observedDbInstance
+    ) {
+        final Set<DBInstanceRole> rolesToRemove = roleDifference(previousRoles, desiredRoles);
+        final Set<DBInstanceRole> rolesToAdd = roleDifference(desiredRoles, previousRoles);
+        if (rolesToRemove.isEmpty() && rolesToAdd.isEmpty()) {
+            return progress;
+        }
+        final StabilizationPlan plan = StabilizationPlan.available()
+                .and(ROLES_STABILIZED, dbInstance -> isRoleSetStabilized(dbInstance, rolesToRemove, rolesToAdd));
+        return progress
+                .then(p -> issueRoleUpdates(proxy, rdsProxyClient, p, rolesToRemove, rolesToAdd))
+                .then(p -> waitForStabilizationPlan(
+                        proxy,
+                        rdsProxyClient,
+                        p,
+                        "rds::stabilize-db-instance-roles",
+                        plan,
+                        1,
+                        UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET,
+                        observedDbInstance
+                ));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> waitForStabilizationPlan(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final String callGraph,
+            final StabilizationPlan plan,
+            final int nProbes,
+            final ErrorRuleSet errorRuleSet,
+            final AtomicReference<DBInstance> observedDbInstance
+    ) {
+        return proxy.initiate(callGraph, rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall(NOOP_CALL)
+                .stabilize((request, response, proxyInvocation, model, context) -> withProbing(
+                        context,
+                        callGraph,
+                        nProbes,
+                        () -> {
+                            final DBInstance dbInstance = fetchDBInstance(proxyInvocation, model);
+                            observedDbInstance.set(dbInstance);
+                            return plan.isMetBy(dbInstance);
+                        }
+                ))
+                .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
+                        ProgressEvent.progress(model, context),
+                        exception,
+                        errorRuleSet
+                ))
+                .progress();
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> unsetMaxAllocatedStorage(
             final ProxyClient<RdsClient> rdsProxyClient,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -267,25 +412,22 @@ public class UpdateHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> rdsProxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
-            final Collection<Tag> previousTags,
-            final Collection<Tag> desiredTags
+            final Map<String, String> previousTags,
+            final Map<String, String> desiredTags,
+            final DBInstance observedDbInstance
     ) {
-        final Set<Tag> tagsToAdd = new HashSet<>(desiredTags);
-        final Set<Tag> tagsToRemove = new HashSet<>(previousTags);
-
-        tagsToAdd.removeAll(previousTags);
-        tagsToRemove.removeAll(desiredTags);
-
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        final Tagging.TagChanges tagChanges = Tagging.diffTags(previousTags, desiredTags);
+        if (tagChanges.isEmpty()) {
             return progress;
         }
 
         try {
-            final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, progress.getResourceModel());
+            final DBInstance dbInstance = observedDbInstance != null ?
+                    observedDbInstance :
+                    fetchDBInstance(rdsProxyClient, progress.getResourceModel());
             final String arn = dbInstance.dbInstanceArn();
 
-            removeOldTags(rdsProxyClient, arn, tagsToRemove);
-            addNewTags(rdsProxyClient, arn, tagsToAdd);
+            Tagging.applyTagChanges(rdsProxyClient, arn, tagChanges);
         } catch (Exception e) {
             return Commons.handleException(progress, e, DEFAULT_DB_INSTANCE_ERROR_RULE_SET);
         }
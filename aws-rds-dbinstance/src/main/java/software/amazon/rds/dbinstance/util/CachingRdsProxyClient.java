@@ -0,0 +1,145 @@
+package software.amazon.rds.dbinstance.util;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.amazonaws.util.CollectionUtils;
+import lombok.Getter;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * A per-invocation RDS proxy client that memoizes single-instance DescribeDBInstances responses
+ * for a short time window. Any non-read-only call drops all cached entries, so a describe issued
+ * right after a mutation always hits the service.
+ */
+public class CachingRdsProxyClient implements ProxyClient<RdsClient> {
+
+    private static final String[] READ_ONLY_REQUEST_PREFIXES = {"Describe", "List", "Download"};
+
+    private final ProxyClient<RdsClient> delegate;
+    private final long ttlNanos;
+    private final Map<String, CacheEntry> entries;
+
+    @Getter
+    private int hits;
+
+    @Getter
+    private int misses;
+
+    public CachingRdsProxyClient(final ProxyClient<RdsClient> delegate, final Duration ttl) {
+        this.delegate = delegate;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new HashMap<>();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction
+    ) {
+        if (request instanceof DescribeDbInstancesRequest) {
+            final String key = cacheKey((DescribeDbInstancesRequest) request);
+            if (key != null) {
+                final CacheEntry entry = entries.get(key);
+                if (entry != null && System.nanoTime() - entry.createdAt < ttlNanos) {
+                    hits++;
+                    return (ResponseT) entry.response;
+                }
+                misses++;
+                final ResponseT response = delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+                entries.put(key, new CacheEntry((DescribeDbInstancesResponse) response, System.nanoTime()));
+                return response;
+            }
+        } else if (isMutating(request)) {
+            invalidate();
+        }
+        return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+    ) {
+        if (isMutating(request)) {
+            invalidate();
+        }
+        return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction
+    ) {
+        return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
+    ) {
+        return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
+    ) {
+        return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public RdsClient client() {
+        return delegate.client();
+    }
+
+    public void invalidate() {
+        entries.clear();
+    }
+
+    private static String cacheKey(final DescribeDbInstancesRequest request) {
+        if (StringUtils.isBlank(request.dbInstanceIdentifier()) ||
+                !CollectionUtils.isNullOrEmpty(request.filters()) ||
+                request.marker() != null ||
+                request.maxRecords() != null) {
+            return null;
+        }
+        return request.dbInstanceIdentifier();
+    }
+
+    private static boolean isMutating(final AwsRequest request) {
+        final String requestName = request.getClass().getSimpleName();
+        for (final String prefix : READ_ONLY_REQUEST_PREFIXES) {
+            if (requestName.startsWith(prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class CacheEntry {
+        final DescribeDbInstancesResponse response;
+        final long createdAt;
+
+        CacheEntry(final DescribeDbInstancesResponse response, final long createdAt) {
+            this.response = response;
+            this.createdAt = createdAt;
+        }
+    }
+}
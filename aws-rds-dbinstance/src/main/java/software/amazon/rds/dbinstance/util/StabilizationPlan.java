@@ -0,0 +1,132 @@
+package software.amazon.rds.dbinstance.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.apache.commons.lang3.BooleanUtils;
+
+import com.google.common.collect.ImmutableMap;
+
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
+import software.amazon.rds.dbinstance.DBInstanceStatus;
+
+/**
+ * Named conditions a DB instance has to meet, all of them checked against a single DescribeDBInstances
+ * response. Plans are immutable, {@link #and(String, Predicate)} returns an extended copy.
+ */
+public final class StabilizationPlan {
+
+    public static final String PARAMETER_APPLY_STATUS_APPLYING = "applying";
+    public static final String PARAMETER_APPLY_STATUS_PENDING_REBOOT = "pending-reboot";
+
+    public static final String AVAILABLE = "available";
+    public static final String PARAMETERS_APPLIED = "parameters-applied";
+    public static final String NO_PENDING_MODIFIED_VALUES = "no-pending-modified-values";
+
+    // ModifyDBInstance members that surface under a different name in PendingModifiedValues.
+    private static final Map<String, String> PENDING_VALUE_ALIASES = ImmutableMap.of(
+            "NewDBInstanceIdentifier", "DBInstanceIdentifier",
+            "CloudwatchLogsExportConfiguration", "PendingCloudwatchLogsExports",
+            "EnableIAMDatabaseAuthentication", "IAMDatabaseAuthenticationEnabled"
+    );
+
+    private final Map<String, Predicate<DBInstance>> conditions;
+
+    private StabilizationPlan(final Map<String, Predicate<DBInstance>> conditions) {
+        this.conditions = Collections.unmodifiableMap(conditions);
+    }
+
+    public static StabilizationPlan empty() {
+        return new StabilizationPlan(Collections.emptyMap());
+    }
+
+    public static StabilizationPlan available() {
+        return empty().and(AVAILABLE, StabilizationPlan::isAvailable);
+    }
+
+    public StabilizationPlan and(final String name, final Predicate<DBInstance> condition) {
+        final Map<String, Predicate<DBInstance>> extended = new LinkedHashMap<>(conditions);
+        extended.put(name, condition);
+        return new StabilizationPlan(extended);
+    }
+
+    public List<String> unmetConditions(final DBInstance dbInstance) {
+        final List<String> unmet = new ArrayList<>();
+        conditions.forEach((name, condition) -> {
+            if (!condition.test(dbInstance)) {
+                unmet.add(name);
+            }
+        });
+        return unmet;
+    }
+
+    public boolean isMetBy(final DBInstance dbInstance) {
+        return conditions.values().stream().allMatch(condition -> condition.test(dbInstance));
+    }
+
+    public static boolean isAvailable(final DBInstance dbInstance) {
+        return DBInstanceStatus.Available.equalsString(dbInstance.dbInstanceStatus());
+    }
+
+    // A static parameter change settles as pending-reboot, which is a reboot decision rather than something to wait for.
+    public static boolean isParameterApplyComplete(final DBInstance dbInstance) {
+        return Optional.ofNullable(dbInstance.dbParameterGroups()).orElse(Collections.emptyList()).stream()
+                .map(DBParameterGroupStatus::parameterApplyStatus)
+                .noneMatch(PARAMETER_APPLY_STATUS_APPLYING::equals);
+    }
+
+    public static boolean isPendingReboot(final DBInstance dbInstance) {
+        return Optional.ofNullable(dbInstance.dbParameterGroups()).orElse(Collections.emptyList()).stream()
+                .findFirst()
+                .map(status -> PARAMETER_APPLY_STATUS_PENDING_REBOOT.equals(status.parameterApplyStatus()))
+                .orElse(false);
+    }
+
+    // Only the attributes the ModifyDBInstance request asked for are waited on, values left pending by
+    // out-of-band changes or a deferred maintenance action are not this update's to wait for.
+    public static Predicate<DBInstance> hasNoPendingModifiedValues(final ModifyDbInstanceRequest modifyRequest) {
+        final Set<String> requested = new HashSet<>();
+        if (modifyRequest != null && BooleanUtils.isTrue(modifyRequest.applyImmediately())) {
+            for (final SdkField<?> field : modifyRequest.sdkFields()) {
+                // the identifier names the instance, a rename shows up through NewDBInstanceIdentifier
+                if (!"DBInstanceIdentifier".equals(field.memberName()) && isSet(field.getValueOrDefault(modifyRequest))) {
+                    requested.add(PENDING_VALUE_ALIASES.getOrDefault(field.memberName(), field.memberName()));
+                }
+            }
+        }
+        return dbInstance -> {
+            final PendingModifiedValues pendingModifiedValues = dbInstance.pendingModifiedValues();
+            if (pendingModifiedValues == null || requested.isEmpty()) {
+                return true;
+            }
+            for (final SdkField<?> field : pendingModifiedValues.sdkFields()) {
+                if (requested.contains(field.memberName()) && isSet(field.getValueOrDefault(pendingModifiedValues))) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static boolean isSet(final Object value) {
+        if (value instanceof Collection) {
+            return !((Collection<?>) value).isEmpty();
+        }
+        if (value instanceof Map) {
+            return !((Map<?, ?>) value).isEmpty();
+        }
+        return value != null;
+    }
+}
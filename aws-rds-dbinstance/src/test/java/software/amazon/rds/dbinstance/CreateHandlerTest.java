@@ -48,9 +48,11 @@ import software.amazon.awssdk.services.rds.model.RestoreDbInstanceFromDbSnapshot
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.stabilization.StabilizationProfileStore;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest extends AbstractHandlerTest {
@@ -414,6 +416,42 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(1)).createDBInstance(any(CreateDbInstanceRequest.class));
     }
 
+    @Test
+    public void handleRequest_CreateNewInstance_RecordsStabilizationProfile() {
+        final StabilizationProfileStore profiles = new StabilizationProfileStore();
+        handler = new CreateHandler(
+                HandlerConfig.builder()
+                        .probingEnabled(false)
+                        .backoff(TEST_BACKOFF_DELAY)
+                        .stabilizationProfiles(profiles)
+                        .build()
+        );
+        when(rdsProxy.client().createDBInstance(any(CreateDbInstanceRequest.class)))
+                .thenReturn(CreateDbInstanceResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setCreated(false);
+        context.setUpdated(true);
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+
+        final ResourceModel model = RESOURCE_MODEL_BLDR().build();
+        test_handleRequest_base(
+                context,
+                () -> DB_INSTANCE_ACTIVE,
+                () -> model,
+                expectSuccess()
+        );
+
+        final String key = StabilizationProfileStore.key("create-db-instance", model.getEngine(), model.getDBInstanceClass());
+        Assertions.assertThat(profiles.get(key)).hasValueSatisfying(profile ->
+                Assertions.assertThat(profile.getSamples()).isEqualTo(1));
+        Assertions.assertThat(context.getStabilizationStartedAt()).isEmpty();
+
+        verify(rdsProxy.client(), times(1)).createDBInstance(any(CreateDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
     @Test
     public void handleRequest_CreateNewInstance_RuntimeException() {
         when(rdsProxy.client().createDBInstance(any(CreateDbInstanceRequest.class)))
@@ -466,13 +504,15 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
 
-        test_handleRequest_base(
+        final ProgressEvent<ResourceModel, CallbackContext> response = test_handleRequest_base(
                 context,
                 null,
                 () -> RESOURCE_MODEL_BLDR().build(),
-                expectFailed(HandlerErrorCode.Throttling)
+                // The first throttling retry waits for the minimal throttling backoff delay.
+                expectInProgress(5)
         );
 
+        Assertions.assertThat(response.getCallbackContext().isCreated()).isFalse();
         verify(rdsProxy.client(), times(1)).createDBInstance(any(CreateDbInstanceRequest.class));
     }
 
@@ -10,11 +10,15 @@ import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -24,9 +28,11 @@ import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBInstance;
 import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.Filter;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest extends AbstractHandlerTest {
@@ -91,6 +97,63 @@ public class ListHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
+        final ResourceModel expectedModel = ResourceModel.builder()
+                .dBInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .build();
+
+        assertThat(response.getResourceModels()).isNotNull();
+        assertThat(response.getResourceModels()).containsExactly(expectedModel);
+        assertThat(response.getNextToken()).isEqualTo(DESCRIBE_DB_INSTANCES_MARKER);
+
+        final ArgumentCaptor<DescribeDbInstancesRequest> captor = ArgumentCaptor.forClass(DescribeDbInstancesRequest.class);
+        verify(rdsProxy.client()).describeDBInstances(captor.capture());
+        assertThat(captor.getValue().maxRecords()).isEqualTo(ListHandler.MAX_RECORDS);
+        assertThat(captor.getValue().filters()).containsExactly(Filter.builder()
+                .name(Translator.FILTER_ENGINE)
+                .values(ENGINE_MYSQL)
+                .build());
+    }
+
+    @Test
+    public void handleRequest_NoDesiredState() {
+        final DescribeDbInstancesResponse describeDbInstanceResponse = DescribeDbInstancesResponse.builder()
+                .dbInstances(Collections.emptyList())
+                .build();
+        when(rdsProxy.client().describeDBInstances(any(DescribeDbInstancesRequest.class))).thenReturn(describeDbInstanceResponse);
+
+        test_handleRequest_base(
+                new CallbackContext(),
+                null,
+                () -> null,
+                expectSuccess()
+        );
+
+        final ArgumentCaptor<DescribeDbInstancesRequest> captor = ArgumentCaptor.forClass(DescribeDbInstancesRequest.class);
+        verify(rdsProxy.client()).describeDBInstances(captor.capture());
+        assertThat(captor.getValue().hasFilters()).isFalse();
+        assertThat(captor.getValue().maxRecords()).isEqualTo(ListHandler.MAX_RECORDS);
+    }
+
+    @Test
+    public void handleRequest_HydrationEnabled() {
+        handler = new ListHandler(HandlerConfig.builder().listHydrationEnabled(true).build());
+        final DescribeDbInstancesResponse describeDbInstanceResponse = DescribeDbInstancesResponse.builder()
+                .dbInstances(Collections.singletonList(
+                        DBInstance.builder()
+                                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                                .build()
+                ))
+                .marker(DESCRIBE_DB_INSTANCES_MARKER)
+                .build();
+        when(rdsProxy.client().describeDBInstances(any(DescribeDbInstancesRequest.class))).thenReturn(describeDbInstanceResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = test_handleRequest_base(
+                new CallbackContext(),
+                null,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                expectSuccess()
+        );
+
         final ResourceModel expectedModel = ResourceModel.builder()
                 .associatedRoles(Collections.emptyList())
                 .enableCloudwatchLogsExports(Collections.emptyList())
@@ -107,4 +170,29 @@ public class ListHandlerTest extends AbstractHandlerTest {
 
         verify(rdsProxy.client()).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
+
+    @Test
+    public void handleRequest_HydrationEnabled_LargePageKeepsOrder() {
+        handler = new ListHandler(HandlerConfig.builder().listHydrationEnabled(true).build());
+        final List<DBInstance> dbInstances = IntStream.range(0, ListHandler.MAX_RECORDS)
+                .mapToObj(i -> DBInstance.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER + "-" + i).build())
+                .collect(Collectors.toList());
+        when(rdsProxy.client().describeDBInstances(any(DescribeDbInstancesRequest.class)))
+                .thenReturn(DescribeDbInstancesResponse.builder().dbInstances(dbInstances).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = test_handleRequest_base(
+                new CallbackContext(),
+                null,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                expectSuccess()
+        );
+
+        assertThat(response.getResourceModels())
+                .extracting(ResourceModel::getDBInstanceIdentifier)
+                .containsExactlyElementsOf(dbInstances.stream()
+                        .map(DBInstance::dbInstanceIdentifier)
+                        .collect(Collectors.toList()));
+
+        verify(rdsProxy.client()).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
 }
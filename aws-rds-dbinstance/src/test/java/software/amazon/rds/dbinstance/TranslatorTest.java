@@ -63,7 +63,7 @@ class TranslatorTest extends AbstractHandlerTest {
                 .build();
         final Boolean isRollback = true;
         final ModifyDbInstanceRequest request = Translator.modifyDbInstanceRequest(previousModel, desiredModel, isRollback);
-        assertThat(request.allocatedStorage()).isEqualTo(ALLOCATED_STORAGE); // should stay unchanged
+        assertThat(request.allocatedStorage()).isNull(); // should stay unchanged
     }
 
     @Test
@@ -115,7 +115,7 @@ class TranslatorTest extends AbstractHandlerTest {
                 .build();
         final Boolean isRollback = true;
         final ModifyDbInstanceRequest request = Translator.modifyDbInstanceRequest(previousModel, desiredModel, isRollback);
-        assertThat(request.iops()).isEqualTo(IOPS_DEFAULT);
+        assertThat(request.iops()).isNull(); // should stay unchanged
     }
 
     @Test
@@ -144,6 +144,51 @@ class TranslatorTest extends AbstractHandlerTest {
         assertThat(request.processorFeatures()).hasSameElementsAs(Translator.translateProcessorFeaturesToSdk(Arrays.asList(PROCESSOR_FEATURE)));
     }
 
+    @Test
+    public void test_modifyDbInstanceRequest_OnlyChangedAttributes() {
+        final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
+                .backupRetentionPeriod(BACKUP_RETENTION_PERIOD_DEFAULT)
+                .build();
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
+                .backupRetentionPeriod(BACKUP_RETENTION_PERIOD_DEFAULT + 1)
+                .build();
+        final ModifyDbInstanceRequest request = Translator.modifyDbInstanceRequest(previousModel, desiredModel, false);
+        assertThat(request.dbInstanceIdentifier()).isEqualTo(DB_INSTANCE_IDENTIFIER_NON_EMPTY);
+        assertThat(request.backupRetentionPeriod()).isEqualTo(BACKUP_RETENTION_PERIOD_DEFAULT + 1);
+        assertThat(request.engineVersion()).isNull();
+        assertThat(request.allocatedStorage()).isNull();
+        assertThat(request.masterUserPassword()).isNull();
+        assertThat(request.hasVpcSecurityGroupIds()).isFalse();
+        assertThat(request.cloudwatchLogsExportConfiguration()).isNull();
+        assertThat(Translator.isModifyDbInstanceRequestEmpty(request)).isFalse();
+    }
+
+    @Test
+    public void test_modifyDbInstanceRequest_NoChanges() {
+        final ModifyDbInstanceRequest request = Translator.modifyDbInstanceRequest(
+                RESOURCE_MODEL_BLDR().build(),
+                RESOURCE_MODEL_BLDR().associatedRoles(ASSOCIATED_ROLES_ALTER).tags(TAG_LIST_ALTER).build(),
+                false
+        );
+        assertThat(Translator.isModifyDbInstanceRequestEmpty(request)).isTrue();
+    }
+
+    @Test
+    public void test_modifyDbInstanceRequest_AllowMajorVersionUpgradeWithEngineVersion() {
+        final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
+                .allowMajorVersionUpgrade(true)
+                .build();
+        assertThat(Translator.modifyDbInstanceRequest(previousModel, previousModel, false).allowMajorVersionUpgrade()).isNull();
+
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
+                .allowMajorVersionUpgrade(true)
+                .engineVersion("8.0")
+                .build();
+        final ModifyDbInstanceRequest request = Translator.modifyDbInstanceRequest(previousModel, desiredModel, false);
+        assertThat(request.engineVersion()).isEqualTo("8.0");
+        assertThat(request.allowMajorVersionUpgrade()).isTrue();
+    }
+
     // Stub methods to satisfy the interface. This is a 1-time thing.
 
     @Override
@@ -2,7 +2,9 @@ package software.amazon.rds.dbinstance;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -44,6 +47,7 @@ import software.amazon.awssdk.services.rds.model.DbInstanceRoleNotFoundException
 import software.amazon.awssdk.services.rds.model.DescribeDbEngineVersionsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbEngineVersionsResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
 import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
@@ -63,6 +67,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.dbinstance.util.CachingRdsProxyClient;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends AbstractHandlerTest {
@@ -129,7 +134,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 context,
                 () -> DB_INSTANCE_ACTIVE,
                 () -> RESOURCE_MODEL_BLDR().build(),
-                () -> RESOURCE_MODEL_ALTER,
+                () -> RESOURCE_MODEL_BLDR().dBInstanceClass(DB_INSTANCE_CLASS_DEFAULT).build(),
                 expectSuccess()
         );
 
@@ -170,6 +175,42 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
+    @Test
+    public void handleRequest_UnsetMaxAllocatedStorage_DescribeCache() {
+        final ModifyDbInstanceResponse modifyDbInstanceResponse = ModifyDbInstanceResponse.builder()
+                .dbInstance(DB_INSTANCE_ACTIVE)
+                .build();
+        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class))).thenReturn(modifyDbInstanceResponse);
+
+        final CachingRdsProxyClient cachingRdsProxy = new CachingRdsProxyClient(rdsProxy, Duration.ofMinutes(1));
+        rdsProxy = cachingRdsProxy;
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(false);
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+
+        test_handleRequest_base(
+                context,
+                () -> DB_INSTANCE_ACTIVE,
+                () -> RESOURCE_MODEL_BLDR()
+                        .allocatedStorage(ALLOCATED_STORAGE.toString())
+                        .maxAllocatedStorage(MAX_ALLOCATED_STORAGE_DEFAULT)
+                        .build(),
+                () -> RESOURCE_MODEL_BLDR()
+                        .allocatedStorage(ALLOCATED_STORAGE.toString())
+                        .maxAllocatedStorage(null)
+                        .build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client(), times(1)).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        // The pre-modify describe is invalidated by the modify call, the final read is served from the cache.
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        Assertions.assertThat(cachingRdsProxy.getHits()).isEqualTo(1);
+        Assertions.assertThat(cachingRdsProxy.getMisses()).isEqualTo(2);
+    }
+
     @Test
     public void handleRequest_InitiatesModifyRequest_InvalidDBInstanceState() {
         when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class)))
@@ -188,7 +229,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 context,
                 null,
                 () -> RESOURCE_MODEL_BLDR().build(),
-                () -> RESOURCE_MODEL_ALTER,
+                () -> RESOURCE_MODEL_BLDR().dBInstanceClass(DB_INSTANCE_CLASS_DEFAULT).build(),
                 expectFailed(HandlerErrorCode.ResourceConflict)
         );
 
@@ -213,7 +254,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 context,
                 null,
                 () -> RESOURCE_MODEL_BLDR().build(),
-                () -> RESOURCE_MODEL_ALTER,
+                () -> RESOURCE_MODEL_BLDR().dBInstanceClass(DB_INSTANCE_CLASS_DEFAULT).build(),
                 expectFailed(HandlerErrorCode.ResourceConflict)
         );
 
@@ -238,7 +279,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 context,
                 null,
                 () -> RESOURCE_MODEL_BLDR().build(),
-                () -> RESOURCE_MODEL_ALTER,
+                () -> RESOURCE_MODEL_BLDR().dBInstanceClass(DB_INSTANCE_CLASS_DEFAULT).build(),
                 expectFailed(HandlerErrorCode.InvalidRequest)
         );
 
@@ -270,6 +311,32 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
+    @Test
+    public void handleRequest_TagsOnly_SkipsModify() {
+        when(rdsProxy.client().addTagsToResource(any(AddTagsToResourceRequest.class)))
+                .thenReturn(AddTagsToResourceResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+
+        test_handleRequest_base(
+                context,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .previousResourceTags(Collections.emptyMap())
+                        .desiredResourceTags(Translator.translateTagsToRequest(TAG_LIST)),
+                () -> DB_INSTANCE_ACTIVE,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR().build(),
+                expectSuccess()
+        );
+
+        Assertions.assertThat(context.isUpdated()).isTrue();
+        verify(rdsProxy.client(), never()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
     @Test
     public void handleRequest_SuccessTagsRemoveOnly() {
         final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
@@ -487,6 +554,297 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(6)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
+    @Test
+    public void handleRequest_BatchRoleUpdates() {
+        handler = new UpdateHandler(batchRoleUpdatesConfig());
+        final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>();
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES))
+                .build());
+        // The role set poll and the final resource fetch.
+        for (int i = 0; i < 2; i++) {
+            transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                    .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
+                    .build());
+        }
+
+        when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class)))
+                .thenReturn(AddRoleToDbInstanceResponse.builder().build());
+        when(rdsProxy.client().removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class)))
+                .thenReturn(RemoveRoleFromDbInstanceResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(true);
+        context.setRebooted(true);
+
+        test_handleRequest_base(
+                context,
+                transitions::remove,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_ALTER,
+                expectSuccess()
+        );
+
+        Assertions.assertThat(context.getIssuedRoleUpdates()).hasSize(3);
+        verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+        verify(rdsProxy.client()).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_BatchRoleUpdates_ResumesIssuedUpdates() {
+        handler = new UpdateHandler(batchRoleUpdatesConfig());
+        when(rdsProxy.client().describeDBInstances(any(DescribeDbInstancesRequest.class)))
+                .thenReturn(DescribeDbInstancesResponse.builder()
+                        .dbInstances(DB_INSTANCE_ACTIVE.toBuilder()
+                                .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
+                                .build())
+                        .build());
+        when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class)))
+                .thenThrow(DbInstanceRoleAlreadyExistsException.class);
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(true);
+        context.setRebooted(true);
+        for (final DBInstanceRole role : ASSOCIATED_ROLES) {
+            context.markRoleUpdateIssued(BaseHandlerStd.ROLE_UPDATE_REMOVE + ":" + role.getRoleArn() + ":" + role.getFeatureName());
+        }
+
+        test_handleRequest_base(
+                context,
+                null,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_ALTER,
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+        // The already attached roles are confirmed by the role set poll.
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_BatchRoleUpdates_FeatureSwap() {
+        handler = new UpdateHandler(batchRoleUpdatesConfig());
+        final DBInstanceRole previousRole = DBInstanceRole.builder()
+                .roleArn(ASSOCIATED_ROLE_ARN)
+                .featureName(ASSOCIATED_ROLE_NAME)
+                .build();
+        final DBInstanceRole desiredRole = previousRole.toBuilder()
+                .featureName(ASSOCIATED_ROLE_NAME + "-foo")
+                .build();
+        final DBInstance previousInstance = DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(ImmutableList.of(previousRole)))
+                .build();
+        final DBInstance desiredInstance = DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(ImmutableList.of(desiredRole)))
+                .build();
+        final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>();
+        // The add waits for the previous feature to detach before it is sent.
+        transitions.add(previousInstance);
+        transitions.add(previousInstance);
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder().associatedRoles(Collections.emptyList()).build());
+        // The role set poll and the final resource fetch.
+        transitions.add(desiredInstance);
+        transitions.add(desiredInstance);
+
+        when(rdsProxy.client().removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class)))
+                .thenReturn(RemoveRoleFromDbInstanceResponse.builder().build());
+        when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class)))
+                .thenReturn(AddRoleToDbInstanceResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(true);
+        context.setRebooted(true);
+
+        test_handleRequest_base(
+                context,
+                transitions::remove,
+                () -> RESOURCE_MODEL_BLDR().associatedRoles(ImmutableList.of(previousRole)).build(),
+                () -> RESOURCE_MODEL_BLDR().associatedRoles(ImmutableList.of(desiredRole)).build(),
+                expectSuccess()
+        );
+
+        final InOrder inOrder = inOrder(rdsProxy.client());
+        inOrder.verify(rdsProxy.client()).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
+        inOrder.verify(rdsProxy.client()).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(5)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        Assertions.assertThat(context.getIssuedRoleUpdates()).contains(
+                BaseHandlerStd.ROLE_UPDATE_ADD + ":" + desiredRole.getRoleArn() + ":" + desiredRole.getFeatureName());
+    }
+
+    @Test
+    public void handleRequest_BatchRoleUpdates_InternalExceptionOnAdd() {
+        handler = new UpdateHandler(batchRoleUpdatesConfig());
+        when(rdsProxy.client().removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class)))
+                .thenReturn(RemoveRoleFromDbInstanceResponse.builder().build());
+        when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class))).then(res -> {
+            throw new RuntimeException(MSG_RUNTIME_ERR);
+        });
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(true);
+        context.setRebooted(true);
+
+        test_handleRequest_base(
+                context,
+                null,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_ALTER,
+                expectFailed(HandlerErrorCode.InternalFailure)
+        );
+
+        // The removal stays recorded, so the next attempt does not repeat it.
+        Assertions.assertThat(context.getIssuedRoleUpdates()).hasSize(1);
+        verify(rdsProxy.client()).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
+        verify(rdsProxy.client()).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+    }
+
+    private static HandlerConfig batchRoleUpdatesConfig() {
+        return HandlerConfig.builder()
+                .probingEnabled(false)
+                .batchRoleUpdatesEnabled(true)
+                .backoff(Constant.of()
+                        .delay(Duration.ofSeconds(1))
+                        .timeout(Duration.ofSeconds(120))
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_CompositeStabilization() {
+        handler = new UpdateHandler(compositeStabilizationConfig());
+        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class)))
+                .thenReturn(ModifyDbInstanceResponse.builder().dbInstance(DB_INSTANCE_ACTIVE).build());
+        when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class)))
+                .thenReturn(AddRoleToDbInstanceResponse.builder().build());
+        when(rdsProxy.client().removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class)))
+                .thenReturn(RemoveRoleFromDbInstanceResponse.builder().build());
+        when(rdsProxy.client().addTagsToResource(any(AddTagsToResourceRequest.class)))
+                .thenReturn(AddTagsToResourceResponse.builder().build());
+        when(rdsProxy.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class)))
+                .thenReturn(RemoveTagsFromResourceResponse.builder().build());
+
+        test_handleRequest_base(
+                new CallbackContext(),
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .previousResourceTags(Translator.translateTagsToRequest(TAG_LIST))
+                        .desiredResourceTags(Translator.translateTagsToRequest(TAG_LIST_ALTER)),
+                () -> DB_INSTANCE_ACTIVE.toBuilder()
+                        .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
+                        .build(),
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR()
+                        .associatedRoles(ASSOCIATED_ROLES_ALTER)
+                        .dBInstanceClass(DB_INSTANCE_CLASS_DEFAULT)
+                        .build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+        verify(rdsProxy.client()).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
+        verify(rdsProxy.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(rdsProxy.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        // The modification poll also answers the reboot check, the role set poll also provides the ARN for tagging.
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CompositeStabilization_PendingReboot() {
+        handler = new UpdateHandler(compositeStabilizationConfig());
+        final DBInstance dbInstancePendingReboot = DB_INSTANCE_ACTIVE.toBuilder().dbParameterGroups(
+                ImmutableList.of(DBParameterGroupStatus.builder()
+                        .dbParameterGroupName(DB_PARAMETER_GROUP_NAME_DEFAULT)
+                        .parameterApplyStatus(UpdateHandler.PENDING_REBOOT_STATUS)
+                        .build())
+        ).build();
+        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class)))
+                .thenReturn(ModifyDbInstanceResponse.builder().dbInstance(DB_INSTANCE_ACTIVE).build());
+        when(rdsProxy.client().rebootDBInstance(any(RebootDbInstanceRequest.class)))
+                .thenReturn(RebootDbInstanceResponse.builder().build());
+
+        test_handleRequest_base(
+                new CallbackContext(),
+                () -> dbInstancePendingReboot,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR().dBInstanceClass(DB_INSTANCE_CLASS_DEFAULT).build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client()).rebootDBInstance(any(RebootDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CompositeStabilization_FeatureSwap() {
+        handler = new UpdateHandler(compositeStabilizationConfig());
+        final DBInstanceRole previousRole = DBInstanceRole.builder()
+                .roleArn(ASSOCIATED_ROLE_ARN)
+                .featureName(ASSOCIATED_ROLE_NAME)
+                .build();
+        final DBInstanceRole desiredRole = previousRole.toBuilder()
+                .featureName(ASSOCIATED_ROLE_NAME + "-foo")
+                .build();
+        final DBInstance previousInstance = DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(ImmutableList.of(previousRole)))
+                .build();
+        final DBInstance desiredInstance = DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(ImmutableList.of(desiredRole)))
+                .build();
+        final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>();
+        transitions.add(previousInstance);
+        // Both invocations see the ARN detached, the first add is rejected anyway.
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder().associatedRoles(Collections.emptyList()).build());
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder().associatedRoles(Collections.emptyList()).build());
+        // The composite role set poll and the final resource fetch.
+        transitions.add(desiredInstance);
+        transitions.add(desiredInstance);
+
+        when(rdsProxy.client().removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class)))
+                .thenReturn(RemoveRoleFromDbInstanceResponse.builder().build());
+        // The detach is not visible to the add right away.
+        when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class)))
+                .thenThrow(DbInstanceRoleAlreadyExistsException.builder().build())
+                .thenReturn(AddRoleToDbInstanceResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(true);
+        context.setRebooted(true);
+
+        // The rejected add hands the retry back to CloudFormation.
+        test_handleRequest_base(
+                context,
+                transitions::remove,
+                () -> RESOURCE_MODEL_BLDR().associatedRoles(ImmutableList.of(previousRole)).build(),
+                () -> RESOURCE_MODEL_BLDR().associatedRoles(ImmutableList.of(desiredRole)).build(),
+                expectInProgress(10)
+        );
+        test_handleRequest_base(
+                context,
+                transitions::remove,
+                () -> RESOURCE_MODEL_BLDR().associatedRoles(ImmutableList.of(previousRole)).build(),
+                () -> RESOURCE_MODEL_BLDR().associatedRoles(ImmutableList.of(desiredRole)).build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client()).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(5)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    private static HandlerConfig compositeStabilizationConfig() {
+        return HandlerConfig.builder()
+                .probingEnabled(false)
+                .compositeStabilizationEnabled(true)
+                .backoff(Constant.of()
+                        .delay(Duration.ofSeconds(1))
+                        .timeout(Duration.ofSeconds(120))
+                        .build())
+                .build();
+    }
+
     @Test
     public void handleRequest_ShouldReboot_Success() {
         final DBInstance dbInstancePendingReboot = DB_INSTANCE_ACTIVE.toBuilder().dbParameterGroups(
@@ -0,0 +1,131 @@
+package software.amazon.rds.dbinstance.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbSnapshotsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbSnapshotsResponse;
+import software.amazon.awssdk.services.rds.model.Filter;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+class CachingRdsProxyClientTest {
+
+    private static final String DB_INSTANCE_IDENTIFIER = "db-instance-identifier";
+
+    private RdsClient rdsClient;
+    private ProxyClient<RdsClient> rdsProxy;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        rdsClient = mock(RdsClient.class);
+        rdsProxy = mock(ProxyClient.class);
+        when(rdsProxy.client()).thenReturn(rdsClient);
+        when(rdsProxy.injectCredentialsAndInvokeV2(any(), any())).then(invocation -> {
+            final java.util.function.Function<Object, Object> function = invocation.getArgument(1);
+            return function.apply(invocation.getArgument(0));
+        });
+        when(rdsClient.describeDBInstances(any(DescribeDbInstancesRequest.class))).thenReturn(
+                DescribeDbInstancesResponse.builder()
+                        .dbInstances(DBInstance.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER).build())
+                        .build()
+        );
+    }
+
+    private DescribeDbInstancesResponse describe(final ProxyClient<RdsClient> proxyClient, final DescribeDbInstancesRequest request) {
+        return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeDBInstances);
+    }
+
+    private DescribeDbInstancesRequest describeRequest() {
+        return DescribeDbInstancesRequest.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER).build();
+    }
+
+    @Test
+    public void test_RepeatedDescribeIsServedFromCache() {
+        final CachingRdsProxyClient proxyClient = new CachingRdsProxyClient(rdsProxy, Duration.ofMinutes(1));
+
+        final DescribeDbInstancesResponse first = describe(proxyClient, describeRequest());
+        final DescribeDbInstancesResponse second = describe(proxyClient, describeRequest());
+
+        assertThat(second).isSameAs(first);
+        assertThat(proxyClient.getHits()).isEqualTo(1);
+        assertThat(proxyClient.getMisses()).isEqualTo(1);
+        verify(rdsClient, times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void test_MutatingCallInvalidatesCache() {
+        when(rdsClient.modifyDBInstance(any(ModifyDbInstanceRequest.class))).thenReturn(ModifyDbInstanceResponse.builder().build());
+        final CachingRdsProxyClient proxyClient = new CachingRdsProxyClient(rdsProxy, Duration.ofMinutes(1));
+
+        describe(proxyClient, describeRequest());
+        proxyClient.injectCredentialsAndInvokeV2(
+                ModifyDbInstanceRequest.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER).build(),
+                proxyClient.client()::modifyDBInstance
+        );
+        describe(proxyClient, describeRequest());
+
+        assertThat(proxyClient.getHits()).isEqualTo(0);
+        assertThat(proxyClient.getMisses()).isEqualTo(2);
+        verify(rdsClient, times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void test_ReadOnlyCallKeepsCache() {
+        when(rdsClient.describeDBSnapshots(any(DescribeDbSnapshotsRequest.class))).thenReturn(DescribeDbSnapshotsResponse.builder().build());
+        final CachingRdsProxyClient proxyClient = new CachingRdsProxyClient(rdsProxy, Duration.ofMinutes(1));
+
+        describe(proxyClient, describeRequest());
+        proxyClient.injectCredentialsAndInvokeV2(
+                DescribeDbSnapshotsRequest.builder().build(),
+                proxyClient.client()::describeDBSnapshots
+        );
+        describe(proxyClient, describeRequest());
+
+        assertThat(proxyClient.getHits()).isEqualTo(1);
+        verify(rdsClient, times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void test_ExpiredEntryIsRefetched() throws InterruptedException {
+        final CachingRdsProxyClient proxyClient = new CachingRdsProxyClient(rdsProxy, Duration.ofNanos(1));
+
+        describe(proxyClient, describeRequest());
+        Thread.sleep(5);
+        describe(proxyClient, describeRequest());
+
+        assertThat(proxyClient.getHits()).isEqualTo(0);
+        assertThat(proxyClient.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_NonIdentifierDescribeIsNotCached() {
+        final CachingRdsProxyClient proxyClient = new CachingRdsProxyClient(rdsProxy, Duration.ofMinutes(1));
+        final DescribeDbInstancesRequest filteredRequest = DescribeDbInstancesRequest.builder()
+                .filters(Filter.builder().name("engine").values("mysql").build())
+                .build();
+
+        describe(proxyClient, filteredRequest);
+        describe(proxyClient, filteredRequest);
+        describe(proxyClient, DescribeDbInstancesRequest.builder().marker("marker").build());
+
+        assertThat(proxyClient.getHits()).isEqualTo(0);
+        assertThat(proxyClient.getMisses()).isEqualTo(0);
+        verify(rdsClient, times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+}
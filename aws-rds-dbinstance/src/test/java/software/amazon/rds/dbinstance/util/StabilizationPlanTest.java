@@ -0,0 +1,103 @@
+package software.amazon.rds.dbinstance.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
+
+class StabilizationPlanTest {
+
+    private static final DBInstance AVAILABLE = DBInstance.builder()
+            .dbInstanceStatus("available")
+            .build();
+
+    private static final ModifyDbInstanceRequest MODIFY_STORAGE = ModifyDbInstanceRequest.builder()
+            .dbInstanceIdentifier("db-instance")
+            .allocatedStorage(200)
+            .applyImmediately(true)
+            .build();
+
+    @Test
+    public void test_unmetConditions() {
+        final StabilizationPlan plan = StabilizationPlan.available()
+                .and(StabilizationPlan.PARAMETERS_APPLIED, StabilizationPlan::isParameterApplyComplete)
+                .and(StabilizationPlan.NO_PENDING_MODIFIED_VALUES, StabilizationPlan.hasNoPendingModifiedValues(MODIFY_STORAGE));
+
+        assertThat(plan.unmetConditions(AVAILABLE)).isEmpty();
+        assertThat(plan.isMetBy(AVAILABLE)).isTrue();
+
+        final DBInstance modifying = DBInstance.builder()
+                .dbInstanceStatus("modifying")
+                .dbParameterGroups(parameterApplyStatus(StabilizationPlan.PARAMETER_APPLY_STATUS_APPLYING))
+                .pendingModifiedValues(PendingModifiedValues.builder().allocatedStorage(100).build())
+                .build();
+        assertThat(plan.unmetConditions(modifying)).containsExactly(
+                StabilizationPlan.AVAILABLE,
+                StabilizationPlan.PARAMETERS_APPLIED,
+                StabilizationPlan.NO_PENDING_MODIFIED_VALUES
+        );
+        assertThat(plan.isMetBy(modifying)).isFalse();
+    }
+
+    @Test
+    public void test_and_KeepsOriginalPlan() {
+        final StabilizationPlan plan = StabilizationPlan.available();
+        final StabilizationPlan extended = plan.and("never", dbInstance -> false);
+
+        assertThat(plan.isMetBy(AVAILABLE)).isTrue();
+        assertThat(extended.unmetConditions(AVAILABLE)).containsExactly("never");
+        assertThat(StabilizationPlan.empty().isMetBy(DBInstance.builder().build())).isTrue();
+    }
+
+    @Test
+    public void test_isPendingReboot() {
+        final DBInstance pendingReboot = AVAILABLE.toBuilder()
+                .dbParameterGroups(parameterApplyStatus(StabilizationPlan.PARAMETER_APPLY_STATUS_PENDING_REBOOT))
+                .build();
+
+        assertThat(StabilizationPlan.isPendingReboot(pendingReboot)).isTrue();
+        assertThat(StabilizationPlan.isParameterApplyComplete(pendingReboot)).isTrue();
+        assertThat(StabilizationPlan.isPendingReboot(AVAILABLE)).isFalse();
+    }
+
+    @Test
+    public void test_hasNoPendingModifiedValues() {
+        final Predicate<DBInstance> noPendingStorage = StabilizationPlan.hasNoPendingModifiedValues(MODIFY_STORAGE);
+        assertThat(noPendingStorage.test(AVAILABLE)).isTrue();
+        assertThat(noPendingStorage.test(AVAILABLE.toBuilder()
+                .pendingModifiedValues(PendingModifiedValues.builder().build())
+                .build())).isTrue();
+        assertThat(noPendingStorage.test(AVAILABLE.toBuilder()
+                .pendingModifiedValues(PendingModifiedValues.builder().allocatedStorage(200).build())
+                .build())).isFalse();
+    }
+
+    @Test
+    public void test_hasNoPendingModifiedValues_IgnoresValuesNotRequested() {
+        final Predicate<DBInstance> noPendingStorage = StabilizationPlan.hasNoPendingModifiedValues(MODIFY_STORAGE);
+        assertThat(noPendingStorage.test(AVAILABLE.toBuilder()
+                .pendingModifiedValues(PendingModifiedValues.builder()
+                        .dbInstanceClass("db.m5.xlarge")
+                        .processorFeatures(Collections.emptyList())
+                        .build())
+                .build())).isTrue();
+        assertThat(StabilizationPlan.hasNoPendingModifiedValues(MODIFY_STORAGE.toBuilder().applyImmediately(false).build())
+                .test(AVAILABLE.toBuilder()
+                        .pendingModifiedValues(PendingModifiedValues.builder().allocatedStorage(200).build())
+                        .build())).isTrue();
+    }
+
+    private static DBParameterGroupStatus parameterApplyStatus(final String status) {
+        return DBParameterGroupStatus.builder()
+                .dbParameterGroupName("default")
+                .parameterApplyStatus(status)
+                .build();
+    }
+}
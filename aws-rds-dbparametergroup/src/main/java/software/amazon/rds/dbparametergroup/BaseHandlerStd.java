@@ -2,11 +2,14 @@ package software.amazon.rds.dbparametergroup;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -22,19 +25,32 @@ import software.amazon.awssdk.services.rds.model.Parameter;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.client.RateLimiter;
+import software.amazon.rds.common.client.RdsProxyClients;
+import software.amazon.rds.common.delay.ExponentialWithJitter;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.metrics.CallMetrics;
+import software.amazon.rds.common.parameter.EngineDefaultParameterCache;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
-    protected static final Constant CONSTANT = Constant.of().timeout(Duration.ofMinutes(120L))
-            .delay(Duration.ofSeconds(30L)).build();
+    protected static final Delay BACKOFF_DELAY = ExponentialWithJitter.of()
+            .minDelay(Duration.ofSeconds(2L))
+            .maxDelay(Duration.ofSeconds(30L))
+            .timeout(Duration.ofMinutes(120L))
+            .build();
+    protected static final RateLimiter RATE_LIMITER = new RateLimiter(
+            RateLimiter.DEFAULT_DESCRIBES_PER_SECOND,
+            RateLimiter.DEFAULT_MUTATIONS_PER_SECOND);
+    protected static final EngineDefaultParameterCache ENGINE_DEFAULT_PARAMETERS = new EngineDefaultParameterCache();
     protected static final ErrorRuleSet DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET = ErrorRuleSet.builder()
             .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.ResourceConflict),
                     InvalidDbParameterGroupStateException.class)
@@ -53,22 +69,36 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static int MAX_LENGTH_GROUP_NAME = 255;
     protected static int NO_CALLBACK_DELAY = 0;
     protected static int MAX_PARAMETERS_PER_REQUEST = 20;
+    protected static final String PARAMETER_BATCH_RESET = "reset";
+    protected static final String PARAMETER_BATCH_MODIFY = "modify";
     @Setter
     private Logger logger;
 
+    protected HandlerConfig config;
+
+    public BaseHandlerStd(final HandlerConfig config) {
+        super();
+        this.config = config;
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        final CallMetrics metrics = new CallMetrics();
+        try {
+            return handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    RdsProxyClients.newProxy(proxy, ClientBuilder::getClient, config, metrics),
+                    logger
+            );
+        } finally {
+            metrics.emit(logger, ResourceModel.TYPE_NAME, getClass().getSimpleName());
+        }
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> applyParameters(final AmazonWebServicesClientProxy proxy,
@@ -78,7 +108,6 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         //isParametersApplied flag for unit testing
         if (callbackContext.isParametersApplied())
             return ProgressEvent.defaultInProgressHandler(callbackContext, NO_CALLBACK_DELAY, model);
-        callbackContext.setParametersApplied(true);
 
         Map<String, Parameter> defaultEngineParameters = Maps.newHashMap();
         Map<String, Parameter> currentDBParameters = Maps.newHashMap();
@@ -88,7 +117,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .then(progressEvent -> validateModelParameters(progressEvent, defaultEngineParameters))
                 .then(progressEvent -> describeCurrentDBParameters(progressEvent, currentDBParameters, proxy, proxyClient))
                 .then(progressEvent -> resetParameters(progressEvent, defaultEngineParameters, currentDBParameters, proxy, proxyClient))
-                .then(progressEvent -> modifyParameters(progressEvent, currentDBParameters, proxy, proxyClient));
+                .then(progressEvent -> modifyParameters(progressEvent, currentDBParameters, proxy, proxyClient))
+                .then(progressEvent -> {
+                    // Set once all batches went through, a re-invocation after a failed batch resumes from the applied ones.
+                    progressEvent.getCallbackContext().setParametersApplied(true);
+                    return progressEvent;
+                });
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> resetParameters(final ProgressEvent<ResourceModel, CallbackContext> progress,
@@ -97,13 +131,20 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                           final AmazonWebServicesClientProxy proxy,
                                                                           final ProxyClient<RdsClient> proxyClient) {
         ResourceModel model = progress.getResourceModel();
-        CallbackContext callbackContext = progress.getCallbackContext();
         Map<String, Parameter> parametersToReset = getParametersToReset(model, defaultEngineParameters, currentDBParameters);
-        for (List<Parameter> paramsPartition : Iterables.partition(parametersToReset.values(), MAX_PARAMETERS_PER_REQUEST)) {  //modify api call is limited to 20 parameter per request
-            ProgressEvent<ResourceModel, CallbackContext> progressEvent = resetParameters(proxy, model, callbackContext, paramsPartition, proxyClient);
-            if (progressEvent.isFailed()) return progressEvent;
-        }
-        return ProgressEvent.progress(model, callbackContext);
+        return applyParameterBatches(progress, PARAMETER_BATCH_RESET, parametersToReset, (batch, paramsPartition) -> {
+            logger.log(String.format("Reset parameters: %s (total: %d)",
+                    paramsPartition.stream().map(Parameter::parameterName).collect(Collectors.joining(" , ")),
+                    paramsPartition.size()));
+            return proxy.initiate("rds::reset-db-parameter-group::" + batch, proxyClient, model, progress.getCallbackContext())
+                    .translateToServiceRequest((resourceModel) -> Translator.resetDbParametersRequest(resourceModel, paramsPartition))
+                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::resetDBParameterGroup))
+                    .handleError((request, exception, client, resourceModel, context) -> Commons.handleException(
+                            ProgressEvent.progress(resourceModel, context),
+                            exception,
+                            DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET))
+                    .done((request, response, proxyInvocation, resourceModel, context) -> markParameterBatchApplied(resourceModel, context, batch));
+        });
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> modifyParameters(final ProgressEvent<ResourceModel, CallbackContext> progress,
@@ -111,52 +152,60 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                            final AmazonWebServicesClientProxy proxy,
                                                                            final ProxyClient<RdsClient> proxyClient) {
         ResourceModel model = progress.getResourceModel();
-        CallbackContext callbackContext = progress.getCallbackContext();
         Map<String, Parameter> parametersToModify = getModifiableParameters(model, currentDBParameters);
-        for (List<Parameter> paramsPartition : Iterables.partition(parametersToModify.values(), MAX_PARAMETERS_PER_REQUEST)) {  //modify api call is limited to 20 parameter per request
-            ProgressEvent<ResourceModel, CallbackContext> progressEvent = modifyParameters(proxyClient, proxy, callbackContext, paramsPartition, model);
-            if (progressEvent.isFailed()) return progressEvent;
+        return applyParameterBatches(progress, PARAMETER_BATCH_MODIFY, parametersToModify, (batch, paramsPartition) -> {
+            logger.log(String.format("Modifying parameters: %s (total: %d)",
+                    paramsPartition.stream().map(Parameter::parameterName).collect(Collectors.joining(" , ")),
+                    paramsPartition.size()));
+            return proxy.initiate("rds::modify-db-parameter-group::" + batch, proxyClient, model, progress.getCallbackContext())
+                    .translateToServiceRequest((resourceModel) -> Translator.modifyDbParameterGroupRequest(resourceModel, paramsPartition))
+                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::modifyDBParameterGroup))
+                    .handleError((request, exception, client, resourceModel, context) -> Commons.handleException(
+                            ProgressEvent.progress(resourceModel, context),
+                            exception,
+                            DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET))
+                    .done((request, response, proxyInvocation, resourceModel, context) -> markParameterBatchApplied(resourceModel, context, batch));
+        });
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> applyParameterBatches(final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                                final String operation,
+                                                                                final Map<String, Parameter> parameters,
+                                                                                final BiFunction<String, List<Parameter>, ProgressEvent<ResourceModel, CallbackContext>> applyBatch) {
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        final List<Parameter> sortedParameters = parameters.values().stream()
+                .sorted(Comparator.comparing(Parameter::parameterName))
+                .collect(Collectors.toList());
+        final Map<String, List<Parameter>> pendingBatches = new LinkedHashMap<>();
+        for (List<Parameter> paramsPartition : Iterables.partition(sortedParameters, MAX_PARAMETERS_PER_REQUEST)) {  //modify api call is limited to 20 parameter per request
+            final String batch = parameterBatchKey(operation, paramsPartition);
+            if (!callbackContext.getAppliedParameterBatches().contains(batch)) {
+                pendingBatches.put(batch, paramsPartition);
+            }
         }
-        return ProgressEvent.progress(model, callbackContext);
 
+        // Batches go out one after another, a failed or throttled batch stops the rest until the next attempt.
+        for (Map.Entry<String, List<Parameter>> batch : pendingBatches.entrySet()) {
+            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = applyBatch.apply(batch.getKey(), batch.getValue());
+            if (isInterrupted(progressEvent)) return progressEvent;
+        }
+        return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> modifyParameters(final ProxyClient<RdsClient> proxyClient,
-                                                                           final AmazonWebServicesClientProxy proxy,
-                                                                           final CallbackContext callbackContext,
-                                                                           final List<Parameter> paramsPartition,
-                                                                           final ResourceModel model) {
-        logger.log(String.format("Modifying parameters: %s (total: %d)",
-                paramsPartition.stream().map(Parameter::parameterName).collect(Collectors.joining(" , ")),
-                paramsPartition.size()));
-        return proxy.initiate("rds::modify-db-parameter-group", proxyClient, model, callbackContext)
-                .translateToServiceRequest((resourceModel) -> Translator.modifyDbParameterGroupRequest(resourceModel, paramsPartition))
-                .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::modifyDBParameterGroup))
-                .handleError((describeDbParameterGroupsRequest, exception, client, resourceModel, ctx) ->
-                        Commons.handleException(
-                                ProgressEvent.progress(resourceModel, ctx),
-                                exception,
-                                DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET))
-                .progress();
+    private static ProgressEvent<ResourceModel, CallbackContext> markParameterBatchApplied(final ResourceModel model,
+                                                                                          final CallbackContext callbackContext,
+                                                                                          final String batch) {
+        callbackContext.getAppliedParameterBatches().add(batch);
+        return ProgressEvent.progress(model, callbackContext);
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> resetParameters(final AmazonWebServicesClientProxy proxy,
-                                                                          final ResourceModel model,
-                                                                          final CallbackContext callbackContext,
-                                                                          final List<Parameter> paramsPartition,
-                                                                          final ProxyClient<RdsClient> proxyClient) {
-        logger.log(String.format("Reset parameters: %s (total: %d)",
-                paramsPartition.stream().map(Parameter::parameterName).collect(Collectors.joining(" , ")),
-                paramsPartition.size()));
-        return proxy.initiate("rds::reset-db-parameter-group", proxyClient, model, callbackContext)
-                .translateToServiceRequest((resourceModel) -> Translator.resetDbParametersRequest(resourceModel, paramsPartition))
-                .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::resetDBParameterGroup))
-                .handleError((describeDbParameterGroupsRequest, exception, client, resourceModel, ctx) ->
-                        Commons.handleException(
-                                ProgressEvent.progress(resourceModel, ctx),
-                                exception,
-                                DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET))
-                .progress();
+    // Only ignored errors let the remaining batches go on, failures and retries with backoff stop them.
+    private static boolean isInterrupted(final ProgressEvent<ResourceModel, CallbackContext> progressEvent) {
+        return progressEvent.isFailed() || progressEvent.getCallbackDelaySeconds() > 0;
+    }
+
+    private static String parameterBatchKey(final String operation, final List<Parameter> paramsPartition) {
+        return operation + ":" + paramsPartition.stream().map(Parameter::parameterName).collect(Collectors.joining(","));
     }
 
     private Map<String, Parameter> getModifiableParameters(final ResourceModel model,
@@ -254,6 +303,15 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                                           final Map<String, Parameter> defaultEngineParameters,
                                                                                           final AmazonWebServicesClientProxy proxy,
                                                                                           final ProxyClient<RdsClient> proxyClient) {
+        final EngineDefaultParameterCache cache = config.getEngineDefaultParameters();
+        final String family = progress.getResourceModel().getFamily();
+        if (cache != null) {
+            final Optional<Map<String, Parameter>> cachedParameters = cache.get(family);
+            if (cachedParameters.isPresent()) {
+                defaultEngineParameters.putAll(cachedParameters.get());
+                return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+            }
+        }
         return proxy.initiate("rds::default-engine-db-parameters", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest((resourceModel) -> Translator.describeEngineDefaultParametersRequest(resourceModel))
                 .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeIterableV2(request, proxyInvocation.client()::describeEngineDefaultParametersPaginator))
@@ -268,6 +326,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                     .flatMap(describeDbParametersResponse -> describeDbParametersResponse.engineDefaults().parameters().stream())
                                     .collect(Collectors.toMap(Parameter::parameterName, Function.identity()))
                     );
+                    if (cache != null) {
+                        cache.put(family, defaultEngineParameters);
+                    }
                     return ProgressEvent.progress(resourceModel, context);
                 });
 
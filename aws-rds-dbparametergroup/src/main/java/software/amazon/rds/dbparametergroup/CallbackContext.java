@@ -1,5 +1,8 @@
 package software.amazon.rds.dbparametergroup;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -9,4 +12,5 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 public class CallbackContext extends StdCallbackContext {
     private boolean parametersApplied;
     private String dbParameterGroupArn;
+    private Set<String> appliedParameterBatches = new HashSet<>();
 }
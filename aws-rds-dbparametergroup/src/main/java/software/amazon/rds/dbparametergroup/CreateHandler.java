@@ -11,10 +11,23 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.resource.IdentifierUtils;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 
 public class CreateHandler extends BaseHandlerStd {
 
+    public CreateHandler() {
+        this(HandlerConfig.builder()
+                .backoff(BACKOFF_DELAY)
+                .engineDefaultParameters(ENGINE_DEFAULT_PARAMETERS)
+                .rateLimiter(RATE_LIMITER)
+                .build());
+    }
+
+    public CreateHandler(final HandlerConfig config) {
+        super(config);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -36,7 +49,7 @@ public class CreateHandler extends BaseHandlerStd {
                 })
                 .then(progress -> proxy.initiate("rds::create-db-parameter-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(resourceModel -> Translator.createDbParameterGroupRequest(resourceModel, mergeMaps(request.getSystemTags(), request.getDesiredResourceTags())))
-                        .backoffDelay(CONSTANT)
+                        .backoffDelay(config.getBackoff())
                         .makeServiceCall((createDBParameterGroupRequest, proxyInvocation) ->
                                 proxyInvocation.injectCredentialsAndInvokeV2(createDBParameterGroupRequest, proxyInvocation.client()::createDBParameterGroup))
                         .handleError((createDBParameterGroupRequest, exception, client, resourceModel, ctx) ->
@@ -45,6 +58,6 @@ public class CreateHandler extends BaseHandlerStd {
                                         exception,
                                         DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET))
                         .done((paramGroupRequest, paramGroupResponse, proxyInvocation, resourceModel, context) -> applyParameters(proxy, proxyInvocation, resourceModel, context)))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> new ReadHandler(config).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 }
@@ -22,6 +22,7 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 public class AbstractTestBase {
     protected static final Credentials MOCK_CREDENTIALS;
@@ -32,6 +33,10 @@ public class AbstractTestBase {
     protected static final Set<Tag> TAG_SET;
     protected static final String LOGICAL_RESOURCE_IDENTIFIER;
     protected static final Map<String, Object> PARAMS;
+    // Handlers under test skip the process-wide engine-default parameter cache, so tests do not leak into each other.
+    protected static final HandlerConfig TEST_HANDLER_CONFIG = HandlerConfig.builder()
+            .backoff(BaseHandlerStd.BACKOFF_DELAY)
+            .build();
 
 
     static {
@@ -4,22 +4,32 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.security.InvalidParameterException;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.google.common.collect.ImmutableMap;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupResponse;
@@ -36,6 +46,7 @@ import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupResponse;
 import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.awssdk.services.rds.model.RdsException;
 import software.amazon.awssdk.services.rds.paginators.DescribeDBParametersIterable;
 import software.amazon.awssdk.services.rds.paginators.DescribeEngineDefaultParametersIterable;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -45,6 +56,9 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.error.ErrorCode;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.parameter.EngineDefaultParameterCache;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest extends AbstractTestBase {
@@ -62,7 +76,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     @BeforeEach
     public void setup() {
-        handler = new CreateHandler();
+        handler = new CreateHandler(TEST_HANDLER_CONFIG);
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         rdsClient = mock(RdsClient.class);
         proxyClient = MOCK_PROXY(proxy, rdsClient);
@@ -116,7 +130,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequest_SimpleSuccessWithApplyParameters() {
-        final CreateHandler handler = new CreateHandler();
+        final CreateHandler handler = new CreateHandler(TEST_HANDLER_CONFIG);
 
         final CreateDbParameterGroupResponse createDbParameterGroupResponse = CreateDbParameterGroupResponse.builder().build();
         when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(createDbParameterGroupResponse);
@@ -147,9 +161,165 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(rdsClient).describeEngineDefaultParametersPaginator(any(DescribeEngineDefaultParametersRequest.class));
     }
 
+    @Test
+    public void handleRequest_SimpleSuccessWithCachedEngineDefaultParameters() {
+        final Parameter param1 = Parameter.builder()
+                .parameterName("param1")
+                .parameterValue("system_value")
+                .isModifiable(true)
+                .applyType("static")
+                .build();
+        final Parameter param2 = Parameter.builder()
+                .parameterName("param2")
+                .parameterValue("system_value")
+                .isModifiable(true)
+                .applyType("dynamic")
+                .build();
+        final EngineDefaultParameterCache cache = new EngineDefaultParameterCache();
+        cache.put(RESOURCE_MODEL.getFamily(), ImmutableMap.of("param1", param1, "param2", param2));
+        final CreateHandler handler = new CreateHandler(HandlerConfig.builder()
+                .backoff(BaseHandlerStd.BACKOFF_DELAY)
+                .engineDefaultParameters(cache)
+                .build());
+
+        when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(CreateDbParameterGroupResponse.builder().build());
+        final DescribeDBParametersIterable describeDbParametersIterable = mock(DescribeDBParametersIterable.class);
+        when(describeDbParametersIterable.stream()).thenReturn(Stream.of(DescribeDbParametersResponse.builder()
+                .parameters(param1, param2)
+                .build()));
+        when(rdsClient.describeDBParametersPaginator(any(DescribeDbParametersRequest.class))).thenReturn(describeDbParametersIterable);
+        when(rdsClient.modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class))).thenReturn(ModifyDbParameterGroupResponse.builder().build());
+        mockDescribeDBParameterGroup();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(getClientRequestToken())
+                .desiredResourceState(RESOURCE_MODEL)
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(rdsClient).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(rdsClient).describeDBParametersPaginator(any(DescribeDbParametersRequest.class));
+        verify(rdsClient).modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class));
+        verify(rdsClient, never()).describeEngineDefaultParametersPaginator(any(DescribeEngineDefaultParametersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccessPopulatesEngineDefaultParameterCache() {
+        final EngineDefaultParameterCache cache = new EngineDefaultParameterCache();
+        final CreateHandler handler = new CreateHandler(HandlerConfig.builder()
+                .backoff(BaseHandlerStd.BACKOFF_DELAY)
+                .engineDefaultParameters(cache)
+                .build());
+
+        when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(CreateDbParameterGroupResponse.builder().build());
+        mockDescribeDbParametersResponse("static", "dynamic", true);
+        mockDescribeDBParameterGroup();
+        when(rdsClient.modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class))).thenReturn(ModifyDbParameterGroupResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(getClientRequestToken())
+                .desiredResourceState(RESOURCE_MODEL)
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER).build();
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(cache.get(RESOURCE_MODEL.getFamily()).get()).containsOnlyKeys("param1", "param2");
+
+        verify(rdsClient).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(rdsClient).describeDBParametersPaginator(any(DescribeDbParametersRequest.class));
+        verify(rdsClient).describeEngineDefaultParametersPaginator(any(DescribeEngineDefaultParametersRequest.class));
+        verify(rdsClient).modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ParameterBatches() {
+        final CreateHandler handler = new CreateHandler(TEST_HANDLER_CONFIG);
+        when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(CreateDbParameterGroupResponse.builder().build());
+        final List<Parameter> parameters = mockManyParameters(45);
+        when(rdsClient.modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class))).thenReturn(ModifyDbParameterGroupResponse.builder().build());
+        mockDescribeDBParameterGroup();
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, manyParametersRequest(parameters), callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getAppliedParameterBatches()).hasSize(3);
+        assertThat(callbackContext.isParametersApplied()).isTrue();
+
+        final ArgumentCaptor<ModifyDbParameterGroupRequest> captor = ArgumentCaptor.forClass(ModifyDbParameterGroupRequest.class);
+        verify(rdsClient, times(3)).modifyDBParameterGroup(captor.capture());
+        assertThat(captor.getAllValues().stream().flatMap(request -> request.parameters().stream()).map(Parameter::parameterName))
+                .containsExactlyInAnyOrderElementsOf(parameters.stream().map(Parameter::parameterName).collect(Collectors.toList()));
+        verify(rdsClient).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(rdsClient).describeDBParametersPaginator(any(DescribeDbParametersRequest.class));
+        verify(rdsClient).describeEngineDefaultParametersPaginator(any(DescribeEngineDefaultParametersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ParameterBatches_StopsAtFailedBatch() {
+        final CreateHandler handler = new CreateHandler(TEST_HANDLER_CONFIG);
+        when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(CreateDbParameterGroupResponse.builder().build());
+        final List<Parameter> parameters = mockManyParameters(45);
+        when(rdsClient.modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class)))
+                .thenReturn(ModifyDbParameterGroupResponse.builder().build())
+                .thenThrow(RdsException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder()
+                                .errorCode(ErrorCode.ThrottlingException.toString())
+                                .build())
+                        .build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, manyParametersRequest(parameters), callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isPositive();
+        assertThat(callbackContext.getAppliedParameterBatches()).containsExactly(
+                BaseHandlerStd.PARAMETER_BATCH_MODIFY + ":" + parameters.subList(0, 20).stream()
+                        .map(Parameter::parameterName)
+                        .collect(Collectors.joining(",")));
+        assertThat(callbackContext.isParametersApplied()).isFalse();
+
+        verify(rdsClient, times(2)).modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class));
+        verify(rdsClient).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(rdsClient).describeDBParametersPaginator(any(DescribeDbParametersRequest.class));
+        verify(rdsClient).describeEngineDefaultParametersPaginator(any(DescribeEngineDefaultParametersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ParameterBatches_SkipsAppliedBatches() {
+        final CreateHandler handler = new CreateHandler(TEST_HANDLER_CONFIG);
+        when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(CreateDbParameterGroupResponse.builder().build());
+        final List<Parameter> parameters = mockManyParameters(45);
+        when(rdsClient.modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class))).thenReturn(ModifyDbParameterGroupResponse.builder().build());
+        mockDescribeDBParameterGroup();
+
+        final CallbackContext callbackContext = new CallbackContext();
+        for (List<Parameter> batch : Arrays.asList(parameters.subList(0, 20), parameters.subList(20, 40))) {
+            callbackContext.getAppliedParameterBatches().add(BaseHandlerStd.PARAMETER_BATCH_MODIFY + ":" + batch.stream()
+                    .map(Parameter::parameterName)
+                    .collect(Collectors.joining(",")));
+        }
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, manyParametersRequest(parameters), callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ArgumentCaptor<ModifyDbParameterGroupRequest> captor = ArgumentCaptor.forClass(ModifyDbParameterGroupRequest.class);
+        verify(rdsClient).modifyDBParameterGroup(captor.capture());
+        assertThat(captor.getValue().parameters()).hasSize(5);
+        verify(rdsClient).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(rdsClient).describeDBParametersPaginator(any(DescribeDbParametersRequest.class));
+        verify(rdsClient).describeEngineDefaultParametersPaginator(any(DescribeEngineDefaultParametersRequest.class));
+    }
+
     @Test
     public void handleRequest_SimpleUnmodifiableParameterFail() {
-        final CreateHandler handler = new CreateHandler();
+        final CreateHandler handler = new CreateHandler(TEST_HANDLER_CONFIG);
 
         final CreateDbParameterGroupResponse createDbParameterGroupResponse = CreateDbParameterGroupResponse.builder().build();
         when(proxyClient.client().createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(createDbParameterGroupResponse);
@@ -172,7 +342,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequest_SimpleInProgressFailedUnsupportedParams() {
-        final CreateHandler handler = new CreateHandler();
+        final CreateHandler handler = new CreateHandler(TEST_HANDLER_CONFIG);
 
         final CreateDbParameterGroupResponse createDbParameterGroupResponse = CreateDbParameterGroupResponse.builder().build();
         when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(createDbParameterGroupResponse);
@@ -242,6 +412,40 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
     }
 
+    private ResourceHandlerRequest<ResourceModel> manyParametersRequest(final List<Parameter> parameters) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(getClientRequestToken())
+                .desiredResourceState(RESOURCE_MODEL.toBuilder()
+                        .parameters(parameters.stream().collect(Collectors.toMap(Parameter::parameterName, parameter -> "value")))
+                        .build())
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER).build();
+    }
+
+    private List<Parameter> mockManyParameters(final int count) {
+        final List<Parameter> parameters = IntStream.range(0, count)
+                .mapToObj(i -> Parameter.builder()
+                        .parameterName(String.format("param%02d", i))
+                        .parameterValue("system_value")
+                        .isModifiable(true)
+                        .applyType("dynamic")
+                        .build())
+                .collect(Collectors.toList());
+
+        final DescribeEngineDefaultParametersIterable describeEngineDefaultParametersIterable = mock(DescribeEngineDefaultParametersIterable.class);
+        when(describeEngineDefaultParametersIterable.stream()).thenReturn(Stream.of(DescribeEngineDefaultParametersResponse.builder()
+                .engineDefaults(EngineDefaults.builder().parameters(parameters).build())
+                .build()));
+        when(rdsClient.describeEngineDefaultParametersPaginator(any(DescribeEngineDefaultParametersRequest.class))).thenReturn(describeEngineDefaultParametersIterable);
+
+        final DescribeDBParametersIterable describeDbParametersIterable = mock(DescribeDBParametersIterable.class);
+        when(describeDbParametersIterable.stream()).thenReturn(Stream.of(DescribeDbParametersResponse.builder()
+                .parameters(parameters)
+                .build()));
+        when(rdsClient.describeDBParametersPaginator(any(DescribeDbParametersRequest.class))).thenReturn(describeDbParametersIterable);
+        return parameters;
+    }
+
     private void mockDescribeDBParameterGroup() {
         final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder().dbParameterGroups(DB_PARAMETER_GROUP_ACTIVE).build();
         when(proxyClient.client().describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class))).thenReturn(describeDbParameterGroupsResponse);
@@ -9,22 +9,33 @@ import software.amazon.awssdk.services.rds.model.DbSubnetGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.DbSubnetGroupQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.InvalidDbSubnetGroupStateException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.client.RateLimiter;
+import software.amazon.rds.common.client.RdsProxyClients;
+import software.amazon.rds.common.delay.ExponentialWithJitter;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
+import software.amazon.rds.common.metrics.CallMetrics;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final int DB_SUBNET_GROUP_NAME_LENGTH = 255;
     protected static final String DB_SUBNET_GROUP_STATUS_COMPLETE = "Complete";
-    protected static final Constant CONSTANT = Constant.of().timeout(Duration.ofMinutes(120L))
-            .delay(Duration.ofSeconds(30L)).build();
+    protected static final Delay BACKOFF_DELAY = ExponentialWithJitter.of()
+            .minDelay(Duration.ofSeconds(2L))
+            .maxDelay(Duration.ofSeconds(30L))
+            .timeout(Duration.ofMinutes(120L))
+            .build();
+    protected static final RateLimiter RATE_LIMITER = new RateLimiter(
+            RateLimiter.DEFAULT_DESCRIBES_PER_SECOND,
+            RateLimiter.DEFAULT_MUTATIONS_PER_SECOND);
 
     protected static final ErrorRuleSet DEFAULT_DB_SUBNET_GROUP_ERROR_RULE_SET = ErrorRuleSet.builder()
             .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.AlreadyExists),
@@ -38,17 +49,29 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             .build()
             .orElse(Commons.DEFAULT_ERROR_RULE_SET);
 
+    protected HandlerConfig config;
+
+    public BaseHandlerStd(final HandlerConfig config) {
+        super();
+        this.config = config;
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                              final ResourceHandlerRequest<ResourceModel> request,
                                                                              final CallbackContext callbackContext,
                                                                              final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger);
+        final CallMetrics metrics = new CallMetrics();
+        try {
+            return handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    RdsProxyClients.newProxy(proxy, ClientBuilder::getClient, config, metrics),
+                    logger);
+        } finally {
+            metrics.emit(logger, ResourceModel.TYPE_NAME, getClass().getSimpleName());
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -84,6 +107,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Map<String, String> previousTags,
             final Map<String, String> desiredTags) {
+        if (Tagging.diffTags(previousTags, desiredTags).isEmpty()) {
+            return progress;
+        }
         return proxy.initiate("rds::tag-dbsubnet-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::describeDbSubnetGroupsRequest)
                 .makeServiceCall((describeDbSubnetGroupsRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(describeDbSubnetGroupsRequest, proxyInvocation.client()::describeDBSubnetGroups))
@@ -1,5 +1,6 @@
 package software.amazon.rds.eventsubscription;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -10,17 +11,32 @@ import software.amazon.awssdk.services.rds.model.InvalidEventSubscriptionStateEx
 import software.amazon.awssdk.services.rds.model.SubscriptionAlreadyExistException;
 import software.amazon.awssdk.services.rds.model.SubscriptionNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.client.RateLimiter;
+import software.amazon.rds.common.client.RdsProxyClients;
+import software.amazon.rds.common.delay.ExponentialWithJitter;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
+import software.amazon.rds.common.metrics.CallMetrics;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    protected static final Delay BACKOFF_DELAY = ExponentialWithJitter.of()
+            .minDelay(Duration.ofSeconds(2L))
+            .maxDelay(Duration.ofSeconds(30L))
+            .timeout(Duration.ofMinutes(60L))
+            .build();
+    protected static final RateLimiter RATE_LIMITER = new RateLimiter(
+            RateLimiter.DEFAULT_DESCRIBES_PER_SECOND,
+            RateLimiter.DEFAULT_MUTATIONS_PER_SECOND);
+
     protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
 
     protected static final ErrorRuleSet DEFAULT_EVENT_SUBSCRIPTION_ERROR_RULE_SET = ErrorRuleSet.builder()
@@ -35,19 +51,31 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             .build()
             .orElse(Commons.DEFAULT_ERROR_RULE_SET);
 
+    protected HandlerConfig config;
+
+    public BaseHandlerStd(final HandlerConfig config) {
+        super();
+        this.config = config;
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        final CallMetrics metrics = new CallMetrics();
+        try {
+            return handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    RdsProxyClients.newProxy(proxy, ClientBuilder::getClient, config, metrics),
+                    logger
+            );
+        } finally {
+            metrics.emit(logger, ResourceModel.TYPE_NAME, getClass().getSimpleName());
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -66,6 +94,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return status.equals("active");
     }
 
+    // A throttled call comes back in progress with a callback delay, it stops the remaining calls just like a failure.
+    protected static boolean isInterrupted(final ProgressEvent<ResourceModel, CallbackContext> progressEvent) {
+        return progressEvent.isFailed() || progressEvent.getCallbackDelaySeconds() > 0;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> waitForEventSubscription(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
@@ -75,6 +108,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 // Function.identity() takes ResourceModel as an input and returns (the same) ResourceModel
                 // Function.identity() is roughly similar to `model -> model`
                 .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
                 // this skips the call and goes directly to stabilization
                 .makeServiceCall(EMPTY_CALL)
                 .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) -> isStabilized(resourceModel, proxyInvocation)).progress();
@@ -86,6 +120,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Map<String, String> previousTags,
             final Map<String, String> desiredTags) {
+        if (Tagging.diffTags(previousTags, desiredTags).isEmpty()) {
+            return progress;
+        }
         return proxy.initiate("rds::tag-event-subscription", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::describeEventSubscriptionsRequest)
                 .makeServiceCall((describeEventSubscriptionsRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(describeEventSubscriptionsRequest, proxyInvocation.client()::describeEventSubscriptions))
@@ -13,9 +13,22 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
 
 public class UpdateHandler extends BaseHandlerStd {
+
+    public UpdateHandler() {
+        this(HandlerConfig.builder()
+                .backoff(BACKOFF_DELAY)
+                .rateLimiter(RATE_LIMITER)
+                .build());
+    }
+
+    public UpdateHandler(final HandlerConfig config) {
+        super(config);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -39,6 +52,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
         return proxy.initiate("rds::update-event-subscription", proxyClient, desiredModel, callbackContext)
                 .translateToServiceRequest(Translator::modifyEventSubscriptionRequest)
+                .backoffDelay(config.getBackoff())
                 .makeServiceCall((modifyEventSubscriptionRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(modifyEventSubscriptionRequest, proxyInvocation.client()::modifyEventSubscription))
                 .stabilize((modifyEventSubscriptionRequest, modifyEventSubscriptionResponse, proxyInvocation, resourceModel, context) ->
                         isStabilized(resourceModel, proxyInvocation))
@@ -51,7 +65,7 @@ public class UpdateHandler extends BaseHandlerStd {
                 .then(progress -> removeSourceIds(proxy, proxyClient, desiredSourceIds, previousSourceIds, progress))
                 .then(progress -> waitForEventSubscription(proxy, proxyClient, progress))
                 .then(progress -> tagResource(proxy, proxyClient, progress, previousTags, desiredTags))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> new ReadHandler(config).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> removeSourceIds(
@@ -76,7 +90,7 @@ public class UpdateHandler extends BaseHandlerStd {
                         exception,
                         DEFAULT_EVENT_SUBSCRIPTION_ERROR_RULE_SET))
                 .progress())
-                .filter(ProgressEvent::isFailed)
+                .filter(BaseHandlerStd::isInterrupted)
                 .findFirst()
                 .orElse(progress);
     }
@@ -104,7 +118,7 @@ public class UpdateHandler extends BaseHandlerStd {
                                 exception,
                                 DEFAULT_EVENT_SUBSCRIPTION_ERROR_RULE_SET))
                         .progress())
-                .filter(ProgressEvent::isFailed)
+                .filter(BaseHandlerStd::isInterrupted)
                 .findFirst()
                 .orElse(progress);
     }
@@ -20,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.AddSourceIdentifierToSubscriptionRequest;
 import software.amazon.awssdk.services.rds.model.AddSourceIdentifierToSubscriptionResponse;
@@ -32,6 +33,7 @@ import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.ModifyEventSubscriptionRequest;
 import software.amazon.awssdk.services.rds.model.ModifyEventSubscriptionResponse;
+import software.amazon.awssdk.services.rds.model.RdsException;
 import software.amazon.awssdk.services.rds.model.RemoveSourceIdentifierFromSubscriptionRequest;
 import software.amazon.awssdk.services.rds.model.RemoveSourceIdentifierFromSubscriptionResponse;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
@@ -40,6 +42,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.error.ErrorCode;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends AbstractTestBase {
@@ -108,7 +111,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyRdsClient.client()).modifyEventSubscription(any(ModifyEventSubscriptionRequest.class));
-        verify(proxyRdsClient.client(), times(4)).describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class));
+        verify(proxyRdsClient.client(), times(3)).describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class));
         verify(proxyRdsClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
@@ -179,4 +182,41 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
     }
+
+    @Test
+    public void handleRequest_AddSourceIdThrottled() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        when(proxyRdsClient.client().modifyEventSubscription(any(ModifyEventSubscriptionRequest.class)))
+                .thenReturn(ModifyEventSubscriptionResponse.builder().build());
+        when(proxyRdsClient.client().describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class)))
+                .thenReturn(DescribeEventSubscriptionsResponse.builder()
+                        .eventSubscriptionsList(EventSubscription.builder().status("active").build())
+                        .build());
+        when(proxyRdsClient.client().addSourceIdentifierToSubscription(any(AddSourceIdentifierToSubscriptionRequest.class)))
+                .thenThrow(RdsException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder()
+                                .errorCode(ErrorCode.ThrottlingException.toString())
+                                .build())
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .subscriptionName("sampleId")
+                        .sourceIds(Sets.newHashSet("sampleNewId"))
+                        .build())
+                .previousResourceState(ResourceModel.builder().build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        // the throttled call is retried on the next invocation instead of being skipped
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isPositive();
+
+        verify(proxyRdsClient.client()).modifyEventSubscription(any(ModifyEventSubscriptionRequest.class));
+        verify(proxyRdsClient.client()).describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class));
+        verify(proxyRdsClient.client()).addSourceIdentifierToSubscription(any(AddSourceIdentifierToSubscriptionRequest.class));
+    }
 }
@@ -3,8 +3,7 @@ package software.amazon.rds.globalcluster;
 import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBCluster;
-import software.amazon.awssdk.services.rds.model.GlobalCluster;
-import software.amazon.awssdk.services.rds.model.GlobalClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.GlobalClusterMember;
 import software.amazon.awssdk.services.rds.model.GlobalClusterAlreadyExistsException;
 import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -15,37 +14,71 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.rds.common.client.RateLimiter;
+import software.amazon.rds.common.client.RdsProxyClients;
+import software.amazon.rds.common.delay.ExponentialWithJitter;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.metrics.CallMetrics;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.function.Function;
 
 import java.time.Duration;
 import java.util.function.BiFunction;
-import java.util.List;
 
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   protected static final int GLOBAL_CLUSTER_ID_MAX_LENGTH = 63;
-  protected static final int PAUSE_TIME_SECONDS = 60;
-  protected static final Constant BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(180L)).delay(Duration.ofSeconds(30L)).build();
+  // Membership changes usually settle within seconds, so they are polled from a short delay upwards.
+  protected static final Delay MEMBERSHIP_POLL_DELAY = ExponentialWithJitter.of()
+          .minDelay(Duration.ofSeconds(2L))
+          .maxDelay(Duration.ofSeconds(20L))
+          .timeout(Duration.ofMinutes(180L))
+          .build();
+  protected static final Delay BACKOFF_DELAY = ExponentialWithJitter.of()
+          .minDelay(Duration.ofSeconds(5L))
+          .maxDelay(Duration.ofSeconds(30L))
+          .timeout(Duration.ofMinutes(180L))
+          .build();
+  protected static final RateLimiter RATE_LIMITER = new RateLimiter(
+          RateLimiter.DEFAULT_DESCRIBES_PER_SECOND,
+          RateLimiter.DEFAULT_MUTATIONS_PER_SECOND);
   private static final String MESSAGE_FORMAT_FAILED_TO_STABILIZE = "GlobalCluster %s failed to stabilize.";
   protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
 
+  protected HandlerConfig config;
+
+  public BaseHandlerStd(final HandlerConfig config) {
+    super();
+    this.config = config;
+  }
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
           final AmazonWebServicesClientProxy proxy,
           final ResourceHandlerRequest<ResourceModel> request,
           final CallbackContext callbackContext,
           final Logger logger) {
-    return handleRequest(
-            proxy,
-            request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
-            logger
-    );
+    final CallMetrics metrics = new CallMetrics();
+    try {
+      return handleRequest(
+              proxy,
+              request,
+              callbackContext != null ? callbackContext : new CallbackContext(),
+              RdsProxyClients.newProxy(proxy, ClientBuilder::getClient, config, metrics),
+              logger
+      );
+    } finally {
+      metrics.emit(logger, ResourceModel.TYPE_NAME, getClass().getSimpleName());
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(AmazonWebServicesClientProxy proxy,
@@ -55,36 +88,16 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                                  Logger logger);
 
   // Global Cluster Stabilization
-  protected boolean isGlobalClusterStabilized(final ProxyClient<RdsClient> proxyClient,
-                                              final ResourceModel model) {
-    // describe status of a resource to make sure it's ready
+  protected boolean isGlobalClusterStabilized(final GlobalClusterSnapshot snapshot) {
     try {
-      final List<GlobalCluster> globalClusters =
-              proxyClient.injectCredentialsAndInvokeV2(
-                      Translator.describeGlobalClustersRequest(model),
-                      proxyClient.client()::describeGlobalClusters).globalClusters();
-      if(globalClusters == null || globalClusters.size() == 0) {
-        return false;
-      }
-      return GlobalClusterStatus.Available.equalsString(globalClusters.get(0).status());
-    } catch (GlobalClusterNotFoundException e) {
-      return false;
+      return snapshot.isGlobalClusterAvailable();
     } catch (Exception e) {
-      throw new CfnNotStabilizedException(MESSAGE_FORMAT_FAILED_TO_STABILIZE, model.getGlobalClusterIdentifier(), e);
+      throw new CfnNotStabilizedException(MESSAGE_FORMAT_FAILED_TO_STABILIZE, snapshot.getModel().getGlobalClusterIdentifier(), e);
     }
   }
 
-
-  protected boolean isDeleted(final ResourceModel model,
-                              final ProxyClient<RdsClient> proxyClient) {
-    try {
-      proxyClient.injectCredentialsAndInvokeV2(
-              Translator.describeGlobalClustersRequest(model),
-              proxyClient.client()::describeGlobalClusters);
-      return false;
-    } catch (GlobalClusterNotFoundException e) {
-      return true;
-    }
+  protected boolean isDeleted(final GlobalClusterSnapshot snapshot) {
+    return snapshot.isGlobalClusterNotFound();
   }
 
   protected boolean validateSourceDBClusterIdentifier(final ResourceModel model) {
@@ -93,30 +106,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     return StringUtils.isNullOrEmpty(model.getSourceDBClusterIdentifier()) || model.getSourceDBClusterIdentifier().contains(":");
   }
 
-  protected boolean globalClusterContainsOnlyMaster(final ResourceModel model, final ProxyClient<RdsClient> proxyClient) {
-      try {
-        final List<GlobalCluster> globalClusters =
-                proxyClient.injectCredentialsAndInvokeV2(
-                        Translator.describeGlobalClustersRequest(model),
-                        proxyClient.client()::describeGlobalClusters).globalClusters();
-
-        return globalClusters != null && globalClusters.size() > 0 && globalClusters.get(0).globalClusterMembers().size() == 1;
-      }catch (GlobalClusterNotFoundException e) {
-        return false;
-      }
-  }
-
   // DBCluster Stabilization
-  protected boolean isDBClusterStabilized(final ProxyClient<RdsClient> proxyClient,
-                                          final ResourceModel model,
+  protected boolean isDBClusterStabilized(final GlobalClusterSnapshot snapshot,
                                           final DBClusterStatus expectedStatus) {
-    // describe status of a resource to make sure it's ready
-    // describe db cluster
+    final ResourceModel model = snapshot.getModel();
     try {
-      final Optional<DBCluster> dbCluster =
-              proxyClient.injectCredentialsAndInvokeV2(
-                      Translator.describeDbClustersRequest(model),
-                      proxyClient.client()::describeDBClusters).dbClusters().stream().findFirst();
+      final Optional<DBCluster> dbCluster = snapshot.getSourceDBCluster();
 
       if (!dbCluster.isPresent())
         throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getSourceDBClusterIdentifier());
@@ -146,7 +141,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             // this skips the call and goes directly to stabilization
             .makeServiceCall(EMPTY_CALL)
             .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
-                    isDBClusterStabilized(proxyInvocation, resourceModel, DBClusterStatus.Available)).progress();
+                    isDBClusterStabilized(GlobalClusterSnapshot.of(proxyInvocation, resourceModel), DBClusterStatus.Available)).progress();
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> waitForGlobalClusterAvailableStatus(
@@ -162,48 +157,154 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             // this skips the call and goes directly to stabilization
             .makeServiceCall(EMPTY_CALL)
             .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
-                    isGlobalClusterStabilized(proxyInvocation, model)).progress();
+                    isGlobalClusterStabilized(GlobalClusterSnapshot.of(proxyInvocation, model))).progress();
+  }
+
+  protected Delay getMembershipPollDelay() {
+    return config.getMembershipPollDelay() != null ? config.getMembershipPollDelay() : config.getBackoff();
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> removeFromGlobalCluster(final AmazonWebServicesClientProxy proxy,
                                                                                   final ProxyClient<RdsClient> proxyClient,
                                                                                   final ProgressEvent<ResourceModel, CallbackContext> progress) {
 
-    if(!globalClusterContainsOnlyMaster(progress.getResourceModel(), proxyClient) || progress.getCallbackContext().isRemoved()) return progress;
-    //check if sourceDbCluster is not null and is in format of Identifier
+    if (progress.getCallbackContext().isRemoved()) return progress;
+    // the member list of the global cluster already carries the source cluster arn, no DescribeDBClusters needed
+    final GlobalClusterSnapshot snapshot = GlobalClusterSnapshot.of(proxyClient, progress.getResourceModel());
+    if (!snapshot.containsOnlyMaster()) return progress;
+    final Optional<GlobalClusterMember> sourceMember = snapshot.getSourceMember();
+    if (!sourceMember.isPresent()) return progress;
+
     return proxy.initiate("rds::remove-from-global-cluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-            .translateToServiceRequest(Translator::describeDbClustersRequest)
-            .backoffDelay(BACKOFF_STRATEGY)
-            .makeServiceCall((describeDbClustersRequest, proxyClient1) -> proxyClient1.injectCredentialsAndInvokeV2(describeDbClustersRequest, proxyClient1.client()::describeDBClusters))
-            .done((describeDbClusterRequest, describeDbClusterResponse, proxyClient2, resourceModel, callbackContext) -> {
-              final String arn = describeDbClusterResponse.dbClusters().get(0).dbClusterArn();
-              proxyClient2.injectCredentialsAndInvokeV2(Translator.removeFromGlobalClusterRequest(resourceModel, arn), proxyClient2.client()::removeFromGlobalCluster);
+            .translateToServiceRequest(model -> Translator.removeFromGlobalClusterRequest(model, sourceMember.get().dbClusterArn()))
+            .backoffDelay(getMembershipPollDelay())
+            .makeServiceCall((removeFromGlobalClusterRequest, proxyClient1) -> proxyClient1.injectCredentialsAndInvokeV2(removeFromGlobalClusterRequest, proxyClient1.client()::removeFromGlobalCluster))
+            // resume as soon as the member has left instead of pausing for a fixed time
+            .stabilize((removeFromGlobalClusterRequest, removeFromGlobalClusterResponse, proxyClient2, resourceModel, callbackContext) ->
+                    !GlobalClusterSnapshot.of(proxyClient2, resourceModel).hasMember(removeFromGlobalClusterRequest.dbClusterIdentifier()))
+            .done((removeFromGlobalClusterRequest, removeFromGlobalClusterResponse, proxyClient2, resourceModel, callbackContext) -> {
               callbackContext.setRemoved(true);
-              return ProgressEvent.defaultInProgressHandler(callbackContext, PAUSE_TIME_SECONDS, resourceModel);
+              return ProgressEvent.progress(resourceModel, callbackContext);
             });
   }
 
 
+  protected ProgressEvent<ResourceModel, CallbackContext> detachGlobalClusterMembers(final AmazonWebServicesClientProxy proxy,
+                                                                                     final ProxyClient<RdsClient> proxyClient,
+                                                                                     final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                                     final String region) {
+    final GlobalClusterSnapshot snapshot = GlobalClusterSnapshot.of(proxyClient, progress.getResourceModel());
+    final List<GlobalClusterMember> secondaries = snapshot.getMembers().stream()
+            .filter(member -> !isWriter(member))
+            .collect(Collectors.toList());
+    final List<GlobalClusterMember> writers = snapshot.getMembers().stream()
+            .filter(BaseHandlerStd::isWriter)
+            .collect(Collectors.toList());
+
+    // a writer can only leave once the secondaries are gone
+    return progress
+            .then(p -> detachMembers(proxy, proxyClient, p, region, "rds::remove-secondaries-from-global-cluster", secondaries))
+            .then(p -> detachMembers(proxy, proxyClient, p, region, "rds::remove-writer-from-global-cluster", writers));
+  }
+
+  private ProgressEvent<ResourceModel, CallbackContext> detachMembers(final AmazonWebServicesClientProxy proxy,
+                                                                      final ProxyClient<RdsClient> proxyClient,
+                                                                      final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                      final String region,
+                                                                      final String callGraph,
+                                                                      final List<GlobalClusterMember> members) {
+    if (members.isEmpty()) return progress;
+    final Set<String> memberArns = members.stream()
+            .map(GlobalClusterMember::dbClusterArn)
+            .collect(Collectors.toSet());
+
+    return proxy.initiate(callGraph, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            .translateToServiceRequest(Function.identity())
+            .backoffDelay(config.getBackoff())
+            // detachment is asynchronous on the service side, issuing all requests up front lets the members leave in parallel
+            .makeServiceCall((model, proxyInvocation) -> {
+              final CallbackContext callbackContext = progress.getCallbackContext();
+              final Map<String, ProxyClient<RdsClient>> regionalProxyClients = new HashMap<>();
+              final Set<String> notFoundArns = new HashSet<>();
+              for (final String arn : memberArns) {
+                if (callbackContext.isMemberDetached(arn)) continue;
+                // RemoveFromGlobalCluster has to be sent to the region the member cluster lives in
+                final String memberRegion = regionOf(arn);
+                final ProxyClient<RdsClient> memberProxyClient = memberRegion == null || memberRegion.equals(region)
+                        ? proxyInvocation
+                        : regionalProxyClients.computeIfAbsent(memberRegion, key -> newRegionalProxyClient(proxy, key));
+                try {
+                  memberProxyClient.injectCredentialsAndInvokeV2(Translator.removeFromGlobalClusterRequest(model, arn), memberProxyClient.client()::removeFromGlobalCluster);
+                } catch (DbClusterNotFoundException e) {
+                  notFoundArns.add(arn);
+                }
+              }
+              // a member that is still listed after NotFound cannot be detached, waiting for it would only run into the timeout
+              if (!notFoundArns.isEmpty()) {
+                final GlobalClusterSnapshot snapshot = GlobalClusterSnapshot.of(proxyInvocation, model);
+                for (final String arn : notFoundArns) {
+                  if (snapshot.hasMember(arn)) {
+                    throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, arn);
+                  }
+                }
+              }
+              return model;
+            })
+            // a single DescribeGlobalClusters per poll covers the members of every region, a member counts as
+            // detached once the snapshot no longer lists it
+            .stabilize((model, response, proxyInvocation, resourceModel, context) -> {
+              final GlobalClusterSnapshot snapshot = GlobalClusterSnapshot.of(proxyInvocation, resourceModel);
+              for (final String arn : memberArns) {
+                if (!snapshot.hasMember(arn)) {
+                  context.markMemberDetached(arn);
+                }
+              }
+              return memberArns.stream().allMatch(context::isMemberDetached);
+            })
+            .progress();
+  }
+
+  protected ProxyClient<RdsClient> newRegionalProxyClient(final AmazonWebServicesClientProxy proxy, final String region) {
+    return proxy.newProxy(() -> ClientBuilder.getClient(region));
+  }
+
+  // arn:partition:rds:region:account:cluster:identifier
+  private static String regionOf(final String dbClusterArn) {
+    final String[] parts = dbClusterArn == null ? new String[0] : dbClusterArn.split(":");
+    return parts.length > 3 && !parts[3].isEmpty() ? parts[3] : null;
+  }
+
+  private static boolean isWriter(final GlobalClusterMember member) {
+    return Boolean.TRUE.equals(member.isWriter());
+  }
+
   protected ProgressEvent<ResourceModel, CallbackContext> createGlobalClusterWithSourceDBCluster(final AmazonWebServicesClientProxy proxy,
                                                                                                  final ProxyClient<RdsClient> proxyClient,
                                                                                                  final ProgressEvent<ResourceModel, CallbackContext> progress) {
 
-    if(progress.getCallbackContext().isGlobalClusterCreated()) return progress;
+    final CallbackContext context = progress.getCallbackContext();
     //check if sourceDbCluster is not null and is in format of Identifier
-    return proxy.initiate("rds::create-global-cluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-            .translateToServiceRequest(Translator::describeDbClustersRequest)
-            .backoffDelay(BACKOFF_STRATEGY)
-            .makeServiceCall((describeDbClustersRequest, proxyClient1) -> proxyClient1.injectCredentialsAndInvokeV2(describeDbClustersRequest, proxyClient1.client()::describeDBClusters))
-            .done((describeDbClusterRequest, describeDbClusterResponse, proxyClient2, resourceModel, callbackContext) -> {
-              final String arn = describeDbClusterResponse.dbClusters().get(0).dbClusterArn();
-              try {
-                proxyClient2.injectCredentialsAndInvokeV2(Translator.createGlobalClusterRequest(resourceModel, arn), proxyClient2.client()::createGlobalCluster);
-                callbackContext.setGlobalClusterCreated(true);
-              } catch (GlobalClusterAlreadyExistsException e) {
-                throw new CfnAlreadyExistsException(e);
+    return proxy.initiate("rds::create-global-cluster", proxyClient, progress.getResourceModel(), context)
+            .translateToServiceRequest(Function.identity())
+            .backoffDelay(getMembershipPollDelay())
+            .makeServiceCall((resourceModel, proxyClient1) -> {
+              final String arn = GlobalClusterSnapshot.of(proxyClient1, resourceModel).getSourceDBCluster()
+                      .orElseThrow(() -> new CfnNotFoundException(ResourceModel.TYPE_NAME, resourceModel.getSourceDBClusterIdentifier()))
+                      .dbClusterArn();
+              if (!context.isGlobalClusterCreated()) {
+                try {
+                  proxyClient1.injectCredentialsAndInvokeV2(Translator.createGlobalClusterRequest(resourceModel, arn), proxyClient1.client()::createGlobalCluster);
+                  context.setGlobalClusterCreated(true);
+                } catch (GlobalClusterAlreadyExistsException e) {
+                  throw new CfnAlreadyExistsException(e);
+                }
               }
-              return ProgressEvent.defaultInProgressHandler(callbackContext, PAUSE_TIME_SECONDS, resourceModel);
-            });
+              return arn;
+            })
+            // resume as soon as the source cluster shows up as a member instead of pausing for a fixed time
+            .stabilize((resourceModelRequest, arn, proxyClient2, resourceModel, callbackContext) ->
+                    GlobalClusterSnapshot.of(proxyClient2, resourceModel).hasMember(arn))
+            .progress();
    }
 
   protected ProgressEvent<ResourceModel, CallbackContext> createGlobalCluster(final AmazonWebServicesClientProxy proxy,
@@ -213,7 +314,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       return proxy.initiate("rds::create-global-cluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
               // request to create global cluster
               .translateToServiceRequest(Translator::createGlobalClusterRequest)
-              .backoffDelay(BACKOFF_STRATEGY)
+              .backoffDelay(config.getBackoff())
               .makeServiceCall((createGlobalClusterRequest, proxyClient1) -> {
                 try{
                   return proxyClient1.injectCredentialsAndInvokeV2(createGlobalClusterRequest, proxyClient1.client()::createGlobalCluster);
@@ -1,5 +1,8 @@
 package software.amazon.rds.globalcluster;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -10,4 +13,19 @@ public class CallbackContext extends StdCallbackContext {
     private boolean globalClusterCreated;
     private boolean removed;
     private boolean isDeleting;
+
+    private Set<String> detachedMembers;
+
+    public CallbackContext() {
+        super();
+        this.detachedMembers = new HashSet<>();
+    }
+
+    public boolean isMemberDetached(final String dbClusterArn) {
+        return this.detachedMembers.contains(dbClusterArn);
+    }
+
+    public void markMemberDetached(final String dbClusterArn) {
+        this.detachedMembers.add(dbClusterArn);
+    }
 }
@@ -1,5 +1,6 @@
 package software.amazon.rds.globalcluster;
 
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
@@ -9,4 +10,11 @@ public class ClientBuilder {
             .httpClient(LambdaWrapper.HTTP_CLIENT)
             .build();
   }
+
+  public static RdsClient getClient(final String region) {
+    return RdsClient.builder()
+            .httpClient(LambdaWrapper.HTTP_CLIENT)
+            .region(Region.of(region))
+            .build();
+  }
 }
@@ -8,9 +8,23 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 public class DeleteHandler extends BaseHandlerStd {
 
+    public DeleteHandler() {
+        this(HandlerConfig.builder()
+                .backoff(BACKOFF_DELAY)
+                .membershipPollDelay(MEMBERSHIP_POLL_DELAY)
+                .detachAllGlobalClusterMembers(true)
+                .rateLimiter(RATE_LIMITER)
+                .build());
+    }
+
+    public DeleteHandler(final HandlerConfig config) {
+        super(config);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                           final ResourceHandlerRequest<ResourceModel> request,
                                                                           final CallbackContext callbackContext,
@@ -22,15 +36,20 @@ public class DeleteHandler extends BaseHandlerStd {
         ProgressEvent<ResourceModel, CallbackContext> result;
 
         result = ProgressEvent.progress(model, callbackContext)
-                .then(progress -> removeFromGlobalCluster(proxy, proxyClient, progress))
+                .then(progress -> {
+                    if (config.isDetachAllGlobalClusterMembers()) {
+                        return detachGlobalClusterMembers(proxy, proxyClient, progress, request.getRegion());
+                    }
+                    return removeFromGlobalCluster(proxy, proxyClient, progress);
+                })
                 .then(progress -> waitForDBClusterAvailableStatus(proxy, proxyClient, progress))
                 .then(progress -> proxy.initiate("rds::delete-global-cluster", proxyClient, request.getDesiredResourceState(), callbackContext)
                         .translateToServiceRequest(Translator::deleteGlobalClusterRequest)
-                        .backoffDelay(BACKOFF_STRATEGY)
+                        .backoffDelay(config.getBackoff())
                         .makeServiceCall((deleteGlobalClusterRequest1, proxyInvocation) -> deleteGlobalCluster(deleteGlobalClusterRequest1, proxyInvocation, callbackContext))
                         // wait until deleted
                         .stabilize((deleteGlobalClusterRequest, deleteGlobalClusterResponse, stabilizeProxy, stabilizeModel, context)
-                                -> isDeleted(stabilizeModel, stabilizeProxy))
+                                -> isDeleted(GlobalClusterSnapshot.of(stabilizeProxy, stabilizeModel)))
                         .success());
 
         if (result.isSuccess()) {
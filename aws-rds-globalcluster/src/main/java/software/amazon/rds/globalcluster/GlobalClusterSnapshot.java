@@ -0,0 +1,125 @@
+package software.amazon.rds.globalcluster;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.GlobalCluster;
+import software.amazon.awssdk.services.rds.model.GlobalClusterMember;
+import software.amazon.awssdk.services.rds.model.GlobalClusterNotFoundException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * The global cluster and its source DB cluster as seen by one handler step. Each describe runs at most once per
+ * snapshot and only when a predicate needs it, so every check of a step is evaluated against the same state.
+ * Polling loops take a fresh snapshot per attempt.
+ */
+public class GlobalClusterSnapshot {
+
+    private static final String CLUSTER_ARN_SEPARATOR = ":cluster:";
+
+    private final ProxyClient<RdsClient> proxyClient;
+    private final ResourceModel model;
+
+    private boolean globalClusterFetched;
+    private boolean globalClusterNotFound;
+    private GlobalCluster globalCluster;
+
+    private boolean sourceDBClusterFetched;
+    private DBCluster sourceDBCluster;
+
+    private GlobalClusterSnapshot(final ProxyClient<RdsClient> proxyClient, final ResourceModel model) {
+        this.proxyClient = proxyClient;
+        this.model = model;
+    }
+
+    public static GlobalClusterSnapshot of(final ProxyClient<RdsClient> proxyClient, final ResourceModel model) {
+        return new GlobalClusterSnapshot(proxyClient, model);
+    }
+
+    public ResourceModel getModel() {
+        return model;
+    }
+
+    public Optional<GlobalCluster> getGlobalCluster() {
+        fetchGlobalCluster();
+        return Optional.ofNullable(globalCluster);
+    }
+
+    // An empty describe response is not the same as GlobalClusterNotFound, the latter is the only proof of deletion.
+    public boolean isGlobalClusterNotFound() {
+        fetchGlobalCluster();
+        return globalClusterNotFound;
+    }
+
+    public List<GlobalClusterMember> getMembers() {
+        return getGlobalCluster()
+                .map(GlobalCluster::globalClusterMembers)
+                .orElse(Collections.emptyList());
+    }
+
+    public Optional<GlobalClusterMember> getSourceMember() {
+        final String source = model.getSourceDBClusterIdentifier();
+        if (StringUtils.isNullOrEmpty(source)) {
+            return Optional.empty();
+        }
+        return getMembers().stream()
+                .filter(member -> isSameCluster(member.dbClusterArn(), source))
+                .findFirst();
+    }
+
+    public boolean hasMember(final String dbClusterArn) {
+        return getMembers().stream().anyMatch(member -> isSameCluster(member.dbClusterArn(), dbClusterArn));
+    }
+
+    public Optional<DBCluster> getSourceDBCluster() {
+        if (!sourceDBClusterFetched) {
+            if (!StringUtils.isNullOrEmpty(model.getSourceDBClusterIdentifier())) {
+                sourceDBCluster = proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.describeDbClustersRequest(model),
+                        proxyClient.client()::describeDBClusters
+                ).dbClusters().stream().findFirst().orElse(null);
+            }
+            sourceDBClusterFetched = true;
+        }
+        return Optional.ofNullable(sourceDBCluster);
+    }
+
+    public boolean isGlobalClusterAvailable() {
+        return getGlobalCluster()
+                .map(cluster -> GlobalClusterStatus.Available.equalsString(cluster.status()))
+                .orElse(false);
+    }
+
+    public boolean containsOnlyMaster() {
+        return getGlobalCluster().isPresent() && getMembers().size() == 1;
+    }
+
+    private void fetchGlobalCluster() {
+        if (globalClusterFetched) {
+            return;
+        }
+        try {
+            final List<GlobalCluster> globalClusters = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.describeGlobalClustersRequest(model),
+                    proxyClient.client()::describeGlobalClusters
+            ).globalClusters();
+            globalCluster = globalClusters == null ? null : globalClusters.stream().findFirst().orElse(null);
+        } catch (GlobalClusterNotFoundException e) {
+            globalClusterNotFound = true;
+        }
+        globalClusterFetched = true;
+    }
+
+    private static boolean isSameCluster(final String dbClusterArn, final String identifier) {
+        if (dbClusterArn == null) {
+            return false;
+        }
+        // cluster identifiers are stored in lowercase
+        final String arn = dbClusterArn.toLowerCase();
+        return arn.equals(identifier.toLowerCase()) || arn.endsWith(CLUSTER_ARN_SEPARATOR + identifier.toLowerCase());
+    }
+}
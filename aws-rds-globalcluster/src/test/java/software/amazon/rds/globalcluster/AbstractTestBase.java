@@ -1,5 +1,6 @@
 package software.amazon.rds.globalcluster;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -14,6 +15,7 @@ import software.amazon.awssdk.services.rds.model.GlobalCluster;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.delay.Constant;
 
 import org.slf4j.LoggerFactory;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -21,6 +23,10 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 public class AbstractTestBase {
 
   protected static final Credentials MOCK_CREDENTIALS;
+  protected static final Constant TEST_BACKOFF_DELAY = Constant.of()
+          .delay(Duration.ofSeconds(1L))
+          .timeout(Duration.ofSeconds(10L))
+          .build();
   protected static final org.slf4j.Logger delegate;
   protected static final LoggerProxy logger;
 
@@ -9,26 +9,37 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.google.common.collect.ImmutableMap;
+
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DeleteGlobalClusterRequest;
 import software.amazon.awssdk.services.rds.model.DeleteGlobalClusterResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
 import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersResponse;
+import software.amazon.awssdk.services.rds.model.GlobalClusterMember;
 import software.amazon.awssdk.services.rds.model.GlobalClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.RemoveFromGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.RemoveFromGlobalClusterResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 @ExtendWith(MockitoExtension.class)
 public class DeleteHandlerTest extends AbstractTestBase {
@@ -95,4 +106,141 @@ public class DeleteHandlerTest extends AbstractTestBase {
         verify(rds).serviceName();
         verifyNoMoreInteractions(rds);
     }
+
+    @Test
+    public void handleRequest_LegacyRemovesSourceMemberAndResumesOnMembership() {
+        final DeleteHandler legacyHandler = new DeleteHandler(HandlerConfig.builder().backoff(TEST_BACKOFF_DELAY).build());
+        final String memberArn = "arn:aws:rds:us-east-1:123456789012:cluster:" + SOURCECLUSTER_IDENTIFIER;
+        when(proxyRdsClient.client().describeGlobalClusters(any(DescribeGlobalClustersRequest.class)))
+                .thenReturn(describeMembers(GlobalClusterMember.builder().dbClusterArn(memberArn).isWriter(true).build()))
+                .thenReturn(describeMembers())
+                .thenThrow(GlobalClusterNotFoundException.class);
+        when(proxyRdsClient.client().removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class)))
+                .thenReturn(RemoveFromGlobalClusterResponse.builder().build());
+        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class)))
+                .thenReturn(DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE.toBuilder().status(DBClusterStatus.Available.toString()).build()).build());
+        when(proxyRdsClient.client().deleteGlobalCluster(any(DeleteGlobalClusterRequest.class)))
+                .thenReturn(DeleteGlobalClusterResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL_WITH_MASTER).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = legacyHandler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
+
+        // the removal is followed up as soon as the member has left, without a fixed pause
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.isRemoved()).isTrue();
+
+        final ArgumentCaptor<RemoveFromGlobalClusterRequest> captor = ArgumentCaptor.forClass(RemoveFromGlobalClusterRequest.class);
+        verify(proxyRdsClient.client()).removeFromGlobalCluster(captor.capture());
+        assertThat(captor.getValue().dbClusterIdentifier()).isEqualTo(memberArn);
+        verify(proxyRdsClient.client(), times(3)).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(proxyRdsClient.client()).deleteGlobalCluster(any(DeleteGlobalClusterRequest.class));
+
+        verify(rds, times(3)).serviceName();
+        verifyNoMoreInteractions(rds);
+    }
+
+    @Test
+    public void handleRequest_DetachesSecondariesThenWriter() {
+        final RdsClient rdsWest = mock(RdsClient.class);
+        final RdsClient rdsEu = mock(RdsClient.class);
+        final DeleteHandler handler = detachAllHandler(ImmutableMap.of("us-west-2", rdsWest, "eu-west-1", rdsEu));
+        final GlobalClusterMember writer = GlobalClusterMember.builder().dbClusterArn("arn:aws:rds:us-east-1:123456789012:cluster:writer").isWriter(true).build();
+        final GlobalClusterMember secondaryWest = GlobalClusterMember.builder().dbClusterArn("arn:aws:rds:us-west-2:123456789012:cluster:secondary").isWriter(false).build();
+        final GlobalClusterMember secondaryEu = GlobalClusterMember.builder().dbClusterArn("arn:aws:rds:eu-west-1:123456789012:cluster:secondary").isWriter(false).build();
+        when(proxyRdsClient.client().describeGlobalClusters(any(DescribeGlobalClustersRequest.class)))
+                .thenReturn(describeMembers(writer, secondaryWest, secondaryEu))
+                .thenReturn(describeMembers(writer))
+                .thenReturn(describeMembers())
+                .thenThrow(GlobalClusterNotFoundException.class);
+        when(proxyRdsClient.client().removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class)))
+                .thenReturn(RemoveFromGlobalClusterResponse.builder().build());
+        when(rdsWest.removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class)))
+                .thenReturn(RemoveFromGlobalClusterResponse.builder().build());
+        when(rdsEu.removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class)))
+                .thenReturn(RemoveFromGlobalClusterResponse.builder().build());
+        when(proxyRdsClient.client().deleteGlobalCluster(any(DeleteGlobalClusterRequest.class)))
+                .thenReturn(DeleteGlobalClusterResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .region("us-east-1")
+                .desiredResourceState(RESOURCE_MODEL)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getDetachedMembers()).containsExactlyInAnyOrder(
+                writer.dbClusterArn(), secondaryWest.dbClusterArn(), secondaryEu.dbClusterArn());
+
+        final ArgumentCaptor<RemoveFromGlobalClusterRequest> captor = ArgumentCaptor.forClass(RemoveFromGlobalClusterRequest.class);
+        verify(proxyRdsClient.client()).removeFromGlobalCluster(captor.capture());
+        assertThat(captor.getValue().dbClusterIdentifier()).isEqualTo(writer.dbClusterArn());
+        verify(rdsWest).removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class));
+        verify(rdsEu).removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class));
+        verify(proxyRdsClient.client(), times(4)).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
+        verify(proxyRdsClient.client()).deleteGlobalCluster(any(DeleteGlobalClusterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_DetachesCrossRegionSecondary() {
+        final RdsClient rdsWest = mock(RdsClient.class);
+        final DeleteHandler handler = detachAllHandler(ImmutableMap.of("us-west-2", rdsWest));
+        final GlobalClusterMember writer = GlobalClusterMember.builder().dbClusterArn("arn:aws:rds:us-east-1:123456789012:cluster:writer").isWriter(true).build();
+        final GlobalClusterMember secondary = GlobalClusterMember.builder().dbClusterArn("arn:aws:rds:us-west-2:123456789012:cluster:secondary").isWriter(false).build();
+        when(proxyRdsClient.client().describeGlobalClusters(any(DescribeGlobalClustersRequest.class)))
+                .thenReturn(describeMembers(writer, secondary))
+                .thenReturn(describeMembers(writer))
+                .thenReturn(describeMembers())
+                .thenThrow(GlobalClusterNotFoundException.class);
+        when(proxyRdsClient.client().removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class)))
+                .thenReturn(RemoveFromGlobalClusterResponse.builder().build());
+        // the home region does not know the secondary, only its own region can detach it
+        when(rdsWest.removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class)))
+                .thenReturn(RemoveFromGlobalClusterResponse.builder().build());
+        when(proxyRdsClient.client().deleteGlobalCluster(any(DeleteGlobalClusterRequest.class)))
+                .thenReturn(DeleteGlobalClusterResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .region("us-east-1")
+                .desiredResourceState(RESOURCE_MODEL)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getDetachedMembers()).containsExactlyInAnyOrder(writer.dbClusterArn(), secondary.dbClusterArn());
+
+        final ArgumentCaptor<RemoveFromGlobalClusterRequest> secondaryCaptor = ArgumentCaptor.forClass(RemoveFromGlobalClusterRequest.class);
+        verify(rdsWest).removeFromGlobalCluster(secondaryCaptor.capture());
+        assertThat(secondaryCaptor.getValue().dbClusterIdentifier()).isEqualTo(secondary.dbClusterArn());
+        final ArgumentCaptor<RemoveFromGlobalClusterRequest> writerCaptor = ArgumentCaptor.forClass(RemoveFromGlobalClusterRequest.class);
+        verify(proxyRdsClient.client()).removeFromGlobalCluster(writerCaptor.capture());
+        assertThat(writerCaptor.getValue().dbClusterIdentifier()).isEqualTo(writer.dbClusterArn());
+        verify(proxyRdsClient.client(), times(4)).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
+        verify(proxyRdsClient.client()).deleteGlobalCluster(any(DeleteGlobalClusterRequest.class));
+        verifyNoMoreInteractions(rdsWest);
+    }
+
+    private DeleteHandler detachAllHandler(final Map<String, RdsClient> regionalClients) {
+        return new DeleteHandler(HandlerConfig.builder()
+                .backoff(TEST_BACKOFF_DELAY)
+                .detachAllGlobalClusterMembers(true)
+                .build()) {
+            @Override
+            protected ProxyClient<RdsClient> newRegionalProxyClient(final AmazonWebServicesClientProxy proxy, final String region) {
+                return MOCK_PROXY(proxy, regionalClients.get(region));
+            }
+        };
+    }
+
+    private static DescribeGlobalClustersResponse describeMembers(final GlobalClusterMember... members) {
+        return DescribeGlobalClustersResponse.builder()
+                .globalClusters(GLOBAL_CLUSTER_ACTIVE.toBuilder().globalClusterMembers(members).build())
+                .build();
+    }
 }
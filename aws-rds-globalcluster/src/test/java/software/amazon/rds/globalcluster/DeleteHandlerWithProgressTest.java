@@ -93,7 +93,7 @@ public class DeleteHandlerWithProgressTest extends AbstractTestBase {
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo((int) DeleteHandler.BACKOFF_DELAY.nextDelay(1).getSeconds());
         assertThat(response.getResourceModel()).isSameAs(RESOURCE_MODEL);
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
@@ -0,0 +1,72 @@
+package software.amazon.rds.globalcluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersResponse;
+import software.amazon.awssdk.services.rds.model.GlobalCluster;
+import software.amazon.awssdk.services.rds.model.GlobalClusterMember;
+import software.amazon.awssdk.services.rds.model.GlobalClusterNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+public class GlobalClusterSnapshotTest extends AbstractTestBase {
+
+    private RdsClient rds;
+    private ProxyClient<RdsClient> proxyRdsClient;
+
+    @BeforeEach
+    public void setup() {
+        rds = mock(RdsClient.class);
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyRdsClient = MOCK_PROXY(proxy, rds);
+    }
+
+    @Test
+    public void snapshot_DescribesGlobalClusterOnce() {
+        final GlobalCluster globalCluster = GLOBAL_CLUSTER_ACTIVE.toBuilder()
+                .globalClusterMembers(GlobalClusterMember.builder().dbClusterArn("arn:aws:rds:us-east-1:123456789012:cluster:My-Sample-DBCluster").build())
+                .build();
+        when(rds.describeGlobalClusters(any(DescribeGlobalClustersRequest.class)))
+                .thenReturn(DescribeGlobalClustersResponse.builder().globalClusters(globalCluster).build());
+
+        final GlobalClusterSnapshot snapshot = GlobalClusterSnapshot.of(proxyRdsClient, RESOURCE_MODEL_WITH_MASTER);
+
+        assertThat(snapshot.isGlobalClusterAvailable()).isTrue();
+        assertThat(snapshot.containsOnlyMaster()).isTrue();
+        assertThat(snapshot.isGlobalClusterNotFound()).isFalse();
+        assertThat(snapshot.getSourceMember()).isPresent();
+
+        verify(rds, times(1)).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
+        verify(rds, never()).describeDBClusters(any(DescribeDbClustersRequest.class));
+    }
+
+    @Test
+    public void snapshot_NotFoundIsNotEmptyResponse() {
+        when(rds.describeGlobalClusters(any(DescribeGlobalClustersRequest.class)))
+                .thenReturn(DescribeGlobalClustersResponse.builder().build())
+                .thenThrow(GlobalClusterNotFoundException.class);
+
+        final GlobalClusterSnapshot empty = GlobalClusterSnapshot.of(proxyRdsClient, RESOURCE_MODEL);
+        assertThat(empty.getGlobalCluster()).isEmpty();
+        assertThat(empty.isGlobalClusterNotFound()).isFalse();
+
+        final GlobalClusterSnapshot notFound = GlobalClusterSnapshot.of(proxyRdsClient, RESOURCE_MODEL);
+        assertThat(notFound.isGlobalClusterNotFound()).isTrue();
+        assertThat(notFound.containsOnlyMaster()).isFalse();
+        assertThat(notFound.getSourceMember()).isEmpty();
+    }
+}
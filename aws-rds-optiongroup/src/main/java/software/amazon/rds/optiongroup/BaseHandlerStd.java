@@ -4,26 +4,29 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
-import com.google.common.collect.Sets;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.OptionGroupAlreadyExistsException;
 import software.amazon.awssdk.services.rds.model.OptionGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.OptionGroupQuotaExceededException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.client.RateLimiter;
+import software.amazon.rds.common.client.RdsProxyClients;
+import software.amazon.rds.common.delay.ExponentialWithJitter;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.handler.Tagging;
+import software.amazon.rds.common.metrics.CallMetrics;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
@@ -31,10 +34,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final String RESOURCE_IDENTIFIER = "optiongroup";
     protected static final int RESOURCE_ID_MAX_LENGTH = 255;
 
-    protected static final Constant BACKOFF_DELAY = Constant.of()
+    protected static final Delay BACKOFF_DELAY = ExponentialWithJitter.of()
+            .minDelay(Duration.ofSeconds(1L))
+            .maxDelay(Duration.ofSeconds(10L))
             .timeout(Duration.ofSeconds(150L))
-            .delay(Duration.ofSeconds(5L))
             .build();
+    protected static final RateLimiter RATE_LIMITER = new RateLimiter(
+            RateLimiter.DEFAULT_DESCRIBES_PER_SECOND,
+            RateLimiter.DEFAULT_MUTATIONS_PER_SECOND);
 
     protected HandlerConfig config;
 
@@ -61,13 +68,18 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        final CallMetrics metrics = new CallMetrics();
+        try {
+            return handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    RdsProxyClients.newProxy(proxy, ClientBuilder::getClient, config, metrics),
+                    logger
+            );
+        } finally {
+            metrics.emit(logger, ResourceModel.TYPE_NAME, getClass().getSimpleName());
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -102,6 +114,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Map<String, String> previousTags,
             final Map<String, String> desiredTags
     ) {
+        if (Tagging.diffTags(previousTags, desiredTags).isEmpty()) {
+            return progress;
+        }
         return proxy.initiate("rds::tag-option-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::describeOptionGroupsRequest)
                 .makeServiceCall((describeRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
@@ -114,21 +129,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 ))
                 .done((describeRequest, describeResponse, invocation, resourceModel, ctx) -> {
                     final String arn = describeResponse.optionGroupsList().stream().findFirst().get().optionGroupArn();
-
-                    final Set<Tag> previousTagSet = Translator.translateTagsToModelResource(previousTags);
-                    final Set<Tag> desiredTagSet = Translator.translateTagsToModelResource(desiredTags);
-                    final Set<Tag> tagsToRemove = Sets.difference(previousTagSet, desiredTagSet);
-                    final Set<Tag> tagsToAdd = Sets.difference(desiredTagSet, previousTagSet);
-
-                    proxyClient.injectCredentialsAndInvokeV2(
-                            Translator.removeTagsFromResourceRequest(arn, tagsToRemove),
-                            proxyClient.client()::removeTagsFromResource
-                    );
-                    proxyClient.injectCredentialsAndInvokeV2(
-                            Translator.addTagsToResourceRequest(arn, tagsToAdd),
-                            proxyClient.client()::addTagsToResource
+                    return Tagging.updateTags(
+                            invocation,
+                            arn,
+                            ProgressEvent.progress(resourceModel, ctx),
+                            previousTags,
+                            desiredTags,
+                            DEFAULT_OPTION_GROUP_ERROR_RULE_SET
                     );
-                    return ProgressEvent.progress(resourceModel, ctx);
                 });
     }
 
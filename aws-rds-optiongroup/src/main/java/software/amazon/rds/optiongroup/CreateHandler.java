@@ -19,6 +19,7 @@ public class CreateHandler extends BaseHandlerStd {
     public CreateHandler() {
         this(HandlerConfig.builder()
                 .backoff(BACKOFF_DELAY)
+                .rateLimiter(RATE_LIMITER)
                 .build());
     }
 
@@ -14,6 +14,7 @@ public class DeleteHandler extends BaseHandlerStd {
     public DeleteHandler() {
         this(HandlerConfig.builder()
                 .backoff(BACKOFF_DELAY)
+                .rateLimiter(RATE_LIMITER)
                 .build());
     }
 
@@ -18,6 +18,7 @@ public class ListHandler extends BaseHandlerStd {
     public ListHandler() {
         this(HandlerConfig.builder()
                 .backoff(BACKOFF_DELAY)
+                .rateLimiter(RATE_LIMITER)
                 .build());
     }
 
@@ -0,0 +1,93 @@
+package software.amazon.rds.optiongroup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the previous and the desired option configurations by option name and keeps only what
+ * ModifyOptionGroup has to change. Settings are compared by name and only the changed ones are sent,
+ * ModifyOptionGroup leaves the settings that are not mentioned untouched.
+ */
+public final class OptionDiff {
+
+    private OptionDiff() {
+    }
+
+    public static List<OptionConfiguration> optionsToInclude(
+            final Collection<OptionConfiguration> previousOptions,
+            final Collection<OptionConfiguration> desiredOptions
+    ) {
+        final Map<String, OptionConfiguration> previousByName = byName(previousOptions);
+        final List<OptionConfiguration> optionsToInclude = new ArrayList<>();
+        for (final OptionConfiguration desired : byName(desiredOptions).values()) {
+            final OptionConfiguration previous = previousByName.get(desired.getOptionName());
+            if (previous == null) {
+                optionsToInclude.add(desired);
+                continue;
+            }
+            final List<OptionSetting> changedSettings = changedSettings(previous.getOptionSettings(), desired.getOptionSettings());
+            if (changedSettings.isEmpty() && isSameOption(previous, desired)) {
+                continue;
+            }
+            optionsToInclude.add(desired.toBuilder()
+                    .optionSettings(changedSettings.isEmpty() ? null : changedSettings)
+                    .build());
+        }
+        return optionsToInclude;
+    }
+
+    public static List<OptionConfiguration> optionsToRemove(
+            final Collection<OptionConfiguration> previousOptions,
+            final Collection<OptionConfiguration> desiredOptions
+    ) {
+        final Map<String, OptionConfiguration> desiredByName = byName(desiredOptions);
+        return byName(previousOptions).values().stream()
+                .filter(option -> !desiredByName.containsKey(option.getOptionName()))
+                .collect(Collectors.toList());
+    }
+
+    // Everything but the settings, which are diffed one by one.
+    private static boolean isSameOption(final OptionConfiguration previous, final OptionConfiguration desired) {
+        return Objects.equals(previous.getOptionVersion(), desired.getOptionVersion())
+                && Objects.equals(previous.getPort(), desired.getPort())
+                && asSet(previous.getDBSecurityGroupMemberships()).equals(asSet(desired.getDBSecurityGroupMemberships()))
+                && asSet(previous.getVpcSecurityGroupMemberships()).equals(asSet(desired.getVpcSecurityGroupMemberships()));
+    }
+
+    private static List<OptionSetting> changedSettings(
+            final Collection<OptionSetting> previousSettings,
+            final Collection<OptionSetting> desiredSettings
+    ) {
+        final Map<String, String> previousValues = new HashMap<>();
+        for (final OptionSetting setting : Optional.ofNullable(previousSettings).orElse(Collections.emptyList())) {
+            previousValues.put(setting.getName(), setting.getValue());
+        }
+        return Optional.ofNullable(desiredSettings).orElse(Collections.emptyList()).stream()
+                .filter(setting -> !previousValues.containsKey(setting.getName())
+                        || !Objects.equals(previousValues.get(setting.getName()), setting.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, OptionConfiguration> byName(final Collection<OptionConfiguration> options) {
+        final Map<String, OptionConfiguration> byName = new LinkedHashMap<>();
+        for (final OptionConfiguration option : Optional.ofNullable(options).orElse(Collections.emptyList())) {
+            if (option != null) {
+                byName.put(option.getOptionName(), option);
+            }
+        }
+        return byName;
+    }
+
+    private static Set<String> asSet(final Set<String> set) {
+        return Optional.ofNullable(set).orElse(Collections.emptySet());
+    }
+}
@@ -1,32 +1,148 @@
 package software.amazon.rds.optiongroup;
 
-public class OptionVersion implements Comparable<OptionVersion> {
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
-    protected String version;
+/**
+ * An option version parsed once into its dot separated components. Version strings end with a qualifier like
+ * {@code .v[0-9]+} (e.g. 5.1.2.v1, 4.2.6.v1): the last segment is kept as the suffix and ignored by
+ * {@link #compareTo(OptionVersion)}, so the natural ordering is not consistent with {@link #equals(Object)}.
+ */
+public final class OptionVersion implements Comparable<OptionVersion> {
+
+    private static final int INTERN_CACHE_MAX_SIZE = 256;
+    private static final Map<String, OptionVersion> INTERN_CACHE = new ConcurrentHashMap<>();
+
+    // Marks a component that is not a number, its text is kept in labels.
+    private static final int NON_NUMERIC = -1;
+
+    private final String version;
+    private final int[] components;
+    private final String[] labels;
+    private final String suffix;
+    private final int hashCode;
 
     public OptionVersion(final String version) {
-        this.version = version;
+        this.version = Objects.requireNonNull(version, "version");
+
+        int segments = 1;
+        for (int i = 0; i < version.length(); i++) {
+            if (version.charAt(i) == '.') {
+                segments++;
+            }
+        }
+
+        final int[] components = new int[segments - 1];
+        String[] labels = null;
+        int start = 0;
+        for (int index = 0; index < components.length; index++) {
+            final int end = version.indexOf('.', start);
+            final int value = parseComponent(version, start, end);
+            if (value == NON_NUMERIC) {
+                if (labels == null) {
+                    labels = new String[components.length];
+                }
+                labels[index] = version.substring(start, end);
+            }
+            components[index] = value;
+            start = end + 1;
+        }
+
+        this.components = components;
+        this.labels = labels;
+        this.suffix = version.substring(start);
+        this.hashCode = 31 * (31 * Arrays.hashCode(components) + Arrays.hashCode(labels)) + suffix.hashCode();
+    }
+
+    /**
+     * Returns a shared instance for commonly seen versions. The cache stops growing once it is full, later versions
+     * are parsed on every call.
+     */
+    public static OptionVersion of(final String version) {
+        final OptionVersion cached = INTERN_CACHE.get(Objects.requireNonNull(version, "version"));
+        if (cached != null) {
+            return cached;
+        }
+        final OptionVersion parsed = new OptionVersion(version);
+        if (INTERN_CACHE.size() < INTERN_CACHE_MAX_SIZE) {
+            final OptionVersion previous = INTERN_CACHE.putIfAbsent(version, parsed);
+            return previous == null ? parsed : previous;
+        }
+        return parsed;
     }
 
     @Override
-    public int compareTo(OptionVersion other) {
-        //version string are dot connected with a ending like .v[0-9]+
-        //eg:      5.1.2.v1      4.2.6.v1
-        String[] vals1 = version.split("\\.");
-        String[] vals2 = other.version.split("\\.");
-        int i = 0;
-        //ignore the last non-digital string
-        final int len1 = vals1.length - 1;
-        final int len2 = vals2.length - 1;
-        while (i < len1 && i < len2 && vals1[i].equals(vals2[i])) {
-            i++;
-        }
-        //Compare the first non-equal digital string
-        if (i < len1 && i < len2) {
-            return Integer.valueOf(vals1[i]).compareTo(Integer.valueOf(vals2[i]));
+    public int compareTo(final OptionVersion other) {
+        final int length = Math.min(components.length, other.components.length);
+        for (int i = 0; i < length; i++) {
+            final int result = compareComponent(other, i);
+            if (result != 0) {
+                return result;
+            }
         }
         //return -1 if the first version is smaller to the second one
         //case: 1.1 -> 1.1.1
-        return Integer.compare(len1, len2);
+        return Integer.compare(components.length, other.components.length);
+    }
+
+    // Numeric components sort before non-numeric ones, the latter are only expected to match exactly.
+    private int compareComponent(final OptionVersion other, final int index) {
+        final int value = components[index];
+        final int otherValue = other.components[index];
+        if (value != NON_NUMERIC && otherValue != NON_NUMERIC) {
+            return Integer.compare(value, otherValue);
+        }
+        if (value != NON_NUMERIC) {
+            return -1;
+        }
+        if (otherValue != NON_NUMERIC) {
+            return 1;
+        }
+        return labels[index].compareTo(other.labels[index]);
+    }
+
+    private static int parseComponent(final String version, final int start, final int end) {
+        if (start == end) {
+            return NON_NUMERIC;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            final char c = version.charAt(i);
+            if (c < '0' || c > '9') {
+                return NON_NUMERIC;
+            }
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE) {
+                return NON_NUMERIC;
+            }
+        }
+        return (int) value;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OptionVersion)) {
+            return false;
+        }
+        final OptionVersion other = (OptionVersion) o;
+        return hashCode == other.hashCode
+                && Arrays.equals(components, other.components)
+                && Arrays.equals(labels, other.labels)
+                && suffix.equals(other.suffix);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return version;
     }
 }
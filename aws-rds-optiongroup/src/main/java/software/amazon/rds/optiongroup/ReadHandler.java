@@ -17,6 +17,7 @@ public class ReadHandler extends BaseHandlerStd {
     public ReadHandler() {
         this(HandlerConfig.builder()
                 .backoff(BACKOFF_DELAY)
+                .rateLimiter(RATE_LIMITER)
                 .build());
     }
 
@@ -9,14 +9,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.rds.model.CreateOptionGroupRequest;
 import software.amazon.awssdk.services.rds.model.DBSecurityGroupMembership;
 import software.amazon.awssdk.services.rds.model.DeleteOptionGroupRequest;
 import software.amazon.awssdk.services.rds.model.DescribeOptionGroupsRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ModifyOptionGroupRequest;
-import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
 
 public class Translator {
@@ -152,17 +150,6 @@ public class Translator {
                 .collect(Collectors.toSet());
     }
 
-    static Set<Tag> translateTagsToModelResource(final Map<String, String> tags) {
-        return Optional.ofNullable(tags).orElse(Collections.emptyMap())
-                .entrySet()
-                .stream()
-                .map(entry -> Tag.builder()
-                        .key(entry.getKey())
-                        .value(entry.getValue())
-                        .build())
-                .collect(Collectors.toSet());
-    }
-
     static Set<software.amazon.awssdk.services.rds.model.Tag> translateTagsToSdk(final Map<String, String> tags) {
         return Optional.ofNullable(tags.entrySet()).orElse(Collections.emptySet())
                 .stream()
@@ -182,20 +169,6 @@ public class Translator {
                         .build()).collect(Collectors.toList());
     }
 
-    static AddTagsToResourceRequest addTagsToResourceRequest(final String arn, final Set<Tag> tags) {
-        return AddTagsToResourceRequest.builder()
-                .resourceName(arn)
-                .tags(translateTagsToSdk(tags))
-                .build();
-    }
-
-    static RemoveTagsFromResourceRequest removeTagsFromResourceRequest(final String arn, final Set<Tag> tags) {
-        return RemoveTagsFromResourceRequest.builder()
-                .resourceName(arn)
-                .tagKeys(tags.stream().map(Tag::getKey).collect(Collectors.toSet()))
-                .build();
-    }
-
     static ListTagsForResourceRequest listTagsForResourceRequest(final String arn) {
         return ListTagsForResourceRequest.builder()
                 .resourceName(arn)
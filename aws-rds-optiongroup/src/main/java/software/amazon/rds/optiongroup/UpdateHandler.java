@@ -2,11 +2,9 @@ package software.amazon.rds.optiongroup;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import software.amazon.awssdk.services.rds.RdsClient;
@@ -25,6 +23,7 @@ public class UpdateHandler extends BaseHandlerStd {
     public UpdateHandler() {
         this(HandlerConfig.builder()
                 .backoff(BACKOFF_DELAY)
+                .rateLimiter(RATE_LIMITER)
                 .build());
     }
 
@@ -94,8 +93,8 @@ public class UpdateHandler extends BaseHandlerStd {
             final OptionConfiguration previousOption,
             final OptionConfiguration desiredOption
     ) {
-        final OptionVersion previousVersion = new OptionVersion(previousOption.getOptionVersion());
-        final OptionVersion desiredVersion = new OptionVersion(desiredOption.getOptionVersion());
+        final OptionVersion previousVersion = OptionVersion.of(previousOption.getOptionVersion());
+        final OptionVersion desiredVersion = OptionVersion.of(desiredOption.getOptionVersion());
         return previousVersion.compareTo(desiredVersion) > 0;
     }
 
@@ -117,45 +116,32 @@ public class UpdateHandler extends BaseHandlerStd {
         final Optional<OptionConfiguration> previousApexOption = findApexOptionConfiguration(previousOptions);
         final Optional<OptionConfiguration> desiredApexOption = findApexOptionConfiguration(desiredOptions);
 
-        Set<OptionConfiguration> optionsToInclude = new HashSet<>(desiredOptions);
+        Collection<OptionConfiguration> effectiveOptions = desiredOptions;
 
         if (previousApexOption.isPresent() && desiredApexOption.isPresent()) {
             if (isOptionVersionDowngrade(previousApexOption.get(), desiredApexOption.get())) {
-                optionsToInclude = optionsToInclude
+                effectiveOptions = desiredOptions
                         .stream()
                         .filter(Objects::nonNull)
                         .map(option -> {
                             if (isApexOptionConfiguration(option)) {
-                                return OptionConfiguration.builder()
-                                        .dBSecurityGroupMemberships(option.getDBSecurityGroupMemberships())
-                                        .optionName(option.getOptionName())
-                                        .optionSettings(option.getOptionSettings())
+                                return option.toBuilder()
                                         .optionVersion(previousApexOption.get().getOptionVersion())
-                                        .port(option.getPort())
-                                        .vpcSecurityGroupMemberships(option.getVpcSecurityGroupMemberships())
                                         .build();
                             }
                             return option;
                         })
-                        .collect(Collectors.toSet());
+                        .collect(Collectors.toList());
             }
         }
-        optionsToInclude.removeAll(previousOptions);
 
-        return optionsToInclude;
+        return OptionDiff.optionsToInclude(previousOptions, effectiveOptions);
     }
 
     protected static Collection<OptionConfiguration> getOptionsToRemove(
             final Collection<OptionConfiguration> previousOptions,
             final Collection<OptionConfiguration> desiredOptions
     ) {
-        final Set<String> desiredOptionNames = desiredOptions.stream()
-                .map(OptionConfiguration::getOptionName)
-                .collect(Collectors.toSet());
-        final Set<OptionConfiguration> optionsToRemove = previousOptions.stream()
-                .filter(option -> !desiredOptionNames.contains(option.getOptionName()))
-                .collect(Collectors.toSet());
-
-        return optionsToRemove;
+        return OptionDiff.optionsToRemove(previousOptions, desiredOptions);
     }
 }
@@ -0,0 +1,81 @@
+package software.amazon.rds.optiongroup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableSet;
+
+public class OptionDiffTest {
+
+    private static final OptionConfiguration OEM = OptionConfiguration.builder()
+            .optionName("OEM")
+            .optionVersion("13.4.0.9.v1")
+            .port(5500)
+            .vpcSecurityGroupMemberships(ImmutableSet.of("sg-00000001", "sg-00000002"))
+            .optionSettings(Arrays.asList(
+                    setting("MINIMUM_TLS_VERSION", "TLSv1.2"),
+                    setting("OMS_HOST", "oms.example.com")
+            ))
+            .build();
+
+    private static final OptionConfiguration TIMEZONE = OptionConfiguration.builder()
+            .optionName("Timezone")
+            .optionSettings(Collections.singletonList(setting("TIME_ZONE", "UTC")))
+            .build();
+
+    @Test
+    public void optionsToInclude_NoEffectiveChange() {
+        final OptionConfiguration reordered = OEM.toBuilder()
+                .vpcSecurityGroupMemberships(ImmutableSet.of("sg-00000002", "sg-00000001"))
+                .optionSettings(Arrays.asList(
+                        setting("OMS_HOST", "oms.example.com"),
+                        setting("MINIMUM_TLS_VERSION", "TLSv1.2")
+                ))
+                .build();
+
+        assertThat(OptionDiff.optionsToInclude(Arrays.asList(OEM, TIMEZONE), Arrays.asList(TIMEZONE, reordered))).isEmpty();
+        assertThat(OptionDiff.optionsToRemove(Arrays.asList(OEM, TIMEZONE), Arrays.asList(TIMEZONE, reordered))).isEmpty();
+    }
+
+    @Test
+    public void optionsToInclude_OnlyChangedSettings() {
+        final OptionConfiguration desired = OEM.toBuilder()
+                .optionSettings(Arrays.asList(
+                        setting("MINIMUM_TLS_VERSION", "TLSv1.3"),
+                        setting("OMS_HOST", "oms.example.com")
+                ))
+                .build();
+
+        final List<OptionConfiguration> optionsToInclude = OptionDiff.optionsToInclude(Arrays.asList(OEM, TIMEZONE), Arrays.asList(desired, TIMEZONE));
+
+        assertThat(optionsToInclude).containsExactly(OEM.toBuilder()
+                .optionSettings(Collections.singletonList(setting("MINIMUM_TLS_VERSION", "TLSv1.3")))
+                .build());
+    }
+
+    @Test
+    public void optionsToInclude_OptionPropertyChanged() {
+        final OptionConfiguration desired = OEM.toBuilder().port(5501).build();
+
+        assertThat(OptionDiff.optionsToInclude(Collections.singletonList(OEM), Collections.singletonList(desired)))
+                .containsExactly(desired.toBuilder().optionSettings(null).build());
+    }
+
+    @Test
+    public void optionsToInclude_AddedAndRemovedOptions() {
+        final List<OptionConfiguration> previous = Collections.singletonList(OEM);
+        final List<OptionConfiguration> desired = Collections.singletonList(TIMEZONE);
+
+        assertThat(OptionDiff.optionsToInclude(previous, desired)).containsExactly(TIMEZONE);
+        assertThat(OptionDiff.optionsToRemove(previous, desired)).containsExactly(OEM);
+    }
+
+    private static OptionSetting setting(final String name, final String value) {
+        return OptionSetting.builder().name(name).value(value).build();
+    }
+}
@@ -39,4 +39,30 @@ public class OptionVersionTest {
         // 5.1.2.v1 equals to 5.1.2.v2
         assert (v1.compareTo(v2) == 0);
     }
+
+    @Test
+    public void compareTo_non_numeric_component() {
+        final OptionVersion v1 = new OptionVersion("1.2.v1.3.v1");
+        final OptionVersion v2 = new OptionVersion("1.2.v1.4.v1");
+        final OptionVersion v3 = new OptionVersion("1.2.3.4.v1");
+        assert (v1.compareTo(v2) < 0);
+        assert (v3.compareTo(v1) < 0);
+    }
+
+    @Test
+    public void equals_compares_parsed_version() {
+        final OptionVersion v1 = new OptionVersion("5.1.2.v1");
+        assert (v1.equals(new OptionVersion("5.1.2.v1")));
+        assert (v1.hashCode() == new OptionVersion("5.1.2.v1").hashCode());
+        assert (!v1.equals(new OptionVersion("5.1.2.v2")));
+        assert (!v1.equals(new OptionVersion("5.1.3.v1")));
+        assert ("5.1.2.v1".equals(v1.toString()));
+    }
+
+    @Test
+    public void of_returns_interned_instance() {
+        final OptionVersion v1 = OptionVersion.of("19.2.v1");
+        assert (v1 == OptionVersion.of("19.2.v1"));
+        assert (v1.equals(new OptionVersion("19.2.v1")));
+    }
 }
@@ -20,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import lombok.Getter;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
@@ -77,10 +78,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(ModifyOptionGroupResponse.builder().build());
         when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
                 .thenReturn(ListTagsForResourceResponse.builder().build());
-        when(proxyClient.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class)))
-                .thenReturn(RemoveTagsFromResourceResponse.builder().build());
-        when(proxyClient.client().addTagsToResource(any(AddTagsToResourceRequest.class)))
-                .thenReturn(AddTagsToResourceResponse.builder().build());
 
         test_handleRequest_base(
                 new CallbackContext(),
@@ -91,7 +88,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         );
 
         verify(proxyClient.client(), times(1)).modifyOptionGroup(any(ModifyOptionGroupRequest.class));
-        verify(proxyClient.client(), times(2)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
+        verify(proxyClient.client(), times(1)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
@@ -141,10 +138,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(ModifyOptionGroupResponse.builder().build());
         when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
                 .thenReturn(ListTagsForResourceResponse.builder().build());
-        when(proxyClient.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class)))
-                .thenReturn(RemoveTagsFromResourceResponse.builder().build());
-        when(proxyClient.client().addTagsToResource(any(AddTagsToResourceRequest.class)))
-                .thenReturn(AddTagsToResourceResponse.builder().build());
 
         test_handleRequest_base(
                 new CallbackContext(),
@@ -154,7 +147,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 expectSuccess()
         );
 
-        verify(proxyClient.client(), times(2)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
+        verify(proxyClient.client(), times(1)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
         verify(proxyClient.client(), times(1)).modifyOptionGroup(any(ModifyOptionGroupRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
@@ -177,10 +170,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(ModifyOptionGroupResponse.builder().build());
         when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
                 .thenReturn(ListTagsForResourceResponse.builder().build());
-        when(proxyClient.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class)))
-                .thenReturn(RemoveTagsFromResourceResponse.builder().build());
-        when(proxyClient.client().addTagsToResource(any(AddTagsToResourceRequest.class)))
-                .thenReturn(AddTagsToResourceResponse.builder().build());
 
         test_handleRequest_base(
                 new CallbackContext(),
@@ -190,7 +179,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 expectSuccess()
         );
 
-        verify(proxyClient.client(), times(2)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
+        verify(proxyClient.client(), times(1)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
         verify(proxyClient.client(), times(1)).modifyOptionGroup(any(ModifyOptionGroupRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
@@ -215,10 +204,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
                 .thenReturn(ListTagsForResourceResponse.builder().build());
-        when(proxyClient.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class)))
-                .thenReturn(RemoveTagsFromResourceResponse.builder().build());
-        when(proxyClient.client().addTagsToResource(any(AddTagsToResourceRequest.class)))
-                .thenReturn(AddTagsToResourceResponse.builder().build());
 
         test_handleRequest_base(
                 new CallbackContext(),
@@ -229,7 +214,44 @@ public class UpdateHandlerTest extends AbstractTestBase {
         );
 
         verify(proxyClient.client(), times(0)).modifyOptionGroup(any(ModifyOptionGroupRequest.class));
-        verify(proxyClient.client(), times(2)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
+        verify(proxyClient.client(), times(1)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoEffectiveOptionChange() {
+        final ResourceModel previousModel = RESOURCE_MODEL.toBuilder()
+                .optionConfigurations(Collections.singletonList(
+                        OptionConfiguration.builder()
+                                .optionName("test-option-name")
+                                .vpcSecurityGroupMemberships(ImmutableSet.of("sg-00000001", "sg-00000002"))
+                                .build()
+                ))
+                .build();
+
+        final ResourceModel desiredModel = RESOURCE_MODEL.toBuilder()
+                .optionConfigurations(Collections.singletonList(
+                        OptionConfiguration.builder()
+                                .optionName("test-option-name")
+                                .vpcSecurityGroupMemberships(ImmutableSet.of("sg-00000002", "sg-00000001"))
+                                .optionSettings(Collections.emptyList())
+                                .build()
+                ))
+                .build();
+
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        test_handleRequest_base(
+                new CallbackContext(),
+                () -> OPTION_GROUP_ACTIVE,
+                () -> previousModel,
+                () -> desiredModel,
+                expectSuccess()
+        );
+
+        verify(proxyClient.client(), times(0)).modifyOptionGroup(any(ModifyOptionGroupRequest.class));
+        verify(proxyClient.client(), times(1)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 